@@ -0,0 +1,38 @@
+package com.bueno.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+/**
+ * <p>Runs the benchmarks in throughput and average time modes with the GC profiler, which adds the allocation rate
+ * and the bytes allocated per operation to the results. Results are written as JSON to {@code jmh-result.json} so
+ * runs of different commits can be compared, for instance with {@code jmh.morethan.io}. Any standard JMH option
+ * given in the command line overrides these defaults, e.g. {@code java -jar benchmarks.jar Hand -rff hand.json}.</p>
+ */
+public class BenchmarkRunner {
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final var commandLine = new CommandLineOptions(args);
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (commandLine.getBenchModes().isEmpty()) options.mode(Throughput).mode(AverageTime);
+        if (commandLine.getProfilers().isEmpty()) options.addProfiler(GCProfiler.class);
+        if (!commandLine.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON);
+        if (!commandLine.getResult().hasValue()) options.result(DEFAULT_RESULT_FILE);
+        if (!commandLine.getForkCount().hasValue()) options.forks(1);
+        if (!commandLine.getWarmupIterations().hasValue()) options.warmupIterations(3);
+        if (!commandLine.getMeasurementIterations().hasValue()) options.measurementIterations(5);
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
+import com.bueno.domain.usecases.hand.converter.HandConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures the conversions done every time a game is loaded from or saved into a repository. The game is a
+ * finished game between two dummy bots, so its DTO carries the largest hand and intel history a game can have.</p>
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+
+    private Game game;
+    private GameDto gameDto;
+    private Hand lastHand;
+    private HandDto lastHandDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = new Game(Player.ofBot(UUID.randomUUID(), "DummyBot"), Player.ofBot(UUID.randomUUID(), "DummyBot"), 42L);
+        new BotUseCase(new GameRepoDisposableImpl()).playWhenNecessary(game);
+        gameDto = GameConverter.toDto(game);
+        lastHand = game.currentHand();
+        lastHandDto = HandConverter.toDto(lastHand);
+    }
+
+    @Benchmark
+    public Game gameRoundTrip() {
+        return GameConverter.fromDto(GameConverter.toDto(game));
+    }
+
+    @Benchmark
+    public GameDto gameToDto() {
+        return GameConverter.toDto(game);
+    }
+
+    @Benchmark
+    public Game gameFromDto() {
+        return GameConverter.fromDto(gameDto);
+    }
+
+    @Benchmark
+    public Hand handRoundTrip() {
+        return HandConverter.fromDto(HandConverter.toDto(lastHand), game.getPlayer1(), game.getPlayer2());
+    }
+
+    @Benchmark
+    public Hand handFromDto() {
+        return HandConverter.fromDto(lastHandDto, game.getPlayer1(), game.getPlayer2());
+    }
+
+    @Benchmark
+    public IntelDto intelToDto() {
+        return IntelConverter.toDto(lastHand.getLastIntel());
+    }
+}
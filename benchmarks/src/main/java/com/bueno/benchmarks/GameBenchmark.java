@@ -0,0 +1,57 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
+import com.bueno.domain.usecases.game.service.SimulationEngine;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
+import com.bueno.domain.usecases.game.service.SimulationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures full games between two dummy bots, both on the calling thread through {@link SimulationEngine} and in
+ * batches of {@link #GAMES_PER_SIMULATION} games through {@link SimulationService}. The throughput of the later is
+ * reported in games per second, so it includes the gains of playing in parallel.</p>
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GameBenchmark {
+    public static final int GAMES_PER_SIMULATION = 64;
+
+    private final UUID uuidBot1 = UUID.randomUUID();
+    private SimulationEngine engine;
+    private SimulationExecutor executor;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new SimulationEngine(uuidBot1, "DummyBot", UUID.randomUUID(), "DummyBot");
+        executor = SimulationExecutor.ofAvailableProcessors(progress -> {});
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public PlayWithBotsDto playGame() {
+        return engine.play(seed++);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES_PER_SIMULATION)
+    public SimulationResultDto simulateGames() {
+        final var simulator = new SimulationService(uuidBot1, "DummyBot", "DummyBot", seed++);
+        return simulator.run(GAMES_PER_SIMULATION, executor);
+    }
+}
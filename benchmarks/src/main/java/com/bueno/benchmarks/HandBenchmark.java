@@ -0,0 +1,86 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures a single hand played by two dummy bots directly on the entities, which goes through every
+ * {@code HandState} transition of a hand without raises, {@code Round} and {@code Intel.ofHand}. The intel
+ * benchmarks take the last intel of a hand in which the first card has already been played. Since the adapter reuses
+ * the last game intel of a turn, {@link #toGameIntel()} alternates between two copies of that intel to measure the
+ * conversion itself, while {@link #toGameIntelOfSameTurn()} measures the reuse.</p>
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    private final UUID uuidBot1 = UUID.randomUUID();
+    private final UUID uuidBot2 = UUID.randomUUID();
+    private BotServiceProvider dummyBot;
+    private long seed;
+    private Hand handInProgress;
+    private Player botToPlay;
+    private Intel[] intelsToConvert;
+    private int nextIntel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dummyBot = BotServiceManager.load("DummyBot");
+        final Game game = newGame();
+        handInProgress = game.currentHand();
+        playTurn(handInProgress);
+        botToPlay = handInProgress.getCurrentPlayer();
+        intelsToConvert = new Intel[]{Intel.ofHand(handInProgress, Event.PLAY), Intel.ofHand(handInProgress, Event.PLAY)};
+    }
+
+    @Benchmark
+    public Hand playHand() {
+        final Hand hand = newGame().currentHand();
+        while (hand.getResult().isEmpty()) playTurn(hand);
+        return hand;
+    }
+
+    @Benchmark
+    public Intel intelOfHand() {
+        return Intel.ofHand(handInProgress, Event.PLAY);
+    }
+
+    @Benchmark
+    public GameIntel toGameIntel() {
+        return SpiModelAdapter.toGameIntel(botToPlay, intelsToConvert[nextIntel++ & 1]);
+    }
+
+    @Benchmark
+    public GameIntel toGameIntelOfSameTurn() {
+        return SpiModelAdapter.toGameIntel(botToPlay, handInProgress.getLastIntel());
+    }
+
+    private Game newGame() {
+        return new Game(Player.ofBot(uuidBot1, "DummyBot"), Player.ofBot(uuidBot2, "DummyBot"), seed++);
+    }
+
+    private void playTurn(Hand hand) {
+        final Player bot = hand.getCurrentPlayer();
+        final GameIntel intel = SpiModelAdapter.toGameIntel(bot, hand.getLastIntel());
+        final Card card = bot.play(SpiModelAdapter.toCard(dummyBot.chooseCard(intel).content()));
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(bot, card);
+        else hand.playSecondCard(bot, card);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
+import com.bueno.domain.usecases.hand.solver.Deal;
+import com.bueno.domain.usecases.hand.solver.HandSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures how many deals the {@link HandSolver} solves per second, one at a time and in parallel on all the
+ * available processors. Deals are drawn from a fixed seed, half of them with scores that allow raises up to twelve
+ * points and the others with random scores, including mão de onze.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class HandSolverBenchmark {
+    private static final int DEALS = 256;
+
+    @Param({"65536"})
+    private int tableSize;
+
+    private List<Deal> deals;
+    private HandSolver solver;
+    private SimulationExecutor executor;
+    private int nextDeal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        deals = new ArrayList<>();
+        for (int i = 0; i < DEALS; i++) {
+            final Deck deck = new Deck(random.nextLong());
+            deck.shuffle();
+            deals.add(i % 2 == 0 ? Deal.of(deck, 0, 0) : Deal.of(deck, random.nextInt(12), random.nextInt(12)));
+        }
+        solver = new HandSolver(tableSize);
+        executor = new SimulationExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public int solve() {
+        final Deal deal = deals.get(nextDeal);
+        nextDeal = (nextDeal + 1) % DEALS;
+        return solver.solve(deal);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEALS)
+    public int[] solveAll() {
+        return HandSolver.solveAll(deals, executor);
+    }
+}
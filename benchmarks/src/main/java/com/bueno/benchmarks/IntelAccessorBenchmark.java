@@ -0,0 +1,92 @@
+package com.bueno.benchmarks;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Compares the same card choice written as bots usually write it, sorting and filtering {@code getCards()} with
+ * streams, and with the primitive accessors of {@link GameIntel}, which are computed once per intel from the
+ * relative-value table of {@link TrucoCard}. Run it with the GC profiler to see the allocation per decision of each
+ * version. The choice plays the highest card when the bot has a manilha and the lowest one otherwise.</p>
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class IntelAccessorBenchmark {
+
+    private static final int INTELS = 1024;
+
+    private GameIntel[] intels;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final List<TrucoCard> deck = new ArrayList<>(IntStream.range(1, TrucoCard.NUMBER_OF_INDEXES)
+                .mapToObj(TrucoCard::ofIndex).toList());
+        intels = new GameIntel[INTELS];
+        for (int i = 0; i < INTELS; i++) {
+            Collections.shuffle(deck, random);
+            final int handSize = 1 + random.nextInt(3);
+            intels[i] = GameIntel.StepBuilder.with()
+                    .gameInfo(List.of(), List.of(deck.get(0)), deck.get(0), 1)
+                    .botInfo(List.copyOf(deck.subList(1, 1 + handSize)), random.nextInt(12))
+                    .opponentScore(random.nextInt(12))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public CardToPlay chooseCardWithStreams() {
+        final GameIntel intel = nextIntel();
+        final TrucoCard vira = intel.getVira();
+        final List<TrucoCard> sortedCards = intel.getCards().stream()
+                .sorted(Comparator.comparingInt(card -> card.relativeValue(vira)))
+                .toList();
+        final long manilhas = intel.getCards().stream().filter(card -> card.isManilha(vira)).count();
+        return CardToPlay.of(manilhas > 0 ? sortedCards.get(sortedCards.size() - 1) : sortedCards.get(0));
+    }
+
+    @Benchmark
+    public CardToPlay chooseCardWithPrimitiveAccessors() {
+        final GameIntel intel = nextIntel();
+        final int cardIndex = intel.getManilhaCount() > 0 ? intel.getHighestCardIndex() : intel.getLowestCardIndex();
+        return CardToPlay.of(TrucoCard.ofIndex(cardIndex));
+    }
+
+    @Benchmark
+    public int relativeValueOfCardObjects() {
+        final GameIntel intel = nextIntel();
+        int sum = 0;
+        for (TrucoCard card : intel.getCards()) sum += card.relativeValue(intel.getVira());
+        return sum;
+    }
+
+    @Benchmark
+    public int relativeValueOfCardIndexes() {
+        final GameIntel intel = nextIntel();
+        final int viraIndex = intel.getViraIndex();
+        int sum = 0;
+        for (long mask = intel.getCardMask(); mask != 0; mask &= mask - 1)
+            sum += TrucoCard.relativeValue(Long.numberOfTrailingZeros(mask), viraIndex);
+        return sum;
+    }
+
+    private GameIntel nextIntel() {
+        return intels[next++ & INTELS - 1];
+    }
+}
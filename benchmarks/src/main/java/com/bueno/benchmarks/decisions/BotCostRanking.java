@@ -0,0 +1,123 @@
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.service.BotRegistry;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Measures the decisions of every available bot with {@link BotDecisionBenchmark} and ranks the bots by their
+ * cost per decision, which is the average of the four decision benchmarks weighted by how often each decision
+ * happens in the corpus. Bots costing more than {@value #FLAG_FACTOR} times the median are flagged. If the corpus
+ * file does not exist, it is recorded first by {@link IntelCorpusRecorder}.</p>
+ *
+ * <p>Standard JMH options override the defaults, e.g. {@code -p botName=DummyBot,MineiroByBueno} to measure
+ * only some bots or {@code -p corpusFile=corpus.bin} to use another corpus.</p>
+ */
+public class BotCostRanking {
+    public static final double FLAG_FACTOR = 10;
+    public static final String DEFAULT_RESULT_FILE = "bot-cost.json";
+    private static final String ALLOCATION_RESULT = "gc.alloc.rate.norm";
+
+    public record BotCost(String botName, double nanosPerDecision, double bytesPerDecision, double timesMedian) {
+        public boolean isFlagged() {
+            return timesMedian > FLAG_FACTOR;
+        }
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        final var commandLine = new CommandLineOptions(args);
+        final String corpusFile = commandLine.getParameter("corpusFile").hasValue()
+                ? commandLine.getParameter("corpusFile").get().iterator().next()
+                : IntelCorpusRecorder.DEFAULT_CORPUS_FILE;
+        if (Files.notExists(Path.of(corpusFile))) IntelCorpusRecorder.main(new String[]{corpusFile});
+        final IntelCorpus corpus = IntelCorpus.read(Path.of(corpusFile));
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine)
+                .include(BotDecisionBenchmark.class.getName());
+        if (!commandLine.getParameter("botName").hasValue())
+            options.param("botName", BotRegistry.getInstance().names().toArray(String[]::new));
+        options.param("corpusFile", corpusFile);
+        if (commandLine.getProfilers().isEmpty()) options.addProfiler(GCProfiler.class);
+        if (!commandLine.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON);
+        if (!commandLine.getResult().hasValue()) options.result(DEFAULT_RESULT_FILE);
+        if (!commandLine.getForkCount().hasValue()) options.forks(1);
+        if (!commandLine.getWarmupIterations().hasValue()) options.warmupIterations(2);
+        if (!commandLine.getMeasurementIterations().hasValue()) options.measurementIterations(3);
+
+        print(rank(new Runner(options.build()).run(), corpus));
+    }
+
+    public static List<BotCost> rank(Collection<RunResult> results, IntelCorpus corpus) {
+        final Map<String, Map<BotDecision, RunResult>> resultsByBot = new HashMap<>();
+        for (RunResult result : results) {
+            final String botName = result.getParams().getParam("botName");
+            final String benchmark = result.getParams().getBenchmark();
+            final BotDecision type = BotDecisionBenchmark.measuredBy(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+            resultsByBot.computeIfAbsent(botName, name -> new EnumMap<>(BotDecision.class)).put(type, result);
+        }
+
+        final double totalDecisions = corpus.size();
+        final List<BotCost> costs = resultsByBot.entrySet().stream()
+                .filter(entry -> entry.getValue().size() == BotDecision.values().length)
+                .map(entry -> {
+                    double nanos = 0;
+                    double bytes = 0;
+                    for (var decision : entry.getValue().entrySet()) {
+                        final double weight = corpus.intelsOf(decision.getKey()).size() / totalDecisions;
+                        nanos += weight * decision.getValue().getPrimaryResult().getScore();
+                        bytes += weight * allocationOf(decision.getValue());
+                    }
+                    return new BotCost(entry.getKey(), nanos, bytes, 0);
+                })
+                .toList();
+
+        final double median = median(costs.stream().mapToDouble(BotCost::nanosPerDecision).sorted().toArray());
+        return costs.stream()
+                .map(cost -> new BotCost(cost.botName(), cost.nanosPerDecision(), cost.bytesPerDecision(),
+                        median == 0 ? 0 : cost.nanosPerDecision() / median))
+                .sorted(Comparator.comparingDouble(BotCost::nanosPerDecision).reversed())
+                .toList();
+    }
+
+    private static double allocationOf(RunResult result) {
+        final Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_RESULT);
+        return allocation == null ? Double.NaN : allocation.getScore();
+    }
+
+    private static double median(double[] sortedValues) {
+        if (sortedValues.length == 0) return 0;
+        final int middle = sortedValues.length / 2;
+        if (sortedValues.length % 2 == 1) return sortedValues[middle];
+        return (sortedValues[middle - 1] + sortedValues[middle]) / 2;
+    }
+
+    private static void print(List<BotCost> ranking) {
+        System.out.println("\n================================================================");
+        System.out.printf("%4s  %-30s %14s %14s %8s%n", "Rank", "Bot", "ns/decision", "B/decision", "x median");
+        for (int i = 0; i < ranking.size(); i++) {
+            final BotCost cost = ranking.get(i);
+            System.out.printf("%4d  %-30s %14.1f %14.1f %8.1f%s%n", i + 1, cost.botName(), cost.nanosPerDecision(),
+                    cost.bytesPerDecision(), cost.timesMedian(), cost.isFlagged() ? "  <-- too slow" : "");
+        }
+        System.out.println("================================================================");
+    }
+}
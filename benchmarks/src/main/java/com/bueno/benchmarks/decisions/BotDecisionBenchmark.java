@@ -0,0 +1,99 @@
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotRegistry;
+import com.bueno.spi.service.BotServiceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Replays the intel corpus recorded by {@link IntelCorpusRecorder} against a single bot, each invocation taking
+ * the next intel recorded for the measured decision. The bot is chosen by the {@code botName} parameter, which is
+ * set for every available bot by {@link BotCostRanking}. Exceptions thrown by the bot are swallowed, so a bot that
+ * fails on some states is still measured on the others.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BotDecisionBenchmark {
+
+    @Param("DummyBot")
+    public String botName;
+
+    @Param(IntelCorpusRecorder.DEFAULT_CORPUS_FILE)
+    public String corpusFile;
+
+    private BotServiceProvider bot;
+    private final GameIntel[][] intels = new GameIntel[BotDecision.values().length][];
+    private final int[] positions = new int[BotDecision.values().length];
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        bot = BotRegistry.getInstance().newInstance(botName);
+        final IntelCorpus corpus = IntelCorpus.read(Path.of(corpusFile));
+        for (BotDecision type : BotDecision.values()) {
+            final List<GameIntel> decisions = corpus.intelsOf(type);
+            if (decisions.isEmpty()) throw new IllegalStateException("Corpus has no intel for " + type);
+            intels[type.ordinal()] = decisions.toArray(GameIntel[]::new);
+        }
+    }
+
+    @Benchmark
+    public Object maoDeOnzeResponse() {
+        return decide(BotDecision.MAO_DE_ONZE_RESPONSE);
+    }
+
+    @Benchmark
+    public Object decideIfRaises() {
+        return decide(BotDecision.DECIDE_IF_RAISES);
+    }
+
+    @Benchmark
+    public Object chooseCard() {
+        return decide(BotDecision.CHOOSE_CARD);
+    }
+
+    @Benchmark
+    public Object raiseResponse() {
+        return decide(BotDecision.RAISE_RESPONSE);
+    }
+
+    private Object decide(BotDecision type) {
+        final GameIntel[] decisions = intels[type.ordinal()];
+        final int position = positions[type.ordinal()];
+        positions[type.ordinal()] = position + 1 == decisions.length ? 0 : position + 1;
+        try {
+            return switch (type) {
+                case MAO_DE_ONZE_RESPONSE -> bot.getMaoDeOnzeResponse(decisions[position]);
+                case DECIDE_IF_RAISES -> bot.decideIfRaises(decisions[position]);
+                case CHOOSE_CARD -> bot.chooseCard(decisions[position]);
+                case RAISE_RESPONSE -> bot.getRaiseResponse(decisions[position]);
+            };
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    static BotDecision measuredBy(String benchmarkName) {
+        return switch (benchmarkName) {
+            case "maoDeOnzeResponse" -> BotDecision.MAO_DE_ONZE_RESPONSE;
+            case "decideIfRaises" -> BotDecision.DECIDE_IF_RAISES;
+            case "chooseCard" -> BotDecision.CHOOSE_CARD;
+            case "raiseResponse" -> BotDecision.RAISE_RESPONSE;
+            default -> throw new IllegalArgumentException("No decision measured by benchmark: " + benchmarkName);
+        };
+    }
+}
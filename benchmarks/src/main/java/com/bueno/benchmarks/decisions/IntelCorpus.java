@@ -0,0 +1,133 @@
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>Game intel states captured from simulated games, grouped by the decision the bot was asked to take. The corpus
+ * is stored as a gzipped binary file in which each card takes a single byte, so a corpus of some hundred thousand
+ * decisions takes just a few megabytes.</p>
+ */
+public final class IntelCorpus {
+    private static final int MAGIC = 0x43544943;
+    private static final int VERSION = 1;
+    private static final byte NO_CARD = -1;
+
+    private final Map<BotDecision, List<GameIntel>> intels;
+
+    public IntelCorpus(Map<BotDecision, List<GameIntel>> intels) {
+        Objects.requireNonNull(intels, "Intels must not be null!");
+        this.intels = new EnumMap<>(BotDecision.class);
+        for (BotDecision type : BotDecision.values())
+            this.intels.put(type, List.copyOf(intels.getOrDefault(type, List.of())));
+    }
+
+    public List<GameIntel> intelsOf(BotDecision type) {
+        return intels.get(type);
+    }
+
+    public int size() {
+        return intels.values().stream().mapToInt(List::size).sum();
+    }
+
+    public void write(Path file) throws IOException {
+        try (var out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            for (BotDecision type : BotDecision.values()) {
+                final List<GameIntel> decisions = intels.get(type);
+                out.writeInt(decisions.size());
+                for (GameIntel intel : decisions) writeIntel(out, intel);
+            }
+        }
+    }
+
+    public static IntelCorpus read(Path file) throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not an intel corpus: " + file);
+            final int version = in.readUnsignedByte();
+            if (version != VERSION) throw new IOException("Unsupported intel corpus version: " + version);
+
+            final Map<BotDecision, List<GameIntel>> intels = new EnumMap<>(BotDecision.class);
+            for (BotDecision type : BotDecision.values()) {
+                final int size = in.readInt();
+                final List<GameIntel> decisions = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) decisions.add(readIntel(in));
+                intels.put(type, decisions);
+            }
+            return new IntelCorpus(intels);
+        }
+    }
+
+    private static void writeIntel(DataOutputStream out, GameIntel intel) throws IOException {
+        out.writeByte(encode(intel.getVira()));
+        writeCards(out, intel.getCards());
+        writeCards(out, intel.getOpenCards());
+        out.writeByte(intel.getOpponentCard().map(IntelCorpus::encode).orElse(NO_CARD));
+        out.writeByte(intel.getRoundResults().size());
+        for (GameIntel.RoundResult result : intel.getRoundResults()) out.writeByte(result.ordinal());
+        out.writeByte(intel.getScore());
+        out.writeByte(intel.getOpponentScore());
+        out.writeByte(intel.getHandPoints());
+    }
+
+    private static GameIntel readIntel(DataInputStream in) throws IOException {
+        final TrucoCard vira = decode(in.readByte());
+        final List<TrucoCard> cards = readCards(in);
+        final List<TrucoCard> openCards = readCards(in);
+        final byte opponentCard = in.readByte();
+        final int rounds = in.readUnsignedByte();
+        final List<GameIntel.RoundResult> roundResults = new ArrayList<>(rounds);
+        for (int i = 0; i < rounds; i++) roundResults.add(GameIntel.RoundResult.values()[in.readUnsignedByte()]);
+        final int score = in.readUnsignedByte();
+        final int opponentScore = in.readUnsignedByte();
+        final int handPoints = in.readUnsignedByte();
+
+        final var builder = GameIntel.StepBuilder.with()
+                .gameInfo(roundResults, openCards, vira, handPoints)
+                .botInfo(cards, score)
+                .opponentScore(opponentScore);
+        if (opponentCard != NO_CARD) builder.opponentCard(decode(opponentCard));
+        return builder.build();
+    }
+
+    private static void writeCards(DataOutputStream out, List<TrucoCard> cards) throws IOException {
+        out.writeByte(cards.size());
+        for (TrucoCard card : cards) out.writeByte(encode(card));
+    }
+
+    private static List<TrucoCard> readCards(DataInputStream in) throws IOException {
+        final int size = in.readUnsignedByte();
+        final List<TrucoCard> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) cards.add(decode(in.readByte()));
+        return cards;
+    }
+
+    private static byte encode(TrucoCard card) {
+        return (byte) (card.getRank().ordinal() << 3 | card.getSuit().ordinal());
+    }
+
+    private static TrucoCard decode(byte card) {
+        final CardRank rank = CardRank.values()[card >> 3];
+        final CardSuit suit = CardSuit.values()[card & 0b111];
+        return rank == CardRank.HIDDEN ? TrucoCard.closed() : TrucoCard.of(rank, suit);
+    }
+}
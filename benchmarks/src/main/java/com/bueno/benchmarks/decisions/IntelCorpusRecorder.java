@@ -0,0 +1,107 @@
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.domain.usecases.game.service.SimulationEngine;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotRegistry;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * <p>Records the intel every bot receives along simulated games between randomly paired bots. Games in which a bot
+ * fails are discarded, but the decisions taken before the failure are kept, since they were valid game states.</p>
+ *
+ * <p>Usage: {@code IntelCorpusRecorder [file] [games] [seed]}, which defaults to {@value #DEFAULT_CORPUS_FILE},
+ * {@value #DEFAULT_GAMES} games and a random seed.</p>
+ */
+public class IntelCorpusRecorder {
+    public static final String DEFAULT_CORPUS_FILE = "intel-corpus.bin";
+    public static final int DEFAULT_GAMES = 2000;
+
+    private final List<String> botNames;
+    private final Map<BotDecision, List<GameIntel>> intels = new EnumMap<>(BotDecision.class);
+
+    public IntelCorpusRecorder(List<String> botNames) {
+        if (botNames.isEmpty()) throw new IllegalArgumentException("There are no bots to play the games!");
+        this.botNames = List.copyOf(botNames);
+        for (BotDecision type : BotDecision.values()) intels.put(type, new ArrayList<>());
+    }
+
+    public static void main(String[] args) throws IOException {
+        final Path file = Path.of(args.length > 0 ? args[0] : DEFAULT_CORPUS_FILE);
+        final int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+
+        final IntelCorpus corpus = new IntelCorpusRecorder(BotRegistry.getInstance().names()).record(games, seed);
+        corpus.write(file);
+
+        System.out.println("Recorded " + corpus.size() + " decisions from " + games + " games into " + file);
+        for (BotDecision type : BotDecision.values())
+            System.out.println(type + ": " + corpus.intelsOf(type).size());
+    }
+
+    public IntelCorpus record(int games, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < games; i++) {
+            final String bot1Name = botNames.get(random.nextInt(botNames.size()));
+            final String bot2Name = botNames.get(random.nextInt(botNames.size()));
+            final var engine = new SimulationEngine(UUID.randomUUID(), bot1Name, UUID.randomUUID(), bot2Name, RecordingBot::new);
+            try {
+                engine.play(random.nextLong());
+            } catch (RuntimeException e) {
+                System.err.println("Discarding game " + bot1Name + " x " + bot2Name + ": " + e);
+            }
+        }
+        return new IntelCorpus(intels);
+    }
+
+    private void add(BotDecision type, GameIntel intel) {
+        intels.get(type).add(intel);
+    }
+
+    private class RecordingBot implements BotServiceProvider {
+        private final BotServiceProvider bot;
+
+        private RecordingBot(BotServiceProvider bot) {
+            this.bot = bot;
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            add(BotDecision.MAO_DE_ONZE_RESPONSE, intel);
+            return bot.getMaoDeOnzeResponse(intel);
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            add(BotDecision.DECIDE_IF_RAISES, intel);
+            return bot.decideIfRaises(intel);
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            add(BotDecision.CHOOSE_CARD, intel);
+            return bot.chooseCard(intel);
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            add(BotDecision.RAISE_RESPONSE, intel);
+            return bot.getRaiseResponse(intel);
+        }
+
+        @Override
+        public String getName() {
+            return bot.getName();
+        }
+    }
+}
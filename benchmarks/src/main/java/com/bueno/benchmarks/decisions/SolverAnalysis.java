@@ -0,0 +1,39 @@
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.usecases.bot.dtos.SolverAnalysisDto;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
+import com.bueno.domain.usecases.game.service.SolverAnalysisService;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * <p>Plays two bots against each other and prints, for each bot and decision, how often it made the best move of the
+ * perfect-information hand solver and how many points it lost against it.</p>
+ *
+ * <p>Usage: {@code SolverAnalysis <bot1> <bot2> [games] [seed]}, which defaults to {@value #DEFAULT_GAMES} games
+ * and a random seed.</p>
+ */
+public class SolverAnalysis {
+    public static final int DEFAULT_GAMES = 1000;
+
+    public static void main(String[] args) {
+        if (args.length < 2) throw new IllegalArgumentException("Usage: SolverAnalysis <bot1> <bot2> [games] [seed]");
+        final int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES;
+        final long seed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        final long[] seeds = new SplittableRandom(seed).longs(games).toArray();
+
+        final SolverAnalysisService service = new SolverAnalysisService(args[0], args[1]);
+        final List<SolverAnalysisDto> results;
+        try (SimulationExecutor executor = SimulationExecutor.ofAvailableProcessors(progress -> {})) {
+            results = service.analyse(seeds, executor);
+        }
+
+        System.out.printf("%-30s %-22s %10s %8s %12s%n", "Bot", "Decision", "Decisions", "Best", "Lost/dec");
+        for (SolverAnalysisDto result : results)
+            System.out.printf("%-30s %-22s %10d %7.1f%% %12.3f%n", result.botName(), result.decision(),
+                    result.decisions(), 100 * result.bestDecisionRate(), result.averagePointsLost());
+        if (service.discardedGames() > 0)
+            System.out.printf("%d of %d games failed and were discarded.%n", service.discardedGames(), games);
+    }
+}
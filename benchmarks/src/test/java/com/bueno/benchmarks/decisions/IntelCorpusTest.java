@@ -0,0 +1,54 @@
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.bueno.spi.model.GameIntel.RoundResult.LOST;
+import static com.bueno.spi.model.GameIntel.RoundResult.WON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntelCorpusTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Should read the same intels it has written")
+    void shouldReadTheSameIntelsItHasWritten() throws IOException {
+        final GameIntel firstRound = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(TrucoCard.of(CardRank.KING, CardSuit.HEARTS)), TrucoCard.of(CardRank.KING, CardSuit.HEARTS), 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.FOUR, CardSuit.CLUBS), TrucoCard.of(CardRank.ACE, CardSuit.SPADES)), 11)
+                .opponentScore(3)
+                .build();
+        final GameIntel thirdRound = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(WON, LOST), List.of(TrucoCard.of(CardRank.THREE, CardSuit.DIAMONDS), TrucoCard.closed()),
+                        TrucoCard.of(CardRank.THREE, CardSuit.DIAMONDS), 6)
+                .botInfo(List.of(TrucoCard.of(CardRank.SEVEN, CardSuit.DIAMONDS)), 0)
+                .opponentScore(10)
+                .opponentCard(TrucoCard.of(CardRank.TWO, CardSuit.CLUBS))
+                .build();
+        final IntelCorpus corpus = new IntelCorpus(Map.of(
+                BotDecision.MAO_DE_ONZE_RESPONSE, List.of(firstRound),
+                BotDecision.CHOOSE_CARD, List.of(firstRound, thirdRound)));
+
+        final Path file = folder.resolve("corpus.bin");
+        corpus.write(file);
+        final IntelCorpus read = IntelCorpus.read(file);
+
+        assertThat(read.intelsOf(BotDecision.MAO_DE_ONZE_RESPONSE)).containsExactly(firstRound);
+        assertThat(read.intelsOf(BotDecision.CHOOSE_CARD)).containsExactly(firstRound, thirdRound);
+        assertThat(read.intelsOf(BotDecision.RAISE_RESPONSE)).isEmpty();
+        assertThat(read.size()).isEqualTo(3);
+    }
+}
@@ -47,4 +47,14 @@ public class DummyBot implements BotServiceProvider {
     public CardToPlay chooseCard(GameIntel intel) {
         return CardToPlay.of(intel.getCards().get(0));
     }
+
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
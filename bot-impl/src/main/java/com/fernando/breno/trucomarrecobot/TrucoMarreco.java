@@ -215,4 +215,9 @@ public class TrucoMarreco implements BotServiceProvider {
 
     @Override
     public String getName() { return "Truco Marreco!"; }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
\ No newline at end of file
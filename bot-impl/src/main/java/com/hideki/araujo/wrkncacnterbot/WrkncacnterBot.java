@@ -160,4 +160,9 @@ public class WrkncacnterBot implements BotServiceProvider {
     public String getName() {
         return "W'rkncacnter";
     }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
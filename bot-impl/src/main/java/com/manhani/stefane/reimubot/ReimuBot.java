@@ -202,4 +202,8 @@ public class ReimuBot implements BotServiceProvider {
         return getWeakestCard(intel);
     }
 
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
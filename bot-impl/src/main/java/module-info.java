@@ -73,6 +73,7 @@ import com.rafael.lucas.mestrimbot.Mestrim;
 import com.rennan.podecorrerpatinho.PodeCorrerPatinho;
 import com.abel.francisco.fogao6boca.Fogao6Boca;
 import com.matheus.dylan.superidolbot.SuperIdolBot;
+import com.luigivanzella.triathlonBot.TriathlonBot;
 
 module bot.impl {
     requires bot.spi;
@@ -153,7 +154,6 @@ module bot.impl {
     exports com.abel.francisco.fogao6boca;
     exports com.matheus.dylan.superidolbot;
     exports com.luigivanzella.triathlonBot;
-    exports com.caua.felipe.cfbot.CFBot;
 
     provides com.bueno.spi.service.BotServiceProvider with
             ArrebentaBot,
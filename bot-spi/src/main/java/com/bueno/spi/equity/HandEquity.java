@@ -0,0 +1,160 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.equity;
+
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * <p>Looks up the probability of winning a hand from the three cards dealt to the bot and the vira, in a table
+ * generated offline by {@link HandEquityGenerator}. For each vira and each unordered hand of three cards, the table
+ * stores the equity of the hand against every possible hand of the opponent from the remaining 36 cards, when both
+ * players play their cards from the strongest to the weakest. Draws count as half a win.</p>
+ *
+ * <p>The table is a resource of this module, memory-mapped the first time it is used, so each query reads two
+ * bytes and allocates nothing. The equity is a measure of the cards only: it ignores the score, the order of play
+ * and the bluffs of the opponent.</p>
+ */
+public final class HandEquity {
+    public static final String RESOURCE = "hand-equity.bin";
+    public static final int NUMBER_OF_VIRAS = 40;
+    public static final int HANDS_PER_VIRA = 9139;
+
+    static final int MAGIC = 0x43544551;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+    static final int ENTRIES = NUMBER_OF_VIRAS * HANDS_PER_VIRA;
+    static final int SCALE = 0xFFFF;
+
+    private HandEquity() {
+    }
+
+    /**
+     * <p>Returns the equity of the bot cards in {@code intel}, which is only defined before the bot plays its first
+     * card of the hand.</p>
+     * @param intel a game state in which the bot holds three cards.
+     * @return the probability of winning the hand, from 0 to 1.
+     * @throws IllegalArgumentException if the bot does not hold exactly three cards.
+     */
+    public static double of(GameIntel intel) {
+        long mask = intel.getCardMask();
+        if (Long.bitCount(mask) != 3)
+            throw new IllegalArgumentException("Hand equity requires three cards, but bot has " + intel.getCards().size());
+        final int first = Long.numberOfTrailingZeros(mask);
+        mask &= mask - 1;
+        final int second = Long.numberOfTrailingZeros(mask);
+        mask &= mask - 1;
+        return of(intel.getViraIndex(), first, second, Long.numberOfTrailingZeros(mask));
+    }
+
+    /**
+     * @param viraIndex the {@link TrucoCard#cardIndex()} of the vira.
+     * @param firstCard the {@link TrucoCard#cardIndex()} of a card of the hand, in any order.
+     * @return the probability of winning the hand, from 0 to 1.
+     * @throws IllegalArgumentException if any card is closed, repeated or equal to the vira.
+     */
+    public static double of(int viraIndex, int firstCard, int secondCard, int thirdCard) {
+        final int entry = entryOf(viraIndex, firstCard, secondCard, thirdCard);
+        return Short.toUnsignedInt(Table.BUFFER.getShort(HEADER_SIZE + entry * Short.BYTES)) / (double) SCALE;
+    }
+
+    static int entryOf(int viraIndex, int firstCard, int secondCard, int thirdCard) {
+        final int a = positionOf(firstCard, viraIndex);
+        final int b = positionOf(secondCard, viraIndex);
+        final int c = positionOf(thirdCard, viraIndex);
+        if (a == b || a == c || b == c) throw new IllegalArgumentException("Hand cards must be different.");
+        final int low = Math.min(a, Math.min(b, c));
+        final int high = Math.max(a, Math.max(b, c));
+        final int middle = a + b + c - low - high;
+        return (viraIndex - 1) * HANDS_PER_VIRA + handIndexOf(low, middle, high);
+    }
+
+    /**
+     * <p>Position of the card in the 39 cards left after removing the vira from the deck.</p>
+     */
+    static int positionOf(int cardIndex, int viraIndex) {
+        if (viraIndex < 1 || viraIndex >= TrucoCard.NUMBER_OF_INDEXES)
+            throw new IllegalArgumentException("Vira must be an open card: " + viraIndex);
+        if (cardIndex < 1 || cardIndex >= TrucoCard.NUMBER_OF_INDEXES || cardIndex == viraIndex)
+            throw new IllegalArgumentException("Invalid hand card for vira " + viraIndex + ": " + cardIndex);
+        return cardIndex < viraIndex ? cardIndex - 1 : cardIndex - 2;
+    }
+
+    /**
+     * <p>Rank of the combination {@code low < middle < high} in the combinatorial number system.</p>
+     */
+    static int handIndexOf(int low, int middle, int high) {
+        return low + middle * (middle - 1) / 2 + high * (high - 1) * (high - 2) / 6;
+    }
+
+    private static final class Table {
+        private static final ByteBuffer BUFFER = map();
+
+        private static ByteBuffer map() {
+            final URL resource = HandEquity.class.getResource(RESOURCE);
+            if (resource == null) throw new IllegalStateException("Hand equity table not found: " + RESOURCE);
+            try {
+                final ByteBuffer buffer = "file".equals(resource.getProtocol())
+                        ? mapFile(Path.of(resource.toURI()))
+                        : mapCopy(resource);
+                validate(buffer);
+                return buffer;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map hand equity table.", e);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Could not map hand equity table.", e);
+            }
+        }
+
+        private static ByteBuffer mapCopy(URL resource) throws IOException {
+            final Path copy = Files.createTempFile("ctruco-hand-equity", ".bin");
+            copy.toFile().deleteOnExit();
+            try (InputStream in = resource.openStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return mapFile(copy);
+        }
+
+        private static ByteBuffer mapFile(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
+        private static void validate(ByteBuffer buffer) {
+            if (buffer.capacity() != HEADER_SIZE + ENTRIES * Short.BYTES
+                    || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION
+                    || buffer.getInt(2 * Integer.BYTES) != ENTRIES)
+                throw new IllegalStateException("Invalid hand equity table: " + RESOURCE);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.equity;
+
+import com.bueno.spi.model.TrucoCard;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static com.bueno.spi.equity.HandEquity.*;
+
+/**
+ * <p>Generates the {@link HandEquity} table by exhaustive enumeration: each hand of each vira is played against all
+ * the hands of the opponent from the remaining deck. Viras are computed in parallel. Run it from the project root
+ * whenever the rules of the showdown change, and bump {@link HandEquity#VERSION}:</p>
+ * <pre>
+ * java -cp bot-spi/target/classes com.bueno.spi.equity.HandEquityGenerator bot-spi/src/main/resources/com/bueno/spi/equity/hand-equity.bin
+ * </pre>
+ */
+public final class HandEquityGenerator {
+    private static final int DECK_SIZE = NUMBER_OF_VIRAS - 1;
+    private static final int WIN = 2;
+    private static final int DRAW = 1;
+    private static final int LOSS = 0;
+    private static final byte[] SHOWDOWN = new byte[27];
+
+    static {
+        for (int first = -1; first <= 1; first++)
+            for (int second = -1; second <= 1; second++)
+                for (int third = -1; third <= 1; third++)
+                    SHOWDOWN[roundsIndex(first, second, third)] = (byte) showdown(first, second, third);
+    }
+
+    private HandEquityGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) throw new IllegalArgumentException("Usage: HandEquityGenerator <output file>");
+        final long start = System.nanoTime();
+        final Path output = Path.of(args[0]);
+        if (output.getParent() != null) Files.createDirectories(output.getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            write(generate(), out);
+        }
+        System.out.printf("%d entries written to %s in %d ms.%n", ENTRIES, output, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return the equity of every entry, scaled from 0 to {@link HandEquity#SCALE}, in table order.
+     */
+    static char[] generate() {
+        final char[] table = new char[ENTRIES];
+        IntStream.rangeClosed(1, NUMBER_OF_VIRAS).parallel().forEach(vira -> generate(vira, table));
+        return table;
+    }
+
+    static void write(char[] table, OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(table.length);
+        for (char equity : table) data.writeChar(equity);
+        data.flush();
+    }
+
+    private static void generate(int viraIndex, char[] table) {
+        final int[] values = new int[DECK_SIZE];
+        for (int cardIndex = 1; cardIndex < TrucoCard.NUMBER_OF_INDEXES; cardIndex++)
+            if (cardIndex != viraIndex) values[positionOf(cardIndex, viraIndex)] = TrucoCard.relativeValue(cardIndex, viraIndex);
+
+        final int[][] sortedHands = new int[HANDS_PER_VIRA][];
+        final long[] handMasks = new long[HANDS_PER_VIRA];
+        for (int c = 2; c < DECK_SIZE; c++)
+            for (int b = 1; b < c; b++)
+                for (int a = 0; a < b; a++) {
+                    final int hand = handIndexOf(a, b, c);
+                    sortedHands[hand] = sortedDescending(values[a], values[b], values[c]);
+                    handMasks[hand] = 1L << a | 1L << b | 1L << c;
+                }
+
+        final int offset = (viraIndex - 1) * HANDS_PER_VIRA;
+        for (int hand = 0; hand < HANDS_PER_VIRA; hand++) {
+            final int[] own = sortedHands[hand];
+            long points = 0;
+            int opponents = 0;
+            for (int other = 0; other < HANDS_PER_VIRA; other++) {
+                if ((handMasks[hand] & handMasks[other]) != 0) continue;
+                final int[] opponent = sortedHands[other];
+                points += SHOWDOWN[roundsIndex(Integer.compare(own[0], opponent[0]),
+                        Integer.compare(own[1], opponent[1]), Integer.compare(own[2], opponent[2]))];
+                opponents++;
+            }
+            table[offset + hand] = (char) Math.round(points * (double) SCALE / (WIN * (double) opponents));
+        }
+    }
+
+    private static int[] sortedDescending(int first, int second, int third) {
+        final int high = Math.max(first, Math.max(second, third));
+        final int low = Math.min(first, Math.min(second, third));
+        return new int[]{high, first + second + third - high - low, low};
+    }
+
+    private static int roundsIndex(int first, int second, int third) {
+        return (first + 1) * 9 + (second + 1) * 3 + third + 1;
+    }
+
+    /**
+     * <p>Result of a hand from the result of its rounds, each 1 if won, 0 if tied and -1 if lost, following the rules
+     * of the game: a tied round is decided by the next one, and a tied last round by the first.</p>
+     */
+    private static int showdown(int first, int second, int third) {
+        if (first != 0 && first == second) return points(first);
+        if (first == 0 && second != 0) return points(second);
+        if (first != 0 && second == 0) return points(first);
+        if (third != 0) return points(third);
+        return points(first);
+    }
+
+    private static int points(int round) {
+        return round > 0 ? WIN : round < 0 ? LOSS : DRAW;
+    }
+}
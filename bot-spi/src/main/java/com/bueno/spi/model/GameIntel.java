@@ -41,6 +41,10 @@ public class GameIntel {
     private final int score;
     private final int opponentScore;
     private final int handPoints;
+    private final long cardMask;
+    private final int highestCardIndex;
+    private final int lowestCardIndex;
+    private final int manilhaCount;
 
     private GameIntel(List<TrucoCard> cards, List<TrucoCard> openCards, TrucoCard vira, TrucoCard opponentCard,
                      List<RoundResult> roundResults, int score, int opponentScore, int handPoints) {
@@ -52,6 +56,29 @@ public class GameIntel {
         this.score = score;
         this.opponentScore = opponentScore;
         this.handPoints = handPoints;
+
+        final TrucoCard[] dealtCards = cards == null || vira == null
+                ? new TrucoCard[0]
+                : cards.toArray(TrucoCard[]::new);
+        long mask = 0L;
+        int highest = -1, lowest = -1, highestValue = -1, lowestValue = Integer.MAX_VALUE, manilhas = 0;
+        for (TrucoCard card : dealtCards) {
+            final int value = card.relativeValue(vira);
+            mask |= 1L << card.cardIndex();
+            if (card.isManilha(vira)) manilhas++;
+            if (value > highestValue) {
+                highestValue = value;
+                highest = card.cardIndex();
+            }
+            if (value < lowestValue) {
+                lowestValue = value;
+                lowest = card.cardIndex();
+            }
+        }
+        this.cardMask = mask;
+        this.highestCardIndex = highest;
+        this.lowestCardIndex = lowest;
+        this.manilhaCount = manilhas;
     }
 
     /**
@@ -126,6 +153,54 @@ public class GameIntel {
         return handPoints;
     }
 
+    /**
+     * <p>Returns the bot cards as a bit mask in which the bit {@code 1L << card.cardIndex()} is set for every card in
+     * {@link #getCards()} when the object is built. The mask is computed once from a copy of the cards, so it can be
+     * checked on every decision without iterating or allocating, and it does not change if a bot sorts or removes
+     * elements of the list returned by {@link #getCards()}. It is a {@code long} because there are
+     * {@link TrucoCard#NUMBER_OF_INDEXES} card indexes.</p>
+     * @return a bit mask of the {@link TrucoCard#cardIndex()} of the bot cards, or 0 if the bot has no cards left
+     */
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * <p>Returns the index of the bot card with the highest relative value to the vira, among the cards the object was
+     * built with. If cards have the same value, the first one given to the builder is chosen. Use
+     * {@link TrucoCard#ofIndex(int)} to get the card.</p>
+     * @return the {@link TrucoCard#cardIndex()} of the highest bot card, or -1 if the bot has no cards left
+     */
+    public int getHighestCardIndex() {
+        return highestCardIndex;
+    }
+
+    /**
+     * <p>Returns the index of the bot card with the lowest relative value to the vira, among the cards the object was
+     * built with. If cards have the same value, the first one given to the builder is chosen. Use
+     * {@link TrucoCard#ofIndex(int)} to get the card.</p>
+     * @return the {@link TrucoCard#cardIndex()} of the lowest bot card, or -1 if the bot has no cards left
+     */
+    public int getLowestCardIndex() {
+        return lowestCardIndex;
+    }
+
+    /**
+     * <p>Returns how many of the bot cards the object was built with are manilhas for the current vira.</p>
+     * @return an int from 0 to the number of bot cards
+     */
+    public int getManilhaCount() {
+        return manilhaCount;
+    }
+
+    /**
+     * <p>Returns the index of the vira, which may be used with {@link TrucoCard#relativeValue(int, int)}.</p>
+     * @return the {@link TrucoCard#cardIndex()} of the vira
+     */
+    public int getViraIndex() {
+        return vira.cardIndex();
+    }
+
     public interface GeneralIntel{
         BotIntel gameInfo(List<RoundResult> roundResults, List<TrucoCard> openCards, TrucoCard vira, int handPoints);
     }
@@ -31,13 +31,35 @@ import java.util.Objects;
  * */
 public final class TrucoCard {
 
-    private static final TrucoCard[] cache = new TrucoCard[41];
+    /**
+     * <p>Number of distinct card indexes, from 0 for the closed card to 40 for the three of clubs.</p>
+     */
+    public static final int NUMBER_OF_INDEXES = 41;
+
+    private static final TrucoCard[] cache = new TrucoCard[NUMBER_OF_INDEXES];
+    private static final byte[] relativeValues = new byte[NUMBER_OF_INDEXES * NUMBER_OF_INDEXES];
     private final CardSuit suit;
     private final CardRank rank;
+    private final CardRank manilhaRank;
+    private final int index;
+
+    static {
+        for (CardRank rank : CardRank.values())
+            for (CardSuit suit : CardSuit.values())
+                if (rank == CardRank.HIDDEN == (suit == CardSuit.HIDDEN)) {
+                    final TrucoCard card = new TrucoCard(rank, suit);
+                    cache[card.index] = card;
+                }
+        for (TrucoCard card : cache)
+            for (TrucoCard vira : cache)
+                relativeValues[card.index * NUMBER_OF_INDEXES + vira.index] = (byte) card.computeRelativeValue(vira);
+    }
 
     private TrucoCard(CardRank rank, CardSuit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.manilhaRank = rank.next();
+        this.index = rank.value() == 0 || suit.value() == 0 ? 0 : (rank.value() - 1) * 4 + suit.value();
     }
 
     /**
@@ -70,18 +92,55 @@ public final class TrucoCard {
      * @return TrucoCard representing a closed card, i.e., a discard
      */
     public static TrucoCard closed() {
-        return fromCache(CardRank.HIDDEN, CardSuit.HIDDEN);
+        return cache[0];
+    }
+
+    /**
+     * <p>Returns the cached card of the given index, which is the inverse of {@link #cardIndex()}.</p>
+     *
+     * @param index a card index from 0 to {@link #NUMBER_OF_INDEXES} - 1
+     * @return the TrucoCard whose {@link #cardIndex()} is {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid card index
+     */
+    public static TrucoCard ofIndex(int index) {
+        Objects.checkIndex(index, NUMBER_OF_INDEXES);
+        return cache[index];
     }
 
     private static TrucoCard fromCache(CardRank rank, CardSuit suit) {
         int rankValue = rank.value();
         int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+        return cache[rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue];
+    }
 
-        if (cache[cachePosition] == null) cache[cachePosition] = new TrucoCard(rank, suit);
-        return cache[cachePosition];
+    /**
+     * <p>Returns the position of the card in the deck order: 0 for the closed card and, for open cards,
+     * {@code (rank value - 1) * 4 + suit value}, from 1 for the four of diamonds to 40 for the three of clubs.
+     * Indexes are stable and may be used to address arrays or bit masks of cards.</p>
+     *
+     * @return an int from 0 to {@link #NUMBER_OF_INDEXES} - 1
+     */
+    public int cardIndex() {
+        return index;
     }
 
+    /**
+     * <p>Looks up the relative value of a card in the precomputed table of all cards and viras. It returns the same
+     * value as {@link #relativeValue(TrucoCard vira)} without any object.</p>
+     *
+     * @param cardIndex the {@link #cardIndex()} of the card
+     * @param viraIndex the {@link #cardIndex()} of the vira
+     * @return the relative value of the card, from 0 for the closed card to 13 for the zap
+     * @throws IndexOutOfBoundsException if any index is not a valid card index
+     * @throws IllegalStateException if both indexes are 0, since a closed card can not be manilha
+     */
+    public static int relativeValue(int cardIndex, int viraIndex) {
+        Objects.checkIndex(cardIndex, NUMBER_OF_INDEXES);
+        Objects.checkIndex(viraIndex, NUMBER_OF_INDEXES);
+        final int value = relativeValues[cardIndex * NUMBER_OF_INDEXES + viraIndex];
+        if (value < 0) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
+    }
 
     /**
      * <p>Compares two TrucoCard objects based on their relative values defined using the {@code vira} card parameter.
@@ -133,13 +192,19 @@ public final class TrucoCard {
      */
     public int relativeValue(TrucoCard vira) {
         Objects.requireNonNull(vira, "Vira card must not be null.");
+        final int value = relativeValues[index * NUMBER_OF_INDEXES + vira.index];
+        if (value < 0) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
+    }
+
+    private int computeRelativeValue(TrucoCard vira) {
         if (isManilha(vira))
             return switch (suit) {
                 case DIAMONDS -> 10;
                 case SPADES -> 11;
                 case HEARTS -> 12;
                 case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
+                case HIDDEN -> -1;
             };
         if(rank.value() > vira.rank.value()) return rank.value() - 1;
         return rank.value();
@@ -159,7 +224,7 @@ public final class TrucoCard {
      */
     public boolean isManilha(TrucoCard vira) {
         Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
-        return getRank() == vira.getRank().next();
+        return rank == vira.manilhaRank;
 
     }
 
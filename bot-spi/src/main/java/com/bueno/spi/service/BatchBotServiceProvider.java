@@ -0,0 +1,92 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+
+/**
+ * <p>Optional extension of {@link BotServiceProvider} for bots that are cheaper when they decide for many game
+ * states at once, such as table-driven or search bots. Simulations interleave many games and ask such bots for all
+ * the pending decisions of the same kind in a single call, with the game states of different games. The element
+ * {@code i} of each returned array must be the decision for the element {@code i} of the given array.</p>
+ *
+ * <p>The one-state-at-a-time methods of {@link BotServiceProvider} are implemented by batches of one, so a batch bot
+ * also plays in the games against humans. Single-call bots are used by the simulations through
+ * {@link #of(BotServiceProvider)}.</p>
+ */
+public interface BatchBotServiceProvider extends BotServiceProvider {
+
+    /**
+     * @param intels non-empty array of game states, one per game, all in a mão de onze hand.
+     * @return for each game state, {@code true} to play the mão de onze hand or {@code false} to quit it.
+     */
+    boolean[] getMaoDeOnzeResponses(GameIntel[] intels);
+
+    /**
+     * @param intels non-empty array of game states, one per game.
+     * @return for each game state, {@code true} to request a point raise or {@code false} otherwise.
+     */
+    boolean[] decideIfRaises(GameIntel[] intels);
+
+    /**
+     * @param intels non-empty array of game states, one per game.
+     * @return for each game state, the card to be played or discarded.
+     */
+    CardToPlay[] chooseCards(GameIntel[] intels);
+
+    /**
+     * @param intels non-empty array of game states, one per game.
+     * @return for each game state, -1 to quit, 0 to accept or 1 to re-raise.
+     */
+    int[] getRaiseResponses(GameIntel[] intels);
+
+    @Override
+    default boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return getMaoDeOnzeResponses(new GameIntel[]{intel})[0];
+    }
+
+    @Override
+    default boolean decideIfRaises(GameIntel intel) {
+        return decideIfRaises(new GameIntel[]{intel})[0];
+    }
+
+    @Override
+    default CardToPlay chooseCard(GameIntel intel) {
+        return chooseCards(new GameIntel[]{intel})[0];
+    }
+
+    @Override
+    default int getRaiseResponse(GameIntel intel) {
+        return getRaiseResponses(new GameIntel[]{intel})[0];
+    }
+
+    /**
+     * <p>Adapts any bot to the batch interface. Batch bots are returned as they are, while single-call bots are
+     * asked for each game state of the batch in order.</p>
+     * @param botService a non-null bot service.
+     * @return {@code botService} itself if it is a batch bot, or an adapter calling it once per game state.
+     */
+    static BatchBotServiceProvider of(BotServiceProvider botService) {
+        if (botService instanceof BatchBotServiceProvider batchBotService) return batchBotService;
+        return new SingleCallBatchAdapter(botService);
+    }
+}
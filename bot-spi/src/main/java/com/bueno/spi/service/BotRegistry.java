@@ -0,0 +1,140 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * <p>Immutable index of the available {@link BotServiceProvider} implementations. The service providers are scanned
+ * only once, when the registry is created, and are then looked up by name without further scans.</p>
+ *
+ * <p>Bots declaring themselves as {@link BotServiceProvider#isStateless() stateless} are shared by every game.
+ * Any other bot is created again by its provider factory for each game through {@link #instanceForGame(String)}.</p>
+ */
+public final class BotRegistry {
+    private static final Logger LOGGER = Logger.getLogger(BotRegistry.class.getName());
+
+    private final Map<String, Entry> entries;
+    private final List<String> names;
+    private final Duration startupTime;
+
+    BotRegistry(Stream<? extends Supplier<? extends BotServiceProvider>> factories) {
+        final long start = System.nanoTime();
+        final Map<String, Entry> entriesByName = new LinkedHashMap<>();
+        factories.map(factory -> Entry.of(factory, factory.get()))
+                .forEach(entry -> entriesByName.putIfAbsent(entry.name(), entry));
+
+        this.entries = Map.copyOf(entriesByName);
+        this.names = List.copyOf(entriesByName.keySet());
+        this.startupTime = Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    public static BotRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return the bot to be used during a whole game: the shared instance if the bot is stateless or a new instance
+     * otherwise.
+     * @throws NoSuchElementException if there is no bot with the given name.
+     */
+    public BotServiceProvider instanceForGame(String botName) {
+        final Entry entry = entryOf(botName);
+        return entry.shared() != null ? entry.shared() : entry.factory().get();
+    }
+
+    /**
+     * @return a new instance of the bot, even if it is stateless.
+     * @throws NoSuchElementException if there is no bot with the given name.
+     */
+    public BotServiceProvider newInstance(String botName) {
+        return entryOf(botName).factory().get();
+    }
+
+    public boolean contains(String botName) {
+        return botName != null && entries.containsKey(botName);
+    }
+
+    public boolean isStateless(String botName) {
+        return entryOf(botName).shared() != null;
+    }
+
+    /**
+     * @return {@code true} if the bot implements {@link BatchBotServiceProvider}, as found when the registry was
+     * created.
+     * @throws NoSuchElementException if there is no bot with the given name.
+     */
+    public boolean isBatchBot(String botName) {
+        return entryOf(botName).batch();
+    }
+
+    /**
+     * @return the bot names in the order they were declared by the service providers.
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * @return the time taken to scan the service providers and build the registry.
+     */
+    public Duration startupTime() {
+        return startupTime;
+    }
+
+    private Entry entryOf(String botName) {
+        Objects.requireNonNull(botName, "Bot name must not be null!");
+        final Entry entry = entries.get(botName);
+        if (entry == null) throw new NoSuchElementException("Service implementation not available: " + botName);
+        return entry;
+    }
+
+    private record Entry(String name, Supplier<? extends BotServiceProvider> factory, BotServiceProvider shared,
+                         boolean batch) {
+        static Entry of(Supplier<? extends BotServiceProvider> factory, BotServiceProvider instance) {
+            return new Entry(instance.getName(), factory, instance.isStateless() ? instance : null,
+                    instance instanceof BatchBotServiceProvider);
+        }
+    }
+
+    private static final class Holder {
+        private static final BotRegistry INSTANCE = scan();
+
+        private static BotRegistry scan() {
+            final BotRegistry registry = new BotRegistry(ServiceLoader.load(BotServiceProvider.class).stream());
+            LOGGER.info(() -> "Loaded " + registry.size() + " bots in " + registry.startupTime().toMillis() + " ms.");
+            return registry;
+        }
+    }
+}
@@ -70,4 +70,25 @@ public interface BotServiceProvider{
     default String getName(){
         return getClass().getSimpleName();
     }
+
+    /**
+     * <p>Tells whether the bot keeps no state between calls and can safely be shared among concurrent games.
+     * Stateless bots are instantiated only once by the {@link BotRegistry}. Otherwise, a new instance is created
+     * for each game. By default, bots are considered stateful.</p>
+     * @return {@code true} if a single instance can play any number of games at the same time.
+     */
+    default boolean isStateless(){
+        return false;
+    }
+
+    /**
+     * <p>Tells whether every decision of the bot depends only on the {@link GameIntel} it receives, so the same intel
+     * always leads to the same decision. The decisions of deterministic bots may be memoized during simulations.
+     * Bots using random numbers or remembering previous hands must not declare themselves deterministic. By default,
+     * bots are considered non-deterministic.</p>
+     * @return {@code true} if the decisions of the bot are a pure function of the game intel.
+     */
+    default boolean isDeterministic(){
+        return false;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+
+/**
+ * <p>State of a bot during a single game, created by {@link BotSessionFactory#newSession()}. Besides taking the
+ * decisions of the bot, as any {@link BotServiceProvider}, a session is notified of each game event in the order
+ * they happened, before the decision that follows them. Events of both players are notified, so the session may
+ * update its model of the opponent incrementally instead of scanning the open cards and round results again.</p>
+ *
+ * <p>All event methods do nothing by default. The name of the session is ignored, since it always plays under the
+ * name of the bot that created it.</p>
+ */
+public interface BotSession extends BotServiceProvider, AutoCloseable {
+
+    /**
+     * <p>Notifies that a card has been played or discarded, in which case it is {@link TrucoCard#closed()}.</p>
+     * @param card the card placed on the table.
+     * @param byBot {@code true} if the card was played by the bot of this session.
+     */
+    default void onCardPlayed(TrucoCard card, boolean byBot) {
+    }
+
+    /**
+     * @param proposedPoints the points the hand will be worth if the raise is accepted.
+     * @param byBot {@code true} if the bot of this session raised.
+     */
+    default void onRaise(int proposedPoints, boolean byBot) {
+    }
+
+    /**
+     * <p>Notifies that a raise or a mão de onze hand has been accepted.</p>
+     * @param handPoints the points the hand is worth after accepting.
+     * @param byBot {@code true} if the bot of this session accepted.
+     */
+    default void onAccept(int handPoints, boolean byBot) {
+    }
+
+    /**
+     * <p>Notifies that a player has quit the current hand, refusing a raise or a mão de onze hand.</p>
+     * @param byBot {@code true} if the bot of this session quit.
+     */
+    default void onQuit(boolean byBot) {
+    }
+
+    /**
+     * @param result {@code WON} or {@code LOST} from the bot point of view, or {@code DREW} if nobody won the hand.
+     * @param handPoints the points the hand was worth.
+     */
+    default void onHandEnd(RoundResult result, int handPoints) {
+    }
+
+    /**
+     * <p>Releases the session when the game is over or abandoned. No other method is called afterwards.</p>
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+/**
+ * <p>Optional extension of {@link BotServiceProvider} for bots that keep state during a game. When a game starts,
+ * the engine asks the bot for a new {@link BotSession}, which then takes every decision of the bot in that game and
+ * is notified of the game events as they happen. The session is closed and discarded when the game is over.</p>
+ *
+ * <p>Bots not implementing this interface keep working as before, deriving everything from the
+ * {@link com.bueno.spi.model.GameIntel} of each decision.</p>
+ */
+public interface BotSessionFactory {
+
+    /**
+     * <p>Creates the session of the bot for a new game. It is called once per bot and game.</p>
+     * @return a non-null {@link BotSession} to be used until the end of the game.
+     */
+    BotSession newSession();
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+
+import java.util.Objects;
+
+final class SingleCallBatchAdapter implements BatchBotServiceProvider {
+
+    private final BotServiceProvider botService;
+
+    SingleCallBatchAdapter(BotServiceProvider botService) {
+        this.botService = Objects.requireNonNull(botService, "Bot service must not be null!");
+    }
+
+    @Override
+    public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) {
+        final boolean[] responses = new boolean[intels.length];
+        for (int i = 0; i < intels.length; i++) responses[i] = botService.getMaoDeOnzeResponse(intels[i]);
+        return responses;
+    }
+
+    @Override
+    public boolean[] decideIfRaises(GameIntel[] intels) {
+        final boolean[] decisions = new boolean[intels.length];
+        for (int i = 0; i < intels.length; i++) decisions[i] = botService.decideIfRaises(intels[i]);
+        return decisions;
+    }
+
+    @Override
+    public CardToPlay[] chooseCards(GameIntel[] intels) {
+        final CardToPlay[] cards = new CardToPlay[intels.length];
+        for (int i = 0; i < intels.length; i++) cards[i] = botService.chooseCard(intels[i]);
+        return cards;
+    }
+
+    @Override
+    public int[] getRaiseResponses(GameIntel[] intels) {
+        final int[] responses = new int[intels.length];
+        for (int i = 0; i < intels.length; i++) responses[i] = botService.getRaiseResponse(intels[i]);
+        return responses;
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return botService.getMaoDeOnzeResponse(intel);
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return botService.decideIfRaises(intel);
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return botService.chooseCard(intel);
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return botService.getRaiseResponse(intel);
+    }
+
+    @Override
+    public String getName() {
+        return botService.getName();
+    }
+
+    @Override
+    public boolean isStateless() {
+        return botService.isStateless();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return botService.isDeterministic();
+    }
+}
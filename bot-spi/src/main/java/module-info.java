@@ -1,6 +1,8 @@
 module bot.spi {
+    requires java.logging;
 
     exports com.bueno.spi.service;
     exports com.bueno.spi.model;
+    exports com.bueno.spi.equity;
     uses com.bueno.spi.service.BotServiceProvider;
 }
\ No newline at end of file
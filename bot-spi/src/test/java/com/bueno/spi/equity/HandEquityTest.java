@@ -0,0 +1,155 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.equity;
+
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.StepBuilder;
+import com.bueno.spi.model.TrucoCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandEquityTest {
+
+    @Test
+    @DisplayName("Should match brute-force enumeration for sampled entries")
+    void shouldMatchBruteForceEnumerationForSampledEntries() {
+        final Random random = new Random(42);
+        for (int sample = 0; sample < 100; sample++) {
+            final List<TrucoCard> deck = new ArrayList<>();
+            for (int index = 1; index < TrucoCard.NUMBER_OF_INDEXES; index++) deck.add(TrucoCard.ofIndex(index));
+            final TrucoCard vira = deck.remove(random.nextInt(deck.size()));
+            final List<TrucoCard> hand = List.of(deck.remove(random.nextInt(deck.size())),
+                    deck.remove(random.nextInt(deck.size())), deck.remove(random.nextInt(deck.size())));
+
+            final double expected = bruteForceEquity(hand, deck, vira);
+            final double actual = HandEquity.of(vira.cardIndex(),
+                    hand.get(0).cardIndex(), hand.get(1).cardIndex(), hand.get(2).cardIndex());
+
+            assertEquals(expected, actual, 1.0 / HandEquity.SCALE, () -> "Hand " + hand + " with vira " + vira);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same equity for any order of the hand cards")
+    void shouldReturnTheSameEquityForAnyOrderOfTheHandCards() {
+        final int vira = TrucoCard.of(FOUR, CLUBS).cardIndex();
+        final int first = TrucoCard.of(FIVE, CLUBS).cardIndex();
+        final int second = TrucoCard.of(THREE, HEARTS).cardIndex();
+        final int third = TrucoCard.of(JACK, SPADES).cardIndex();
+        final double equity = HandEquity.of(vira, first, second, third);
+        assertAll(
+                () -> assertEquals(equity, HandEquity.of(vira, third, first, second)),
+                () -> assertEquals(equity, HandEquity.of(vira, second, third, first))
+        );
+    }
+
+    @Test
+    @DisplayName("Should rank the three best manilhas above three low cards")
+    void shouldRankTheThreeBestManilhasAboveThreeLowCards() {
+        final int vira = TrucoCard.of(FOUR, DIAMONDS).cardIndex();
+        final double manilhas = HandEquity.of(vira, TrucoCard.of(FIVE, CLUBS).cardIndex(),
+                TrucoCard.of(FIVE, HEARTS).cardIndex(), TrucoCard.of(FIVE, SPADES).cardIndex());
+        final double lowCards = HandEquity.of(vira, TrucoCard.of(FOUR, CLUBS).cardIndex(),
+                TrucoCard.of(FOUR, HEARTS).cardIndex(), TrucoCard.of(SIX, SPADES).cardIndex());
+        assertAll(
+                () -> assertTrue(manilhas > 0.99, "manilhas: " + manilhas),
+                () -> assertTrue(lowCards < 0.05, "low cards: " + lowCards)
+        );
+    }
+
+    @Test
+    @DisplayName("Should look up the equity of the bot cards in game intel")
+    void shouldLookUpTheEquityOfTheBotCardsInGameIntel() {
+        final TrucoCard vira = TrucoCard.of(KING, HEARTS);
+        final List<TrucoCard> cards = List.of(TrucoCard.of(ACE, DIAMONDS), TrucoCard.of(TWO, SPADES), TrucoCard.of(SEVEN, CLUBS));
+        final GameIntel intel = intelOf(vira, cards);
+        assertEquals(HandEquity.of(vira.cardIndex(), cards.get(0).cardIndex(), cards.get(1).cardIndex(),
+                cards.get(2).cardIndex()), HandEquity.of(intel));
+    }
+
+    @Test
+    @DisplayName("Should throw if bot does not hold three cards")
+    void shouldThrowIfBotDoesNotHoldThreeCards() {
+        final GameIntel intel = intelOf(TrucoCard.of(KING, HEARTS), List.of(TrucoCard.of(ACE, DIAMONDS), TrucoCard.of(TWO, SPADES)));
+        assertThrows(IllegalArgumentException.class, () -> HandEquity.of(intel));
+    }
+
+    @Test
+    @DisplayName("Should throw if hand has invalid cards")
+    void shouldThrowIfHandHasInvalidCards() {
+        final int vira = TrucoCard.of(KING, HEARTS).cardIndex();
+        final int ace = TrucoCard.of(ACE, DIAMONDS).cardIndex();
+        final int two = TrucoCard.of(TWO, SPADES).cardIndex();
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> HandEquity.of(vira, ace, ace, two)),
+                () -> assertThrows(IllegalArgumentException.class, () -> HandEquity.of(vira, vira, ace, two)),
+                () -> assertThrows(IllegalArgumentException.class, () -> HandEquity.of(vira, 0, ace, two)),
+                () -> assertThrows(IllegalArgumentException.class, () -> HandEquity.of(0, 1, ace, two))
+        );
+    }
+
+    private static GameIntel intelOf(TrucoCard vira, List<TrucoCard> cards) {
+        return StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(cards, 0)
+                .opponentScore(0)
+                .build();
+    }
+
+    private static double bruteForceEquity(List<TrucoCard> hand, List<TrucoCard> deck, TrucoCard vira) {
+        final List<TrucoCard> own = playingOrder(hand, vira);
+        double points = 0;
+        int opponents = 0;
+        for (int i = 0; i < deck.size(); i++)
+            for (int j = i + 1; j < deck.size(); j++)
+                for (int k = j + 1; k < deck.size(); k++) {
+                    final List<TrucoCard> opponent = playingOrder(List.of(deck.get(i), deck.get(j), deck.get(k)), vira);
+                    points += handPoints(own, opponent, vira);
+                    opponents++;
+                }
+        return points / opponents;
+    }
+
+    private static List<TrucoCard> playingOrder(List<TrucoCard> hand, TrucoCard vira) {
+        return hand.stream().sorted(Comparator.<TrucoCard, Integer>comparing(card -> card.relativeValue(vira)).reversed()).toList();
+    }
+
+    private static double handPoints(List<TrucoCard> own, List<TrucoCard> opponent, TrucoCard vira) {
+        final int first = Integer.signum(own.get(0).compareValueTo(opponent.get(0), vira));
+        final int second = Integer.signum(own.get(1).compareValueTo(opponent.get(1), vira));
+        if (first == 0 && second != 0 || first != 0 && (second == 0 || second == first)) return first == 0 ? winOf(second) : winOf(first);
+        final int third = Integer.signum(own.get(2).compareValueTo(opponent.get(2), vira));
+        return third != 0 ? winOf(third) : first != 0 ? winOf(first) : 0.5;
+    }
+
+    private static double winOf(int round) {
+        return round > 0 ? 1 : 0;
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -98,4 +99,54 @@ class GameIntelTest {
         assertEquals(stepBuilder.build().hashCode(), stepBuilder.build().hashCode());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should summarize the bot cards in primitive values")
+    void shouldSummarizeTheBotCardsInPrimitiveValues() {
+        final TrucoCard zap = TrucoCard.of(FOUR, CardSuit.CLUBS);
+        final TrucoCard ace = TrucoCard.of(ACE, HEARTS);
+        final TrucoCard king = TrucoCard.of(KING, SPADES);
+        final GameIntel intel = StepBuilder.with()
+                .gameInfo(results, openCards, vira, 1)
+                .botInfo(List.of(ace, zap, king), 9)
+                .opponentScore(3)
+                .build();
+        assertAll(
+                () -> assertEquals(1L << ace.cardIndex() | 1L << zap.cardIndex() | 1L << king.cardIndex(), intel.getCardMask()),
+                () -> assertEquals(zap.cardIndex(), intel.getHighestCardIndex()),
+                () -> assertEquals(king.cardIndex(), intel.getLowestCardIndex()),
+                () -> assertEquals(1, intel.getManilhaCount()),
+                () -> assertEquals(vira.cardIndex(), intel.getViraIndex())
+        );
+    }
+
+    @Test
+    @DisplayName("Should have no highest and lowest cards if the bot has no cards")
+    void shouldHaveNoHighestAndLowestCardsIfTheBotHasNoCards() {
+        final GameIntel intel = StepBuilder.with().gameInfo(results, openCards, vira, 1).botInfo(List.of(), 9)
+                .opponentScore(3).build();
+        assertAll(
+                () -> assertEquals(0L, intel.getCardMask()),
+                () -> assertEquals(-1, intel.getHighestCardIndex()),
+                () -> assertEquals(-1, intel.getLowestCardIndex()),
+                () -> assertEquals(0, intel.getManilhaCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep the summary of the cards it was built with if the bot changes them")
+    void shouldKeepTheSummaryOfTheCardsItWasBuiltWithIfTheBotChangesThem() {
+        final TrucoCard zap = TrucoCard.of(FOUR, CardSuit.CLUBS);
+        final TrucoCard king = TrucoCard.of(KING, SPADES);
+        final GameIntel intel = StepBuilder.with().gameInfo(results, openCards, vira, 1)
+                .botInfo(new ArrayList<>(List.of(zap, king)), 9).opponentScore(3).build();
+
+        intel.getCards().remove(zap);
+
+        assertAll(
+                () -> assertEquals(1L << zap.cardIndex() | 1L << king.cardIndex(), intel.getCardMask()),
+                () -> assertEquals(zap.cardIndex(), intel.getHighestCardIndex()),
+                () -> assertEquals(1, intel.getManilhaCount())
+        );
+    }
+}
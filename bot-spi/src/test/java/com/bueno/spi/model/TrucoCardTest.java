@@ -254,4 +254,32 @@ class TrucoCardTest {
         assertEquals("[XX]", TrucoCard.closed().toString());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should map every card to a distinct index and back")
+    void shouldMapEveryCardToADistinctIndexAndBack() {
+        for (int index = 0; index < TrucoCard.NUMBER_OF_INDEXES; index++)
+            assertEquals(index, TrucoCard.ofIndex(index).cardIndex());
+        assertAll(
+                () -> assertEquals(0, TrucoCard.closed().cardIndex()),
+                () -> assertEquals(1, TrucoCard.of(FOUR, DIAMONDS).cardIndex()),
+                () -> assertEquals(40, TrucoCard.of(THREE, CLUBS).cardIndex()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> TrucoCard.ofIndex(41))
+        );
+    }
+
+    @Test
+    @DisplayName("Should have the same relative values in the table and in the card objects")
+    void shouldHaveTheSameRelativeValuesInTheTableAndInTheCardObjects() {
+        for (int viraIndex = 1; viraIndex < TrucoCard.NUMBER_OF_INDEXES; viraIndex++) {
+            final TrucoCard vira = TrucoCard.ofIndex(viraIndex);
+            for (int cardIndex = 0; cardIndex < TrucoCard.NUMBER_OF_INDEXES; cardIndex++)
+                assertEquals(TrucoCard.ofIndex(cardIndex).relativeValue(vira), TrucoCard.relativeValue(cardIndex, viraIndex));
+        }
+        assertAll(
+                () -> assertEquals(13, TrucoCard.relativeValue(TrucoCard.of(FIVE, CLUBS).cardIndex(), TrucoCard.of(FOUR, HEARTS).cardIndex())),
+                () -> assertEquals(3, TrucoCard.relativeValue(TrucoCard.of(SEVEN, CLUBS).cardIndex(), TrucoCard.of(FOUR, HEARTS).cardIndex())),
+                () -> assertThrows(IllegalStateException.class, () -> TrucoCard.relativeValue(0, 0))
+        );
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotRegistryTest {
+
+    private AtomicInteger instances;
+    private BotRegistry sut;
+
+    @BeforeEach
+    void setUp() {
+        instances = new AtomicInteger();
+        sut = new BotRegistry(Stream.of(
+                factoryOf("StatefulBot", false),
+                factoryOf("StatelessBot", true),
+                factoryOf("StatefulBot", true),
+                () -> {
+                    instances.incrementAndGet();
+                    return new FakeBatchBot();
+                }));
+    }
+
+    private Supplier<BotServiceProvider> factoryOf(String name, boolean stateless) {
+        return () -> {
+            instances.incrementAndGet();
+            return new FakeBot(name, stateless);
+        };
+    }
+
+    @Test
+    @DisplayName("Should index bot names in declaration order ignoring duplicates")
+    void shouldIndexBotNamesInDeclarationOrderIgnoringDuplicates() {
+        assertAll(
+                () -> assertEquals(List.of("StatefulBot", "StatelessBot", "BatchBot"), sut.names()),
+                () -> assertEquals(3, sut.size()),
+                () -> assertTrue(sut.contains("StatelessBot")),
+                () -> assertFalse(sut.contains("NoBot")),
+                () -> assertFalse(sut.contains(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Should scan each provider only once when created")
+    void shouldScanEachProviderOnlyOnceWhenCreated() {
+        assertEquals(4, instances.get());
+        sut.instanceForGame("StatelessBot");
+        sut.contains("StatefulBot");
+        sut.isBatchBot("BatchBot");
+        sut.names();
+        assertEquals(4, instances.get());
+    }
+
+    @Test
+    @DisplayName("Should share the same instance of a stateless bot among games")
+    void shouldShareTheSameInstanceOfAStatelessBotAmongGames() {
+        assertSame(sut.instanceForGame("StatelessBot"), sut.instanceForGame("StatelessBot"));
+    }
+
+    @Test
+    @DisplayName("Should create a new instance of a stateful bot for each game")
+    void shouldCreateANewInstanceOfAStatefulBotForEachGame() {
+        final BotServiceProvider first = sut.instanceForGame("StatefulBot");
+        final BotServiceProvider second = sut.instanceForGame("StatefulBot");
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertFalse(first.isStateless()),
+                () -> assertFalse(sut.isStateless("StatefulBot"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should create new instance on demand even if bot is stateless")
+    void shouldCreateNewInstanceOnDemandEvenIfBotIsStateless() {
+        assertNotSame(sut.instanceForGame("StatelessBot"), sut.newInstance("StatelessBot"));
+    }
+
+    @Test
+    @DisplayName("Should tell batch bots apart without creating them")
+    void shouldTellBatchBotsApartWithoutCreatingThem() {
+        assertAll(
+                () -> assertTrue(sut.isBatchBot("BatchBot")),
+                () -> assertFalse(sut.isBatchBot("StatelessBot")),
+                () -> assertThrows(NoSuchElementException.class, () -> sut.isBatchBot("NoBot")),
+                () -> assertEquals(4, instances.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw if bot is not available")
+    void shouldThrowIfBotIsNotAvailable() {
+        assertAll(
+                () -> assertThrows(NoSuchElementException.class, () -> sut.instanceForGame("NoBot")),
+                () -> assertThrows(NoSuchElementException.class, () -> sut.newInstance("NoBot")),
+                () -> assertThrows(NullPointerException.class, () -> sut.instanceForGame(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Should measure startup time")
+    void shouldMeasureStartupTime() {
+        assertFalse(sut.startupTime().isNegative());
+    }
+
+    private record FakeBot(String name, boolean stateless) implements BotServiceProvider {
+        @Override public boolean getMaoDeOnzeResponse(GameIntel intel) { return false; }
+        @Override public boolean decideIfRaises(GameIntel intel) { return false; }
+        @Override public CardToPlay chooseCard(GameIntel intel) { return null; }
+        @Override public int getRaiseResponse(GameIntel intel) { return 0; }
+        @Override public String getName() { return name; }
+        @Override public boolean isStateless() { return stateless; }
+    }
+
+    private static class FakeBatchBot implements BatchBotServiceProvider {
+        @Override public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) { return new boolean[intels.length]; }
+        @Override public boolean[] decideIfRaises(GameIntel[] intels) { return new boolean[intels.length]; }
+        @Override public CardToPlay[] chooseCards(GameIntel[] intels) { return new CardToPlay[intels.length]; }
+        @Override public int[] getRaiseResponses(GameIntel[] intels) { return new int[intels.length]; }
+        @Override public String getName() { return "BatchBot"; }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.bot.dtos.BotDecisionMetricsDto;
+
+import java.util.List;
+
+public class BotMetricsPrinter implements Command<Void> {
+    private final List<BotDecisionMetricsDto> metrics;
+    private final int maxLines;
+
+    public BotMetricsPrinter(List<BotDecisionMetricsDto> metrics, int maxLines) {
+        this.metrics = metrics;
+        this.maxLines = maxLines;
+    }
+
+    @Override
+    public Void execute() {
+        System.out.println("\nBot think time (slowest p99 first, in microseconds)");
+        System.out.printf("%-25s %-21s %9s %9s %9s %9s %9s %8s%n",
+                "Bot", "Decision", "Count", "Mean", "p50", "p99", "Max", "Invalid");
+        metrics.stream().limit(maxLines).forEach(line -> System.out.printf("%-25.25s %-21s %9d %9.1f %9.1f %9.1f %9.1f %8d%n",
+                line.botName(), line.decision(), line.decisions(), micros(line.meanNanos()), micros(line.p50Nanos()),
+                micros(line.p99Nanos()), micros(line.maxNanos()), line.invalidResponses()));
+        if (metrics.size() > maxLines) System.out.println("... " + (metrics.size() - maxLines) + " faster decisions omitted.");
+        System.out.println("================================================================");
+        return null;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
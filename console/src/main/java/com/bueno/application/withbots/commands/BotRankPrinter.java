@@ -13,7 +13,7 @@ public class BotRankPrinter implements Command<Void> {
 
     @Override
     public Void execute() {
-        System.out.println("Rank Of Bots");
+        System.out.println("\nRank Of Bots");
         int rank = 0;
         for (var set : botRankMap.entrySet()) {
             rank++;
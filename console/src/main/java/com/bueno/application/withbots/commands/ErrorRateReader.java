@@ -0,0 +1,33 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.google.common.primitives.Doubles;
+
+import java.util.Scanner;
+
+public class ErrorRateReader implements Command<Double> {
+
+    private final double defaultErrorRate;
+
+    public ErrorRateReader(double defaultErrorRate) {
+        this.defaultErrorRate = defaultErrorRate;
+    }
+
+    @Override
+    public Double execute() {
+        Scanner scanner = new Scanner(System.in);
+        Double errorRate;
+        while (true) {
+            System.out.print("Error rate, between 0 and 0.5 [" + defaultErrorRate + "]: ");
+            final String input = scanner.nextLine().trim();
+            if (input.isEmpty()) return defaultErrorRate;
+            errorRate = Doubles.tryParse(input);
+            if (errorRate == null || errorRate <= 0 || errorRate >= 0.5) {
+                System.out.println("Invalid input!");
+                continue;
+            }
+            break;
+        }
+        return errorRate;
+    }
+}
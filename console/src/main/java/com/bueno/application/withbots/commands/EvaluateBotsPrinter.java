@@ -22,7 +22,7 @@ public class EvaluateBotsPrinter implements Command<Void> {
 
     @Override
     public Void execute() {
-        System.out.println("================================================================");
+        System.out.println("\n================================================================");
         System.out.println("Time to compute " + numberOfGames + " games: " + computingTime + "ms.\n");
         System.out.println("Wins of " + botName + ": " + botWins + "/" + numberOfGames);
         System.out.printf("Win rate of all games: %.2f%%\n", winRate);
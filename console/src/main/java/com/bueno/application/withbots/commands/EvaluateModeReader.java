@@ -0,0 +1,30 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.google.common.primitives.Ints;
+
+import java.util.Scanner;
+
+public class EvaluateModeReader implements Command<Integer> {
+
+    public static final int FIXED = 1;
+    public static final int SEQUENTIAL = 2;
+
+    @Override
+    public Integer execute() {
+        Scanner scanner = new Scanner(System.in);
+        Integer mode;
+        while (true) {
+            System.out.println("Fixed number of games per opponent......[1]");
+            System.out.println("Stop early when the result is clear.....[2]");
+            System.out.print("Choose an evaluation mode: ");
+            mode = Ints.tryParse(scanner.nextLine().trim());
+            if (mode == null || (mode != FIXED && mode != SEQUENTIAL)) {
+                System.out.println("Invalid input!");
+                continue;
+            }
+            break;
+        }
+        return mode;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.bot.dtos.MemoizationStatsDto;
+
+import java.util.List;
+
+public class MemoizationStatsPrinter implements Command<Void> {
+    private final List<MemoizationStatsDto> stats;
+
+    public MemoizationStatsPrinter(List<MemoizationStatsDto> stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public Void execute() {
+        if (stats.isEmpty()) return null;
+        System.out.println("\nMemoized decisions of deterministic bots");
+        System.out.printf("%-25s %11s %11s %8s %10s %8s%n", "Bot", "Hits", "Misses", "Hit rate", "Evictions", "Status");
+        stats.forEach(line -> System.out.printf("%-25.25s %11d %11d %7.1f%% %10d %8s%n",
+                line.botName(), line.hits(), line.misses(), line.hitRate() * 100, line.evictions(),
+                line.enabled() ? "on" : "mismatch"));
+        System.out.println("================================================================");
+        return null;
+    }
+}
@@ -1,18 +1,14 @@
 package com.bueno.application.withbots.commands;
 
 import com.bueno.application.utils.Command;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
-
-import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
 
 public class PlayWithBotsPrinter implements Command<Void> {
     int numberOfGames;
     long computingTime;
-    List<PlayWithBotsDto> results;
+    SimulationResultDto results;
 
-    public PlayWithBotsPrinter(int numberOfGames, long computingTime, List<PlayWithBotsDto> results) {
+    public PlayWithBotsPrinter(int numberOfGames, long computingTime, SimulationResultDto results) {
         this.numberOfGames = numberOfGames;
         this.computingTime = computingTime;
         this.results = results;
@@ -22,9 +18,9 @@ public class PlayWithBotsPrinter implements Command<Void> {
     public Void execute() {
         System.out.println("\n================================================================");
         System.out.println("Time to compute " + numberOfGames + " games: " + computingTime + "ms.\n");
-        results.stream()
-                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
-                .forEach((bot, wins) -> System.out.println(bot.name() + ": " + wins));
+        System.out.println(results.bot1Name() + ": " + results.bot1Wins());
+        System.out.println(results.bot2Name() + ": " + results.bot2Wins());
+        if (results.failedGames() > 0) System.out.println("Failed games: " + results.failedGames());
         System.out.println("================================================================");
         return null;
     }
@@ -0,0 +1,30 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.google.common.primitives.Ints;
+
+import java.util.Scanner;
+
+public class RankModeReader implements Command<Integer> {
+
+    public static final int ROUND_ROBIN = 1;
+    public static final int SWISS = 2;
+
+    @Override
+    public Integer execute() {
+        Scanner scanner = new Scanner(System.in);
+        Integer mode;
+        while (true) {
+            System.out.println("Round robin, all against all.....[1]");
+            System.out.println("Swiss system, faster.............[2]");
+            System.out.print("Choose a rank mode: ");
+            mode = Ints.tryParse(scanner.nextLine().trim());
+            if (mode == null || (mode != ROUND_ROBIN && mode != SWISS)) {
+                System.out.println("Invalid input!");
+                continue;
+            }
+            break;
+        }
+        return mode;
+    }
+}
@@ -0,0 +1,29 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.game.dtos.SimulationProgressDto;
+
+import java.util.function.Consumer;
+
+public class SimulationMeterPrinter implements Command<Void>, Consumer<SimulationProgressDto> {
+    private SimulationProgressDto progress;
+
+    @Override
+    public synchronized void accept(SimulationProgressDto progress) {
+        if (this.progress != null && this.progress.gamesPlayed() > progress.gamesPlayed()) return;
+        this.progress = progress;
+        execute();
+    }
+
+    @Override
+    public synchronized Void execute() {
+        if (progress == null) {
+            System.out.println("\nSimulating... it may take a while: ");
+            return null;
+        }
+        System.out.printf("\rGames: %d/%d | %.1f games/s | %ds elapsed ",
+                progress.gamesPlayed(), progress.gamesRequested(), progress.gamesPerSecond(),
+                progress.elapsed().toSeconds());
+        return null;
+    }
+}
@@ -2,8 +2,10 @@ package com.bueno.application.withbots.features;
 
 import com.bueno.application.withbots.commands.BotsAvailablePrinter;
 import com.bueno.application.withbots.commands.BotOptionReader;
+import com.bueno.application.withbots.commands.ErrorRateReader;
+import com.bueno.application.withbots.commands.EvaluateModeReader;
 import com.bueno.application.withbots.commands.EvaluateBotsPrinter;
-import com.bueno.application.withbots.commands.WaitingMessagePrinter;
+import com.bueno.application.withbots.commands.SimulationMeterPrinter;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
 import com.bueno.domain.usecases.game.usecase.EvaluateBotsUseCase;
@@ -17,17 +19,32 @@ public class EvaluateBot {
 
         printAvailableBots(botNames);
         String botToEvaluateName = botNames.get(scanBotOption(botNames) - 1);
+        final int mode = scanEvaluateMode();
+        final double errorRate = mode == EvaluateModeReader.SEQUENTIAL ? scanErrorRate() : 0;
 
-        printWaitingMessage();
+        final SimulationMeterPrinter meterPrinter = showSimulationMeter();
 
-        printResultEvaluateBot(getEvaluateResultsDto(botToEvaluateName, botNames), botToEvaluateName);
+        printResultEvaluateBot(getEvaluateResultsDto(botToEvaluateName, botNames, mode, errorRate, meterPrinter),
+                botToEvaluateName);
     }
 
-    private EvaluateResultsDto getEvaluateResultsDto(String botToEvaluateName, List<String> botNames) {
-        EvaluateBotsUseCase useCase = new EvaluateBotsUseCase(botToEvaluateName);
+    private EvaluateResultsDto getEvaluateResultsDto(String botToEvaluateName, List<String> botNames, int mode,
+                                                     double errorRate, SimulationMeterPrinter meterPrinter) {
+        EvaluateBotsUseCase useCase = new EvaluateBotsUseCase(botToEvaluateName, meterPrinter);
+        if (mode == EvaluateModeReader.SEQUENTIAL) return useCase.getAdaptiveResults(botNames, errorRate);
         return useCase.getResults(botNames);
     }
 
+    private int scanEvaluateMode() {
+        EvaluateModeReader modeReader = new EvaluateModeReader();
+        return modeReader.execute();
+    }
+
+    private double scanErrorRate() {
+        ErrorRateReader errorRateReader = new ErrorRateReader(EvaluateBotsUseCase.DEFAULT_ERROR_RATE);
+        return errorRateReader.execute();
+    }
+
 
     private void printAvailableBots(List<String> botNames) {
         BotsAvailablePrinter printer = new BotsAvailablePrinter(botNames);
@@ -39,9 +56,10 @@ public class EvaluateBot {
         return scanOptions.execute();
     }
 
-    private void printWaitingMessage() {
-        WaitingMessagePrinter messagePrinter = new WaitingMessagePrinter();
-        messagePrinter.execute();
+    private SimulationMeterPrinter showSimulationMeter() {
+        SimulationMeterPrinter meterPrinter = new SimulationMeterPrinter();
+        meterPrinter.execute();
+        return meterPrinter;
     }
 
     private void printResultEvaluateBot(EvaluateResultsDto resultsDto, String botName) {
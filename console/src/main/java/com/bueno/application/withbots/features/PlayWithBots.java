@@ -21,9 +21,10 @@
 package com.bueno.application.withbots.features;
 
 import com.bueno.application.withbots.commands.*;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsUseCase;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.usecase.PlayWithBotsUseCase;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
 
 import java.util.List;
 import java.util.UUID;
@@ -46,15 +47,19 @@ public class PlayWithBots {
         final var bot2 = scanBotOption(botNames);
         times = scanNumberOfSimulations();
 
-        showWaitingMessage();
+        final SimulationMeterPrinter meterPrinter = showSimulationMeter();
 
         bot1Name = botNames.get(bot1 - 1);
         bot2Name = botNames.get(bot2 - 1);
 
+        final var metricsUseCase = new BotMetricsUseCase();
+        metricsUseCase.reset();
+
         final long start = System.currentTimeMillis();
-        final var results = playBotsStarter();
+        final var results = playBotsStarter(meterPrinter);
         final long end = System.currentTimeMillis();
         printResult(times, (end - start), results);
+        printBotMetrics(metricsUseCase);
     }
 
     private int scanNumberOfSimulations() {
@@ -62,8 +67,8 @@ public class PlayWithBots {
         return scanSimulations.execute();
     }
 
-    private List<PlayWithBotsDto> playBotsStarter() {
-        final var useCase = new PlayWithBotsUseCase(uuidBot1, bot1Name, bot2Name);
+    private SimulationResultDto playBotsStarter(SimulationMeterPrinter meterPrinter) {
+        final var useCase = new PlayWithBotsUseCase(uuidBot1, bot1Name, bot2Name, meterPrinter);
         return useCase.playWithBots(times);
     }
 
@@ -77,13 +82,21 @@ public class PlayWithBots {
         return scanOptions.execute();
     }
 
-    private void printResult(int numberOfGames, long computingTime, List<PlayWithBotsDto> results) {
+    private void printBotMetrics(BotMetricsUseCase metricsUseCase) {
+        BotMetricsPrinter printer = new BotMetricsPrinter(metricsUseCase.getMetrics(), 8);
+        printer.execute();
+        MemoizationStatsPrinter memoizationPrinter = new MemoizationStatsPrinter(metricsUseCase.getMemoizationStats());
+        memoizationPrinter.execute();
+    }
+
+    private void printResult(int numberOfGames, long computingTime, SimulationResultDto results) {
         PlayWithBotsPrinter printer = new PlayWithBotsPrinter(numberOfGames, computingTime, results);
         printer.execute();
     }
 
-    private void showWaitingMessage() {
-        WaitingMessagePrinter messagePrinter = new WaitingMessagePrinter();
-        messagePrinter.execute();
+    private SimulationMeterPrinter showSimulationMeter() {
+        SimulationMeterPrinter meterPrinter = new SimulationMeterPrinter();
+        meterPrinter.execute();
+        return meterPrinter;
     }
 }
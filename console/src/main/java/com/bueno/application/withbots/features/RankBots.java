@@ -1,7 +1,10 @@
 package com.bueno.application.withbots.features;
 
+import com.bueno.application.withbots.commands.BotMetricsPrinter;
 import com.bueno.application.withbots.commands.BotRankPrinter;
-import com.bueno.application.withbots.commands.WaitingMessagePrinter;
+import com.bueno.application.withbots.commands.RankModeReader;
+import com.bueno.application.withbots.commands.SimulationMeterPrinter;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsUseCase;
 import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
 
 import java.util.Collections;
@@ -13,11 +16,19 @@ import java.util.stream.Collectors;
 public class RankBots {
 
     public void allBots() {
-        RankBotsUseCase useCase = new RankBotsUseCase();
-        showWaitingMessage();
-        Map<String, Long> rankMap = useCase.rankAll();
+        final int mode = scanRankMode();
+        RankBotsUseCase useCase = new RankBotsUseCase(showSimulationMeter());
+        BotMetricsUseCase metricsUseCase = new BotMetricsUseCase();
+        metricsUseCase.reset();
+        Map<String, Long> rankMap = mode == RankModeReader.SWISS ? useCase.rankSwiss() : useCase.rankAll();
         rankMap = sortByValueDescending(rankMap);
         printRank(rankMap);
+        printBotMetrics(metricsUseCase);
+    }
+
+    private void printBotMetrics(BotMetricsUseCase metricsUseCase) {
+        BotMetricsPrinter printer = new BotMetricsPrinter(metricsUseCase.getMetrics(), 20);
+        printer.execute();
     }
 
     private void printRank(Map<String, Long> rankMap) {
@@ -25,9 +36,15 @@ public class RankBots {
         printer.execute();
     }
 
-    private void showWaitingMessage() {
-        WaitingMessagePrinter messagePrinter = new WaitingMessagePrinter();
-        messagePrinter.execute();
+    private int scanRankMode() {
+        RankModeReader modeReader = new RankModeReader();
+        return modeReader.execute();
+    }
+
+    private SimulationMeterPrinter showSimulationMeter() {
+        SimulationMeterPrinter meterPrinter = new SimulationMeterPrinter();
+        meterPrinter.execute();
+        return meterPrinter;
     }
 
     private Map<String, Long> sortByValueDescending(Map<String, Long> mapToSort) {
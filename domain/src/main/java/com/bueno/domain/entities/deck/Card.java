@@ -24,13 +24,45 @@ import java.util.Objects;
 
 public final class Card {
 
-    private static final Card[] cache = new Card[41];
+    static final int INDEXES = 41;
+    private static final byte CLOSED_MANILHA = -1;
+    private static final Card[] cache = createCache();
+    private static final byte[][] values = createValueTable();
+
     private final Suit suit;
     private final Rank rank;
+    private final byte index;
 
     private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit  = suit;
+        this.index = (byte) indexOf(rank, suit);
+    }
+
+    private static int indexOf(Rank rank, Suit suit) {
+        int rankValue = rank.value();
+        int suitValue = suit.value();
+        return rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+    }
+
+    private static Card[] createCache() {
+        final Card[] cards = new Card[INDEXES];
+        for (Rank rank : Rank.values()) {
+            for (Suit suit : Suit.values()) {
+                if (rank == Rank.HIDDEN ^ suit == Suit.HIDDEN) continue;
+                final Card card = new Card(rank, suit);
+                cards[card.index] = card;
+            }
+        }
+        return cards;
+    }
+
+    private static byte[][] createValueTable() {
+        final byte[][] table = new byte[INDEXES][INDEXES];
+        for (Card vira : cache)
+            for (Card card : cache)
+                table[vira.index][card.index] = card.computeCardValue(vira);
+        return table;
     }
 
     public static Card of(Rank rank, Suit suit){
@@ -39,37 +71,42 @@ public final class Card {
         if(rank == Rank.HIDDEN ^ suit == Suit.HIDDEN)
             throw new IllegalArgumentException("Both rank and suit must be HIDDEN or none: " + rank + suit);
 
-        return fromCache(rank, suit);
+        return cache[indexOf(rank, suit)];
     }
 
     public static Card closed(){
-        return fromCache(Rank.HIDDEN, Suit.HIDDEN);
+        return cache[0];
     }
 
-    private static Card fromCache(Rank rank, Suit suit){
-        int rankValue = rank.value();
-        int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
-
-        if(cache[cachePosition] == null) cache[cachePosition] = new Card(rank, suit);
-        return cache[cachePosition];
+    static Card ofIndex(int index) {
+        return cache[index];
     }
 
     public int compareValueTo(Card otherCard, Card vira){
-        return this.computeCardValue(vira) - otherCard.computeCardValue(vira);
+        return valueOf(this, vira) - valueOf(otherCard, vira);
     }
 
-    private int computeCardValue(Card vira) {
+    static int valueOf(Card card, Card vira) {
+        final byte value = values[vira.index][card.index];
+        if (value == CLOSED_MANILHA) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
+    }
+
+    private byte computeCardValue(Card vira) {
         if (isManilha(vira))
             return switch (suit) {
                 case DIAMONDS -> 10;
                 case SPADES -> 11;
                 case HEARTS -> 12;
                 case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
+                case HIDDEN -> CLOSED_MANILHA;
             };
-        if(rank.value() > vira.rank.value()) return rank.value() - 1;
-        return rank.value();
+        if(rank.value() > vira.rank.value()) return (byte) (rank.value() - 1);
+        return (byte) rank.value();
+    }
+
+    int index() {
+        return index;
     }
 
     public boolean isManilha(Card vira){
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.deck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>Compact encoding of cards used by the game rules in hot paths. Each card is identified by an index from 0
+ * (the closed card) to 40, so any set of cards fits in a single {@code long} mask. The relative value of every card
+ * for every possible vira is precomputed when {@link Card} is loaded, so comparing cards is an array lookup.</p>
+ *
+ * <p>This is an internal representation: the {@link Card}, {@link Rank} and {@link Suit} API is not affected.</p>
+ */
+public final class CardIndex {
+
+    public static final int SIZE = Card.INDEXES;
+    public static final long EMPTY = 0L;
+
+    private CardIndex() {
+    }
+
+    public static int of(Card card) {
+        return card.index();
+    }
+
+    public static Card cardAt(int index) {
+        if (index < 0 || index >= SIZE) throw new IndexOutOfBoundsException("Invalid card index: " + index);
+        return Card.ofIndex(index);
+    }
+
+    public static long maskOf(Card card) {
+        return 1L << card.index();
+    }
+
+    public static long maskOf(Collection<Card> cards) {
+        long mask = EMPTY;
+        for (Card card : cards) mask |= maskOf(card);
+        return mask;
+    }
+
+    public static boolean contains(long mask, Card card) {
+        return (mask & maskOf(card)) != 0;
+    }
+
+    public static List<Card> cardsOf(long mask) {
+        final List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1)
+            cards.add(Card.ofIndex(Long.numberOfTrailingZeros(remaining)));
+        return cards;
+    }
+
+    /**
+     * @return the value of the card when the given vira is turned up. Higher values win rounds: ordinary cards
+     * range from 0 (closed card) to 9 and manilhas from 10 to 13.
+     * @throws IllegalStateException if both the card and the vira are closed.
+     */
+    public static int relativeValue(Card card, Card vira) {
+        return Card.valueOf(card, vira);
+    }
+}
@@ -21,38 +21,63 @@
 package com.bueno.domain.entities.deck;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
 
+/**
+ * <p>Deck of 40 cards kept in a reusable array. Shuffling permutes the array in place and dealing only moves the top
+ * index, so a deck can be reused for every hand of a game. Decks created with the same seed deal the same cards.</p>
+ */
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
+    private static final int NUMBER_OF_CARDS = 40;
+
+    private final Card[] cards = new Card[NUMBER_OF_CARDS];
+    private final SplittableRandom random;
+    private int top;
 
     public Deck() {
+        this(new SplittableRandom());
+    }
+
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public Deck(SplittableRandom random) {
+        this.random = Objects.requireNonNull(random, "Random generator must not be null!");
         generateSortedDeck();
     }
 
     private void generateSortedDeck() {
-        for(Rank rank : Rank.values())
-            for(Suit suit : Suit.values())
-                if(rank != Rank.HIDDEN && suit != Suit.HIDDEN)
-                    cards.add(Card.of(rank, suit));
+        for (int i = 0; i < NUMBER_OF_CARDS; i++)
+            cards[i] = CardIndex.cardAt(i + 1);
     }
 
     public List<Card> take(int numberOfCards) {
-        final List<Card> cardsTaken = new ArrayList<>(cards.subList(0, numberOfCards));
-        cards.removeAll(cardsTaken);
+        if (numberOfCards < 0 || numberOfCards > size())
+            throw new IndexOutOfBoundsException("Can not take " + numberOfCards + " cards from deck of size " + size());
+        final List<Card> cardsTaken = new ArrayList<>(numberOfCards);
+        for (int i = 0; i < numberOfCards; i++) cardsTaken.add(cards[top++]);
         return cardsTaken;
     }
 
     public Card takeOne() {
-        return cards.remove(0);
+        if (size() == 0) throw new IndexOutOfBoundsException("Can not take a card from an empty deck.");
+        return cards[top++];
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        top = 0;
+        for (int i = NUMBER_OF_CARDS - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
     }
 
     public int size() {
-        return cards.size();
+        return NUMBER_OF_CARDS - top;
     }
 }
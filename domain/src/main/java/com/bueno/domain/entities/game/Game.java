@@ -49,6 +49,10 @@ public class Game {
         this(player1, player2, UUID.randomUUID(), new Deck());
     }
 
+    public Game(Player player1, Player player2, long seed) {
+        this(player1, player2, UUID.randomUUID(), new Deck(seed));
+    }
+
     public Game(Player player1, Player player2, Deck deck) {
         this(player1, player2, UUID.randomUUID(), deck);
     }
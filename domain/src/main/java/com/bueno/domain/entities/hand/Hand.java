@@ -21,6 +21,7 @@
 package com.bueno.domain.entities.hand;
 
 import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardIndex;
 import com.bueno.domain.entities.game.GameRuleViolationException;
 import com.bueno.domain.entities.hand.states.*;
 import com.bueno.domain.entities.intel.Event;
@@ -35,6 +36,8 @@ public class Hand {
     private final Card vira;
     private final List<Card> dealtCards;
     private final List<Card> openCards;
+    private final long dealtCardsMask;
+    private long openCardsMask;
     private final List<Round> roundsPlayed;
     private final List<Intel> history;
     private EnumSet<PossibleAction> possibleActions;
@@ -61,6 +64,8 @@ public class Hand {
         this.vira = vira;
         this.dealtCards = new ArrayList<>(dealtCards);
         this.openCards = new ArrayList<>(openCards);
+        this.dealtCardsMask = CardIndex.maskOf(dealtCards);
+        this.openCardsMask = CardIndex.maskOf(openCards);
         this.roundsPlayed = new ArrayList<>(roundsPlayed);
         this.history = new ArrayList<>(history);
         this.possibleActions = EnumSet.copyOf(possibleActions);
@@ -96,6 +101,7 @@ public class Hand {
         dealtCards.add(vira);
         dealtCards.addAll(firstToPlay.getCards());
         dealtCards.addAll(lastToPlay.getCards());
+        dealtCardsMask = CardIndex.maskOf(dealtCards);
 
         points = HandPoints.ONE;
         roundsPlayed = new ArrayList<>();
@@ -188,11 +194,13 @@ public class Hand {
     }
 
     public void addOpenCard(Card card){
-        if(!dealtCards.contains(card) && !card.equals(Card.closed()))
+        final boolean isClosed = card.isClosed();
+        if(!isClosed && !CardIndex.contains(dealtCardsMask, card))
             throw new GameRuleViolationException("Card has not been dealt in this hand.");
-        if(openCards.contains(card) && !card.equals(Card.closed()) )
+        if(!isClosed && CardIndex.contains(openCardsMask, card))
             throw new GameRuleViolationException("Card " + card + " has already been played during hand.");
         openCards.add(card);
+        openCardsMask |= CardIndex.maskOf(card);
     }
 
     public void checkForWinnerAfterSecondRound() {
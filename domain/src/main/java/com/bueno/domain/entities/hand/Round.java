@@ -65,8 +65,9 @@ public class Round {
     }
 
     public Optional<Card> getWinnerCard(){
-        if (firstCard.compareValueTo(lastCard, vira) == 0) return Optional.empty();
-        return firstCard.compareValueTo(lastCard, vira) > 0 ? Optional.of(firstCard) : Optional.of(lastCard);
+        final int comparison = firstCard.compareValueTo(lastCard, vira);
+        if (comparison == 0) return Optional.empty();
+        return comparison > 0 ? Optional.of(firstCard) : Optional.of(lastCard);
     }
 
     public Optional<Player> getWinner() {
@@ -17,37 +17,40 @@
  *  You should have received a copy of the GNU General Public License
  *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
  */
-
 package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
 import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
 import com.bueno.domain.usecases.bot.handlers.MaoDeOnzeHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsRegistry;
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
+import com.bueno.domain.usecases.bot.watchdog.BotWatchdog;
+import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.HandResultRepository;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceManager;
 import com.bueno.spi.service.BotServiceProvider;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
-
-import static com.bueno.domain.usecases.intel.converters.IntelConverter.fromDto;
+import java.util.UUID;
 
 public class BotUseCase {
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
     private final HandResultRepository handResultRepo;
-    private MaoDeOnzeHandler maoDeOnzeHandler;
-    private RaiseHandler raiseHandler;
-    private CardPlayingHandler cardHandler;
-    private RaiseRequestHandler requestHandler;
+    private final BotHandlers injectedHandlers;
+    private PlayCardUseCase cardUseCase;
+    private PointsProposalUseCase scoreUseCase;
 
     public BotUseCase(GameRepository gameRepo) {
         this(gameRepo, null, null, null, null, null, null);
@@ -63,35 +66,51 @@ public class BotUseCase {
         this.gameRepo = Objects.requireNonNull(gameRepo);
         this.gameResultRepo = gameResultRepo;
         this.handResultRepo = handResultRepo;
-        this.maoDeOnzeHandler = maoDeOnze;
-        this.raiseHandler = raise;
-        this.cardHandler = card;
-        this.requestHandler = request;
+        this.injectedHandlers = maoDeOnze == null && raise == null && card == null && request == null
+                ? null : new BotHandlers(maoDeOnze, raise, card, request);
     }
 
+    /**
+     * Plays every pending bot turn of the live {@code game} in a loop, until it is the turn of a human player
+     * or the game is over. The game is neither loaded nor saved here: callers persist it afterwards. Bot
+     * sessions are notified of the events of the game before each bot turn and closed once the game is over.
+     * @return the intel after the last bot action, or null if no handler could act on the bot turn.
+     */
     public Intel playWhenNecessary(Game game) {
-        final Player currentPlayer = game.currentHand().getCurrentPlayer();
-        final Intel intel = game.getIntel();
-
-        if (!isBotTurn(currentPlayer, intel)) return intel;
-
-        initializeNullHandlers(BotServiceManager.load(currentPlayer.getUsername()));
-
-        if (maoDeOnzeHandler.shouldHandle(intel))
-            return fromDto(maoDeOnzeHandler.handle(intel, currentPlayer));
-
-        if (raiseHandler.shouldHandle(intel)) {
-            final IntelDto dto = raiseHandler.handle(intel, currentPlayer);
-            if(dto != null ) return fromDto(dto);
+        final BotSessionRegistry sessions = BotSessionRegistry.getInstance();
+        final Map<UUID, BotHandlers> handlersByBot = new HashMap<>();
+        Player currentPlayer = game.currentHand().getCurrentPlayer();
+        Intel intel = game.getIntel();
+
+        try {
+            while (isBotTurn(currentPlayer, intel)) {
+                final Player bot = currentPlayer;
+                final BotHandlers handlers = handlersByBot.computeIfAbsent(bot.getUuid(), unused -> handlersOf(game, bot));
+
+                sessions.sync(game);
+                intel = handlers.play(game, intel, bot);
+                if (intel == null) return null;
+                currentPlayer = game.currentHand().getCurrentPlayer();
+            }
+            return intel;
+        } finally {
+            SpiModelAdapter.endTurn();
+            sessions.closeIfDone(game);
         }
+    }
 
-        if (cardHandler.shouldHandle(intel))
-            return fromDto(cardHandler.handle(intel, currentPlayer));
-
-        if (requestHandler.shouldHandle(intel))
-            return fromDto(requestHandler.handle(intel, currentPlayer));
-
-        return null;
+    /**
+     * Plays the pending bot turns as {@link #playWhenNecessary(Game)} and saves the game if a bot acted. The game is
+     * saved even if a bot fails, so the moves already played, whose hand and game results have already been written,
+     * are never played and written again.
+     */
+    public Intel playWhenNecessaryAndUpdate(Game game) {
+        final Intel intelBeforeBots = game.getIntel();
+        try {
+            return playWhenNecessary(game);
+        } finally {
+            if (game.getIntel() != intelBeforeBots) gameRepo.update(GameConverter.toDto(game));
+        }
     }
 
     private boolean isBotTurn(Player handPlayer, Intel intel) {
@@ -100,22 +119,41 @@ public class BotUseCase {
         return handPlayer.getUuid().equals(currentPlayerUUID.get());
     }
 
-    private void initializeNullHandlers(BotServiceProvider botService) {
-        if (maoDeOnzeHandler == null)
-            maoDeOnzeHandler = new MaoDeOnzeHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (raiseHandler == null)
-            raiseHandler = new RaiseHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (cardHandler == null)
-            cardHandler = new CardPlayingHandler(
-                    new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (requestHandler == null)
-            requestHandler = new RaiseRequestHandler(new PointsProposalUseCase(
-                    gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+    private BotHandlers handlersOf(Game game, Player bot) {
+        if (injectedHandlers != null) return injectedHandlers;
+        if (cardUseCase == null) cardUseCase = new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo);
+        if (scoreUseCase == null) scoreUseCase = new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo);
+
+        final BotServiceProvider session = BotSessionRegistry.getInstance()
+                .open(game, bot, BotServiceManager.load(bot.getUsername()));
+        final BotServiceProvider botService = BotWatchdog.interactive()
+                .guard(BotMetricsRegistry.getInstance().measure(session));
+        return new BotHandlers(
+                new MaoDeOnzeHandler(scoreUseCase, botService),
+                new RaiseHandler(scoreUseCase, botService),
+                new CardPlayingHandler(cardUseCase, botService),
+                new RaiseRequestHandler(scoreUseCase, botService));
+    }
+
+    private record BotHandlers(MaoDeOnzeHandler maoDeOnzeHandler, RaiseHandler raiseHandler,
+                               CardPlayingHandler cardHandler, RaiseRequestHandler requestHandler) {
+
+        Intel play(Game game, Intel intel, Player bot) {
+            if (maoDeOnzeHandler.shouldHandle(intel))
+                return maoDeOnzeHandler.handle(game, intel, bot);
+
+            if (raiseHandler.shouldHandle(intel)) {
+                final Intel result = raiseHandler.handle(game, intel, bot);
+                if (result != null) return result;
+            }
+
+            if (cardHandler.shouldHandle(intel))
+                return cardHandler.handle(game, intel, bot);
+
+            if (requestHandler.shouldHandle(intel))
+                return requestHandler.handle(game, intel, bot);
+
+            return null;
+        }
     }
 }
@@ -31,46 +31,110 @@ import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.GameIntel.RoundResult;
 import com.bueno.spi.model.TrucoCard;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
+/**
+ * <p>Converts the domain model to the bot SPI model and back. Cards are mapped through tables indexed by rank and
+ * suit ordinals, which are the same in both models, and the round results of a hand are shared immutable lists.</p>
+ *
+ * <p>A bot turn usually asks the bot more than once, e.g., if it raises and then which card it plays, always for the
+ * same {@link Intel}. Each thread keeps the last converted {@link GameIntel}, which is returned again while the
+ * player, its number of cards and the intel are the same objects. The bot cards are a mutable list, as bots may sort
+ * it, so the intel is converted again if the bot has changed its cards since the last call. Callers that play bot
+ * turns call {@link #endTurn()} once the turn is over, so pooled threads do not keep the last player and intel
+ * alive.</p>
+ */
 public class SpiModelAdapter {
 
-    public static GameIntel toGameIntel(Player player, Intel intel) {
-        final Function<UUID, RoundResult> toRoundResult = uuid -> uuid == null ? RoundResult.DREW
-                : uuid.equals(player.getUuid()) ? RoundResult.WON : RoundResult.LOST;
+    private static final int SUITS = Suit.values().length;
+    private static final int MAX_ROUNDS = 3;
+    private static final int ROUND_RESULT_CODES = 1 << 2 * MAX_ROUNDS;
+    private static final TrucoCard[] trucoCards = new TrucoCard[Rank.values().length * SUITS];
+    private static final Card[] cards = new Card[TrucoCard.NUMBER_OF_INDEXES];
+    private static final List<List<RoundResult>> roundResultLists = createRoundResultLists();
+    private static final ThreadLocal<LastConversion> lastConversion = new ThreadLocal<>();
 
-        final List<RoundResult> roundResults = intel.roundWinnersUuid().stream()
-                .map(winner -> winner.orElse(null))
-                .map(toRoundResult).collect(Collectors.toList());
+    static {
+        for (Rank rank : Rank.values())
+            for (Suit suit : Suit.values()) {
+                if (rank == Rank.HIDDEN ^ suit == Suit.HIDDEN) continue;
+                final TrucoCard trucoCard = TrucoCard.of(CardRank.values()[rank.ordinal()], CardSuit.values()[suit.ordinal()]);
+                trucoCards[rank.ordinal() * SUITS + suit.ordinal()] = trucoCard;
+                cards[trucoCard.cardIndex()] = Card.of(rank, suit);
+            }
+    }
 
-        final Function<List<Card>, List<TrucoCard>> toTrucoCardList = cardList ->
-                cardList.stream().map(SpiModelAdapter::toTrucoCard).collect(Collectors.toList());
+    private static List<List<RoundResult>> createRoundResultLists() {
+        final RoundResult[] results = RoundResult.values();
+        final List<List<RoundResult>> lists = new ArrayList<>(ROUND_RESULT_CODES);
+        for (int code = 0; code < ROUND_RESULT_CODES; code++) {
+            final List<RoundResult> list = new ArrayList<>();
+            for (int rest = code; (rest & 3) != 0; rest >>>= 2) list.add(results[(rest & 3) - 1]);
+            lists.add(List.copyOf(list));
+        }
+        return List.copyOf(lists);
+    }
 
-        final List<TrucoCard> openCards = toTrucoCardList.apply(intel.openCards());
-        final List<TrucoCard> botCards = toTrucoCardList.apply(player.getCards());
+    public static GameIntel toGameIntel(Player player, Intel intel) {
+        final List<Card> playerCards = player.getCards();
+        final LastConversion last = lastConversion.get();
+        if (last != null && last.player() == player && last.intel() == intel
+                && last.numberOfCards() == playerCards.size()
+                && last.gameIntel().getCards().equals(last.cards())) return last.gameIntel();
 
-        return GameIntel.StepBuilder.with()
-                .gameInfo(roundResults, openCards, toTrucoCard(intel.vira()), intel.handPoints())
+        final List<TrucoCard> botCards = toTrucoCards(playerCards);
+        final GameIntel gameIntel = GameIntel.StepBuilder.with()
+                .gameInfo(toRoundResults(player.getUuid(), intel.roundWinnersUuid()), toTrucoCards(intel.openCards()),
+                        toTrucoCard(intel.vira()), intel.handPoints())
                 .botInfo(botCards, intel.currentPlayerScore())
                 .opponentScore(intel.currentOpponentScore())
                 .opponentCard(toTrucoCard(intel.cardToPlayAgainst().orElse(null)))
                 .build();
+        lastConversion.set(new LastConversion(player, intel, playerCards.size(), List.copyOf(botCards), gameIntel));
+        return gameIntel;
+    }
+
+    /**
+     * <p>Forgets the {@link GameIntel} kept by the calling thread for the current bot turn.</p>
+     */
+    public static void endTurn() {
+        lastConversion.remove();
+    }
+
+    private static List<RoundResult> toRoundResults(UUID playerUuid, List<Optional<UUID>> roundWinners) {
+        if (roundWinners.size() > MAX_ROUNDS)
+            return roundWinners.stream().map(winner -> toRoundResult(playerUuid, winner)).toList();
+        int code = 0;
+        for (int i = 0; i < roundWinners.size(); i++)
+            code |= (toRoundResult(playerUuid, roundWinners.get(i)).ordinal() + 1) << 2 * i;
+        return roundResultLists.get(code);
+    }
+
+    private static RoundResult toRoundResult(UUID playerUuid, Optional<UUID> winner) {
+        if (winner.isEmpty()) return RoundResult.DREW;
+        return winner.get().equals(playerUuid) ? RoundResult.WON : RoundResult.LOST;
+    }
+
+    private static List<TrucoCard> toTrucoCards(List<Card> cardList) {
+        final List<TrucoCard> converted = new ArrayList<>(cardList.size());
+        for (Card card : cardList) converted.add(toTrucoCard(card));
+        return converted;
     }
 
     public static Card toCard(TrucoCard card){
         if(card == null) return null;
-        final String rankName = card.getRank().toString();
-        final String suitName = card.getSuit().toString();
-        return Card.of(Rank.ofSymbol(rankName), Suit.ofSymbol(suitName));
+        return cards[card.cardIndex()];
     }
 
-    private static TrucoCard toTrucoCard(Card card){
+    public static TrucoCard toTrucoCard(Card card){
         if(card == null) return null;
-        final String rankName = card.getRank().toString();
-        final String suitName = card.getSuit().toString();
-        return TrucoCard.of(CardRank.ofSymbol(rankName), CardSuit.ofSymbol(suitName));
+        return trucoCards[card.getRank().ordinal() * SUITS + card.getSuit().ordinal()];
+    }
+
+    private record LastConversion(Player player, Intel intel, int numberOfCards, List<TrucoCard> cards,
+                                  GameIntel gameIntel) {
     }
 }
@@ -0,0 +1,9 @@
+package com.bueno.domain.usecases.bot.dtos;
+
+/**
+ * <p>Latency of a bot decision since the metrics were last reset. Percentiles are upper bounds of the histogram
+ * buckets, which are at most 6.25% above the exact values.</p>
+ */
+public record BotDecisionMetricsDto(String botName, String decision, long decisions, long invalidResponses,
+                                    long meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+}
@@ -0,0 +1,14 @@
+package com.bueno.domain.usecases.bot.dtos;
+
+/**
+ * <p>Decision cache usage of a deterministic bot since the memoizer was last cleared. A bot whose cached decisions
+ * have not matched a verification run is no longer memoized and is reported as disabled.</p>
+ */
+public record MemoizationStatsDto(String botName, long hits, long misses, long evictions, long verifications,
+                                  long mismatches, boolean enabled) {
+
+    public double hitRate() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bueno.domain.usecases.bot.dtos;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+
+/**
+ * <p>How the decisions of a bot compare to the best moves of a solver that sees all the cards. Points lost are the
+ * hand points the bot gave up against the best move, summed over its decisions.</p>
+ */
+public record SolverAnalysisDto(String botName, BotDecision decision, long decisions, long bestDecisions,
+                                long pointsLost) {
+
+    public double bestDecisionRate() {
+        return decisions == 0 ? 0.0 : (double) bestDecisions / decisions;
+    }
+
+    public double averagePointsLost() {
+        return decisions == 0 ? 0.0 : (double) pointsLost / decisions;
+    }
+}
@@ -20,13 +20,11 @@
 
 package com.bueno.domain.usecases.bot.handlers;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
-import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
-import com.bueno.domain.usecases.intel.converters.CardConverter;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
 import static com.bueno.domain.entities.intel.PossibleAction.PLAY;
@@ -44,14 +42,12 @@ public class CardPlayingHandler implements Handler{
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
-        final var botUuid = bot.getUuid();
+    public Intel handle(Game game, Intel intel, Player bot) {
         final var chosenCard = botService.chooseCard(toGameIntel(bot, intel));
         final var card = toCard(chosenCard.content());
-        final var requestModel = new PlayCardDto(botUuid, CardConverter.toDto(card));
 
-        if (chosenCard.isDiscard()) return cardUseCase.discard(requestModel);
-        return cardUseCase.playCard(requestModel);
+        if (chosenCard.isDiscard()) return cardUseCase.discard(game, card);
+        return cardUseCase.playCard(game, card);
     }
 
     @Override
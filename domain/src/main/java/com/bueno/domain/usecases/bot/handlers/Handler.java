@@ -20,11 +20,11 @@
 
 package com.bueno.domain.usecases.bot.handlers;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 
 interface Handler {
-    IntelDto handle(Intel intel, Player bot);
+    Intel handle(Game game, Intel intel, Player bot);
     boolean shouldHandle(Intel intel);
 }
@@ -20,11 +20,11 @@
 
 package com.bueno.domain.usecases.bot.handlers;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.HandPoints;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
 import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
@@ -40,11 +40,10 @@ public class MaoDeOnzeHandler implements Handler {
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
-        final var botUuid = bot.getUuid();
+    public Intel handle(Game game, Intel intel, Player bot) {
         final var hasAccepted = botService.getMaoDeOnzeResponse(toGameIntel(bot, intel));
-        if (hasAccepted) return scoreUseCase.accept(botUuid);
-        return scoreUseCase.quit(botUuid);
+        if (hasAccepted) return scoreUseCase.accept(game);
+        return scoreUseCase.quit(game);
     }
 
     @Override
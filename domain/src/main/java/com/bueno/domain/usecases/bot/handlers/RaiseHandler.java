@@ -20,11 +20,11 @@
 
 package com.bueno.domain.usecases.bot.handlers;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
 import java.util.EnumSet;
@@ -44,9 +44,9 @@ public class RaiseHandler implements Handler {
         this.botService = botService;
     }
 
-    public IntelDto handle(Intel intel, Player bot){
+    public Intel handle(Game game, Intel intel, Player bot){
         final boolean wantToRaise = botService.decideIfRaises(toGameIntel(bot, intel));
-        if (wantToRaise) return scoreUseCase.raise(bot.getUuid());
+        if (wantToRaise) return scoreUseCase.raise(game);
         return null;
     }
 
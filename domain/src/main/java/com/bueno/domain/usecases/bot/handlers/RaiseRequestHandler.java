@@ -20,11 +20,11 @@
 
 package com.bueno.domain.usecases.bot.handlers;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
 import java.util.EnumSet;
@@ -43,8 +43,7 @@ public class RaiseRequestHandler implements Handler{
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
-        final var botUuid = bot.getUuid();
+    public Intel handle(Game game, Intel intel, Player bot) {
         final var actions = intel.possibleActions().stream()
                 .map(PossibleAction::valueOf)
                 .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
@@ -54,9 +53,9 @@ public class RaiseRequestHandler implements Handler{
         if(hasAlreadyReachedHandPointsLimit(actions, response)) response = 0;
 
         return switch (response) {
-            case -1 -> scoreUseCase.quit(botUuid);
-            case 0 -> scoreUseCase.accept(botUuid);
-            case 1 -> scoreUseCase.raise(botUuid);
+            case -1 -> scoreUseCase.quit(game);
+            case 0 -> scoreUseCase.accept(game);
+            case 1 -> scoreUseCase.raise(game);
             default -> null;
         };
     }
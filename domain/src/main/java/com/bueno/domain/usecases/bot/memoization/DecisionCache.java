@@ -0,0 +1,61 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Bounded concurrent cache with two generations. New entries go to the young generation and, when it is full, the
+ * old generation is dropped and the young one takes its place. Entries found in the old generation are copied back
+ * to the young one, so the entries in use survive and the cache never holds more than twice the generation size.</p>
+ */
+final class DecisionCache<K, V> {
+
+    private final int generationSize;
+    private final LongAdder evictions = new LongAdder();
+    private volatile Map<K, V> young;
+    private volatile Map<K, V> old;
+
+    DecisionCache(int capacity) {
+        if (capacity < 2) throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        this.generationSize = capacity / 2;
+        this.young = new ConcurrentHashMap<>();
+        this.old = new ConcurrentHashMap<>();
+    }
+
+    V get(K key) {
+        final V value = young.get(key);
+        if (value != null) return value;
+        final V oldValue = old.get(key);
+        if (oldValue != null) put(key, oldValue);
+        return oldValue;
+    }
+
+    void put(K key, V value) {
+        final Map<K, V> current = young;
+        current.put(key, value);
+        if (current.size() >= generationSize) rotate(current);
+    }
+
+    private synchronized void rotate(Map<K, V> full) {
+        if (young != full) return;
+        evictions.add(old.size());
+        old = full;
+        young = new ConcurrentHashMap<>();
+    }
+
+    void clear() {
+        synchronized (this) {
+            young = new ConcurrentHashMap<>();
+            old = new ConcurrentHashMap<>();
+        }
+    }
+
+    int size() {
+        return young.size() + old.size();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,133 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import com.bueno.domain.usecases.bot.dtos.MemoizationStatsDto;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Caches the decisions of the bots that declare themselves {@link BotServiceProvider#isDeterministic()
+ * deterministic}, keyed by the decision and the game intel. Each bot has its own bounded cache, shared by all the
+ * games it plays. Other bots are returned unchanged by {@link #memoize(BotServiceProvider)}.</p>
+ *
+ * <p>A fraction of the cache hits, given by the verification rate, also asks the bot and compares the answers. The
+ * first mismatch disables memoization for that bot, since it is not as deterministic as it claims. The shared
+ * instance reads its capacity per bot and verification rate from the {@value #CAPACITY_PROPERTY} and
+ * {@value #VERIFICATION_RATE_PROPERTY} system properties.</p>
+ */
+public final class DecisionMemoizer {
+    public static final String CAPACITY_PROPERTY = "ctruco.bot.memoization.capacity";
+    public static final String VERIFICATION_RATE_PROPERTY = "ctruco.bot.memoization.verification-rate";
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    public static final double DEFAULT_VERIFICATION_RATE = 0.001;
+
+    private final Map<String, BotMemo> memos = new ConcurrentHashMap<>();
+    private final int capacity;
+    private volatile double verificationRate;
+
+    public DecisionMemoizer(int capacity, double verificationRate) {
+        if (capacity < 2) throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        this.capacity = capacity;
+        setVerificationRate(verificationRate);
+    }
+
+    private static final class Holder {
+        private static final DecisionMemoizer INSTANCE = new DecisionMemoizer(
+                Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY),
+                Double.parseDouble(System.getProperty(VERIFICATION_RATE_PROPERTY,
+                        String.valueOf(DEFAULT_VERIFICATION_RATE))));
+    }
+
+    public static DecisionMemoizer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public BotServiceProvider memoize(BotServiceProvider botService) {
+        Objects.requireNonNull(botService, "Bot service must not be null!");
+        if (botService instanceof MemoizedBotService || !botService.isDeterministic()) return botService;
+        return new MemoizedBotService(botService,
+                memos.computeIfAbsent(botService.getName(), unused -> new BotMemo(new DecisionCache<>(capacity))));
+    }
+
+    /**
+     * @param verificationRate fraction of the cache hits to verify, from 0 (never) to 1 (always).
+     */
+    public void setVerificationRate(double verificationRate) {
+        if (verificationRate < 0.0 || verificationRate > 1.0)
+            throw new IllegalArgumentException("Verification rate must be between 0 and 1: " + verificationRate);
+        this.verificationRate = verificationRate;
+    }
+
+    public double getVerificationRate() {
+        return verificationRate;
+    }
+
+    /**
+     * @return cache usage of every memoized bot, ordered by bot name.
+     */
+    public List<MemoizationStatsDto> stats() {
+        return memos.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * <p>Drops the cached decisions and statistics of all bots, enabling again the ones disabled by a mismatch.</p>
+     */
+    public void clear() {
+        memos.clear();
+    }
+
+    final class BotMemo {
+        private final DecisionCache<IntelKey, Object> cache;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder verifications = new LongAdder();
+        private final LongAdder mismatches = new LongAdder();
+        private volatile boolean enabled = true;
+
+        private BotMemo(DecisionCache<IntelKey, Object> cache) {
+            this.cache = cache;
+        }
+
+        DecisionCache<IntelKey, Object> cache() {
+            return cache;
+        }
+
+        LongAdder hits() {
+            return hits;
+        }
+
+        LongAdder misses() {
+            return misses;
+        }
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        boolean shouldVerify() {
+            final double rate = verificationRate;
+            return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+        }
+
+        void verify(boolean matched) {
+            verifications.increment();
+            if (matched) return;
+            mismatches.increment();
+            enabled = false;
+            cache.clear();
+        }
+
+        private MemoizationStatsDto toDto(String botName) {
+            return new MemoizationStatsDto(botName, hits.sum(), misses.sum(), cache.evictions(), verifications.sum(),
+                    mismatches.sum(), enabled);
+        }
+    }
+}
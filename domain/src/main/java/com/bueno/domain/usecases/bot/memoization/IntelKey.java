@@ -0,0 +1,50 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Canonical encoding of a {@link BotDecision} and the {@link GameIntel} it is taken upon in two longs. Each card
+ * takes six bits: zero for no card, one for a closed card and 2 to 41 for the open ones. The order of the cards is
+ * kept, since bots may depend on it. Intel that does not fit, which never happens in a valid game, has no key.</p>
+ */
+record IntelKey(long high, long low) {
+    private static final int CARD_BITS = 6;
+    private static final int MAX_CARDS = 3;
+    private static final int MAX_OPEN_CARDS = 10;
+    private static final int MAX_ROUNDS = 3;
+    private static final int MAX_SCORE = 31;
+    private static final int MAX_HAND_POINTS = 15;
+
+    static Optional<IntelKey> of(BotDecision decision, GameIntel intel) {
+        final List<TrucoCard> cards = intel.getCards();
+        final List<TrucoCard> openCards = intel.getOpenCards();
+        final List<GameIntel.RoundResult> roundResults = intel.getRoundResults();
+        if (cards.size() > MAX_CARDS || openCards.size() > MAX_OPEN_CARDS || roundResults.size() > MAX_ROUNDS
+                || intel.getScore() > MAX_SCORE || intel.getOpponentScore() > MAX_SCORE
+                || intel.getHandPoints() > MAX_HAND_POINTS) return Optional.empty();
+
+        long low = decision.ordinal();
+        low = low << CARD_BITS | codeOf(intel.getVira());
+        low = low << CARD_BITS | intel.getOpponentCard().map(IntelKey::codeOf).orElse(0);
+        low = low << 2 | cards.size();
+        for (TrucoCard card : cards) low = low << CARD_BITS | codeOf(card);
+        low = low << 2 | roundResults.size();
+        for (GameIntel.RoundResult result : roundResults) low = low << 2 | result.ordinal();
+        low = low << 5 | intel.getScore();
+        low = low << 5 | intel.getOpponentScore();
+        low = low << 4 | intel.getHandPoints();
+
+        long high = openCards.size();
+        for (TrucoCard card : openCards) high = high << CARD_BITS | codeOf(card);
+        return Optional.of(new IntelKey(high, low));
+    }
+
+    private static int codeOf(TrucoCard card) {
+        return card.cardIndex() + 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.bueno.domain.usecases.bot.metrics.BotDecision.*;
+
+class MemoizedBotService implements BotServiceProvider {
+
+    private final BotServiceProvider botService;
+    private final DecisionMemoizer.BotMemo memo;
+
+    MemoizedBotService(BotServiceProvider botService, DecisionMemoizer.BotMemo memo) {
+        this.botService = botService;
+        this.memo = memo;
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return decide(MAO_DE_ONZE_RESPONSE, intel, botService::getMaoDeOnzeResponse);
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return decide(DECIDE_IF_RAISES, intel, botService::decideIfRaises);
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return decide(CHOOSE_CARD, intel, botService::chooseCard);
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return decide(RAISE_RESPONSE, intel, botService::getRaiseResponse);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decide(BotDecision decision, GameIntel intel, Function<GameIntel, T> call) {
+        if (!memo.isEnabled()) return call.apply(intel);
+        final Optional<IntelKey> key = IntelKey.of(decision, intel);
+        if (key.isEmpty()) return call.apply(intel);
+
+        final T cached = (T) memo.cache().get(key.get());
+        if (cached == null) {
+            memo.misses().increment();
+            final T decided = call.apply(intel);
+            if (decided != null) memo.cache().put(key.get(), decided);
+            return decided;
+        }
+        memo.hits().increment();
+        if (!memo.shouldVerify()) return cached;
+
+        final T decided = call.apply(intel);
+        memo.verify(Objects.equals(cached, decided));
+        return decided;
+    }
+
+    @Override
+    public String getName() {
+        return botService.getName();
+    }
+
+    @Override
+    public boolean isStateless() {
+        return botService.isStateless();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return botService.isDeterministic();
+    }
+}
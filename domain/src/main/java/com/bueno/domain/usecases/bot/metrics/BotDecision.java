@@ -0,0 +1,11 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+/**
+ * <p>The decisions a {@code BotServiceProvider} is asked to take.</p>
+ */
+public enum BotDecision {
+    MAO_DE_ONZE_RESPONSE,
+    DECIDE_IF_RAISES,
+    CHOOSE_CARD,
+    RAISE_RESPONSE
+}
@@ -0,0 +1,99 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import com.bueno.domain.usecases.bot.dtos.BotDecisionMetricsDto;
+import com.bueno.spi.service.BatchBotServiceProvider;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Keeps a {@link LatencyHistogram} and an invalid response counter for each bot and {@link BotDecision}. Bot
+ * services are measured by wrapping them with {@link #measure(BotServiceProvider)}, which is done by
+ * {@code BotUseCase} and {@code SimulationEngine} for every bot they load, and by {@code InterleavedSimulation} for
+ * the batch bots it shares among games. Invalid responses are the decisions that throw, raise responses other than
+ * -1, 0 and 1, and cards that are not in the bot hand.</p>
+ */
+public final class BotMetricsRegistry {
+
+    private final Map<String, DecisionMetrics[]> metricsByBot = new ConcurrentHashMap<>();
+
+    BotMetricsRegistry() {
+    }
+
+    private static final class Holder {
+        private static final BotMetricsRegistry INSTANCE = new BotMetricsRegistry();
+    }
+
+    public static BotMetricsRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public BotServiceProvider measure(BotServiceProvider botService) {
+        Objects.requireNonNull(botService, "Bot service must not be null!");
+        if (botService instanceof MeasuredBotService) return botService;
+        return new MeasuredBotService(botService, this);
+    }
+
+    /**
+     * <p>Measures each batch of decisions of a batch bot as its decisions taking the average time of the batch.</p>
+     */
+    public BatchBotServiceProvider measure(BatchBotServiceProvider botService) {
+        Objects.requireNonNull(botService, "Bot service must not be null!");
+        if (botService instanceof MeasuredBatchBotService) return botService;
+        return new MeasuredBatchBotService(botService, this);
+    }
+
+    void record(String botName, BotDecision decision, long nanos) {
+        metricsOf(botName)[decision.ordinal()].latency().record(nanos);
+    }
+
+    void recordInvalid(String botName, BotDecision decision) {
+        metricsOf(botName)[decision.ordinal()].invalidResponses().increment();
+    }
+
+    private DecisionMetrics[] metricsOf(String botName) {
+        return metricsByBot.computeIfAbsent(botName, unused -> Arrays.stream(BotDecision.values())
+                .map(decision -> new DecisionMetrics(new LatencyHistogram(), new LongAdder()))
+                .toArray(DecisionMetrics[]::new));
+    }
+
+    /**
+     * @return metrics of the decisions taken at least once, ordered by bot name and decision.
+     */
+    public List<BotDecisionMetricsDto> snapshot() {
+        return metricsByBot.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entry -> Arrays.stream(BotDecision.values())
+                        .map(decision -> toDto(entry.getKey(), decision, entry.getValue()[decision.ordinal()])))
+                .filter(dto -> dto.decisions() > 0)
+                .toList();
+    }
+
+    public List<BotDecisionMetricsDto> snapshotOrderedByP99() {
+        return snapshot().stream()
+                .sorted(Comparator.comparingLong(BotDecisionMetricsDto::p99Nanos).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        metricsByBot.values().stream().flatMap(Arrays::stream).forEach(metrics -> {
+            metrics.latency().reset();
+            metrics.invalidResponses().reset();
+        });
+    }
+
+    private static BotDecisionMetricsDto toDto(String botName, BotDecision decision, DecisionMetrics metrics) {
+        final LatencyHistogram latency = metrics.latency();
+        return new BotDecisionMetricsDto(botName, decision.name(), latency.count(), metrics.invalidResponses().sum(),
+                latency.mean(), latency.percentile(50), latency.percentile(90), latency.percentile(99), latency.max());
+    }
+
+    private record DecisionMetrics(LatencyHistogram latency, LongAdder invalidResponses) {
+    }
+}
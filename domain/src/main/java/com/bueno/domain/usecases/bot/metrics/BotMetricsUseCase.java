@@ -0,0 +1,50 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import com.bueno.domain.usecases.bot.dtos.BotDecisionMetricsDto;
+import com.bueno.domain.usecases.bot.dtos.MemoizationStatsDto;
+import com.bueno.domain.usecases.bot.memoization.DecisionMemoizer;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class BotMetricsUseCase {
+
+    private final BotMetricsRegistry registry;
+    private final DecisionMemoizer memoizer;
+
+    public BotMetricsUseCase() {
+        this(BotMetricsRegistry.getInstance(), DecisionMemoizer.getInstance());
+    }
+
+    BotMetricsUseCase(BotMetricsRegistry registry, DecisionMemoizer memoizer) {
+        this.registry = Objects.requireNonNull(registry, "Registry must not be null!");
+        this.memoizer = Objects.requireNonNull(memoizer, "Memoizer must not be null!");
+    }
+
+    /**
+     * @return latency and invalid responses of every bot decision taken since the last reset, from the slowest p99
+     * to the fastest.
+     */
+    public List<BotDecisionMetricsDto> getMetrics() {
+        return registry.snapshotOrderedByP99();
+    }
+
+    public List<BotDecisionMetricsDto> getMetricsOf(String botName) {
+        Objects.requireNonNull(botName, "Bot name must not be null!");
+        return registry.snapshot().stream().filter(metrics -> metrics.botName().equals(botName)).toList();
+    }
+
+    /**
+     * @return decision cache hit rate of every deterministic bot played in simulations since the last reset.
+     */
+    public List<MemoizationStatsDto> getMemoizationStats() {
+        return memoizer.stats();
+    }
+
+    public void reset() {
+        registry.reset();
+        memoizer.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Lock-free latency histogram in the style of HdrHistogram. Values are counted in log-linear buckets: each power of
+ * two is split in {@value #SUB_BUCKETS} sub-buckets, so any recorded value is reported with a relative error below
+ * 1/{@value #SUB_BUCKETS}. Values from zero to {@link #MAX_VALUE} nanoseconds (about 18 minutes) take a fixed array
+ * of counters, and larger values are counted as {@link #MAX_VALUE}.</p>
+ *
+ * <p>Recording is wait-free and safe for any number of threads. Reading while other threads record gives a consistent
+ * enough view for monitoring purposes, but not an atomic snapshot.</p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_BITS = 40;
+    public static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public void record(long nanos) {
+        final long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long mean() {
+        final long total = count.sum();
+        return total == 0 ? 0 : sum.sum() / total;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile a value in the range [0, 100].
+     * @return the highest value of the bucket that contains the given percentile, or zero if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be in the range [0, 100]: " + percentile);
+        final long total = count.sum();
+        if (total == 0) return 0;
+
+        final long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long accumulated = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            accumulated += counts.get(i);
+            if (accumulated >= target) return Math.min(highestValueAt(i), max());
+        }
+        return max();
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) counts.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKETS) return index;
+        final int shift = index / SUB_BUCKETS - 1;
+        final long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BatchBotServiceProvider;
+
+import java.lang.reflect.Array;
+import java.util.function.Function;
+
+class MeasuredBatchBotService implements BatchBotServiceProvider {
+
+    private final BatchBotServiceProvider botService;
+    private final BotMetricsRegistry registry;
+    private final String botName;
+
+    MeasuredBatchBotService(BatchBotServiceProvider botService, BotMetricsRegistry registry) {
+        this.botService = botService;
+        this.registry = registry;
+        this.botName = botService.getName();
+    }
+
+    @Override
+    public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) {
+        return measure(BotDecision.MAO_DE_ONZE_RESPONSE, intels, botService::getMaoDeOnzeResponses,
+                (responses, i) -> true);
+    }
+
+    @Override
+    public boolean[] decideIfRaises(GameIntel[] intels) {
+        return measure(BotDecision.DECIDE_IF_RAISES, intels, botService::decideIfRaises, (raises, i) -> true);
+    }
+
+    @Override
+    public CardToPlay[] chooseCards(GameIntel[] intels) {
+        return measure(BotDecision.CHOOSE_CARD, intels, botService::chooseCards,
+                (cards, i) -> cards[i] != null && intels[i].getCards().contains(cards[i].content()));
+    }
+
+    @Override
+    public int[] getRaiseResponses(GameIntel[] intels) {
+        return measure(BotDecision.RAISE_RESPONSE, intels, botService::getRaiseResponses,
+                (responses, i) -> responses[i] >= -1 && responses[i] <= 1);
+    }
+
+    /**
+     * <p>Records the time of the batch split evenly among its decisions, so a batch of n decisions counts as n
+     * decisions taking its average time.</p>
+     */
+    private <T> T measure(BotDecision decision, GameIntel[] intels, Function<GameIntel[], T> call,
+                          ElementValidator<T> isValid) {
+        final long start = System.nanoTime();
+        try {
+            final T responses = call.apply(intels);
+            recordEach(decision, intels.length, System.nanoTime() - start);
+            final int length = responses == null ? 0 : Array.getLength(responses);
+            for (int i = 0; i < intels.length; i++)
+                if (i >= length || !isValid.test(responses, i)) registry.recordInvalid(botName, decision);
+            return responses;
+        } catch (RuntimeException e) {
+            recordEach(decision, intels.length, System.nanoTime() - start);
+            for (int i = 0; i < intels.length; i++) registry.recordInvalid(botName, decision);
+            throw e;
+        }
+    }
+
+    private void recordEach(BotDecision decision, int decisions, long nanos) {
+        for (int i = 0; i < decisions; i++) registry.record(botName, decision, nanos / decisions);
+    }
+
+    @FunctionalInterface
+    private interface ElementValidator<T> {
+        boolean test(T responses, int index);
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return botService.isStateless();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return botService.isDeterministic();
+    }
+}
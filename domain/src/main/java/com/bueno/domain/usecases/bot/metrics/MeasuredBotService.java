@@ -0,0 +1,72 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+class MeasuredBotService implements BotServiceProvider {
+
+    private final BotServiceProvider botService;
+    private final BotMetricsRegistry registry;
+    private final String botName;
+
+    MeasuredBotService(BotServiceProvider botService, BotMetricsRegistry registry) {
+        this.botService = botService;
+        this.registry = registry;
+        this.botName = botService.getName();
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return measure(BotDecision.MAO_DE_ONZE_RESPONSE, intel, botService::getMaoDeOnzeResponse, response -> true);
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return measure(BotDecision.DECIDE_IF_RAISES, intel, botService::decideIfRaises, response -> true);
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return measure(BotDecision.CHOOSE_CARD, intel, botService::chooseCard,
+                response -> response != null && intel.getCards().contains(response.content()));
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return measure(BotDecision.RAISE_RESPONSE, intel, botService::getRaiseResponse,
+                response -> response >= -1 && response <= 1);
+    }
+
+    private <T> T measure(BotDecision decision, GameIntel intel, Function<GameIntel, T> call, Predicate<T> isValid) {
+        final long start = System.nanoTime();
+        try {
+            final T response = call.apply(intel);
+            registry.record(botName, decision, System.nanoTime() - start);
+            if (!isValid.test(response)) registry.recordInvalid(botName, decision);
+            return response;
+        } catch (RuntimeException e) {
+            registry.record(botName, decision, System.nanoTime() - start);
+            registry.recordInvalid(botName, decision);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return botService.isStateless();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return botService.isDeterministic();
+    }
+}
@@ -0,0 +1,159 @@
+package com.bueno.domain.usecases.bot.session;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.BotSession;
+import com.bueno.spi.service.BotSessionFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toTrucoCard;
+
+/**
+ * <p>Keeps one {@link BotSession} per bot and game for the bots implementing {@link BotSessionFactory}. Sessions
+ * outlive the bot services loaded for each request and are identified by the game and bot UUIDs, so the web
+ * application, which rebuilds the game on every request, keeps talking to the same session.</p>
+ *
+ * <p>Game events are not pushed by the entities. Instead, {@link #sync(Game)} replays the intel history of the game
+ * from where each session stopped, and must be called before the bots of the game decide. Sessions must be
+ * released with {@link #close(UUID)} when the game is over or removed.</p>
+ */
+public final class BotSessionRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(BotSessionRegistry.class.getName());
+
+    private final Map<UUID, Map<UUID, SessionState>> sessionsByGame = new ConcurrentHashMap<>();
+
+    BotSessionRegistry() {
+    }
+
+    private static final class Holder {
+        private static final BotSessionRegistry INSTANCE = new BotSessionRegistry();
+    }
+
+    public static BotSessionRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return the session of the bot in the game, created on the first call, or {@code botService} itself if the
+     * bot does not implement {@link BotSessionFactory}.
+     */
+    public BotServiceProvider open(Game game, Player bot, BotServiceProvider botService) {
+        Objects.requireNonNull(game, "Game must not be null!");
+        Objects.requireNonNull(bot, "Bot must not be null!");
+        Objects.requireNonNull(botService, "Bot service must not be null!");
+        if (!(botService instanceof BotSessionFactory factory) || game.getUuid() == null) return botService;
+
+        final SessionState state = sessionsByGame.computeIfAbsent(game.getUuid(), unused -> new ConcurrentHashMap<>())
+                .computeIfAbsent(bot.getUuid(), unused -> new SessionState(bot.getUuid(), bot.getUsername(),
+                        Objects.requireNonNull(factory.newSession(), "Bot session must not be null!")));
+        return new SessionBotService(state.session, botService.getName());
+    }
+
+    /**
+     * <p>Notifies every session of the game of the events that happened since the last call.</p>
+     */
+    public void sync(Game game) {
+        final Map<UUID, SessionState> sessions = sessionsOf(game);
+        if (sessions == null) return;
+        sessions.values().forEach(state -> state.catchUp(game));
+    }
+
+    /**
+     * <p>Notifies the sessions of the last events of the game and closes them if the game is over.</p>
+     */
+    public void closeIfDone(Game game) {
+        if (sessionsOf(game) == null || !game.isDone()) return;
+        sync(game);
+        close(game.getUuid());
+    }
+
+    private Map<UUID, SessionState> sessionsOf(Game game) {
+        final UUID gameUuid = game.getUuid();
+        return gameUuid == null ? null : sessionsByGame.get(gameUuid);
+    }
+
+    public void close(UUID gameUuid) {
+        if (gameUuid == null) return;
+        final Map<UUID, SessionState> sessions = sessionsByGame.remove(gameUuid);
+        if (sessions == null) return;
+        sessions.values().forEach(SessionState::close);
+    }
+
+    public int openSessions() {
+        return sessionsByGame.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static final class SessionState {
+        private final UUID botUuid;
+        private final String botName;
+        private final BotSession session;
+        private int handIndex;
+        private int intelIndex;
+
+        private SessionState(UUID botUuid, String botName, BotSession session) {
+            this.botUuid = botUuid;
+            this.botName = botName;
+            this.session = session;
+        }
+
+        private synchronized void catchUp(Game game) {
+            final List<Hand> hands = game.getHands();
+            if (handIndex >= hands.size()) return;
+            while (true) {
+                final Hand hand = hands.get(handIndex);
+                final List<Intel> history = hand.getIntelHistory();
+                for (; intelIndex < history.size(); intelIndex++) notify(history.get(intelIndex));
+                if (hand.getResult().isEmpty() || handIndex == hands.size() - 1 && !game.isDone()) return;
+                session.onHandEnd(resultOf(hand.getResult().get()), hand.getPoints().get());
+                handIndex++;
+                intelIndex = 0;
+                if (handIndex == hands.size()) return;
+            }
+        }
+
+        private void notify(Intel intel) {
+            final Event event = intel.event().map(Event::valueOf).orElse(null);
+            if (event == null) return;
+            final boolean byBot = intel.eventPlayerUuid().map(botUuid::equals).orElse(false);
+            switch (event) {
+                case PLAY -> {
+                    final List<Card> openCards = intel.openCards();
+                    session.onCardPlayed(toTrucoCard(openCards.get(openCards.size() - 1)), byBot);
+                }
+                case RAISE -> session.onRaise(intel.pointsProposal().orElse(intel.handPoints()), byBot);
+                case ACCEPT, ACCEPT_HAND -> session.onAccept(intel.handPoints(), byBot);
+                case QUIT, QUIT_HAND -> session.onQuit(byBot);
+                default -> {}
+            }
+        }
+
+        private RoundResult resultOf(HandResult result) {
+            return result.getWinner()
+                    .map(winner -> botUuid.equals(winner.getUuid()) ? RoundResult.WON : RoundResult.LOST)
+                    .orElse(RoundResult.DREW);
+        }
+
+        private synchronized void close() {
+            try {
+                session.close();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Session of " + botName + " failed to close.", e);
+            }
+        }
+    }
+}
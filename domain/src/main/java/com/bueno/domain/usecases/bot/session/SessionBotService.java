@@ -0,0 +1,47 @@
+package com.bueno.domain.usecases.bot.session;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.BotSession;
+
+class SessionBotService implements BotServiceProvider {
+
+    private final BotSession session;
+    private final String botName;
+
+    SessionBotService(BotSession session, String botName) {
+        this.session = session;
+        this.botName = botName;
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return session.getMaoDeOnzeResponse(intel);
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return session.decideIfRaises(intel);
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return session.chooseCard(intel);
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return session.getRaiseResponse(intel);
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+}
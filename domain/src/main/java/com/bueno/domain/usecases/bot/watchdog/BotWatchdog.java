@@ -0,0 +1,256 @@
+package com.bueno.domain.usecases.bot.watchdog;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BatchBotServiceProvider;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * <p>Runs bot decisions on a dedicated bounded pool and gives each decision a time budget. A decision that is not
+ * taken within the budget is cancelled, which interrupts the bot thread, and replaced by a deterministic fallback:
+ * play the lowest card, accept the mão de onze or the raise request, and do not raise. Budget violations are counted
+ * per bot. Exceptions thrown by bots are rethrown to the caller as before. A bot that ignores interruptions keeps
+ * running on its pool thread after the fallback is played. Such decisions are logged and counted in
+ * {@link #stuckDecisions()}, and the pool gets one more thread for each of them until it returns, so they do not take
+ * threads away from the other bots. The pool grows at most to twice its size this way.</p>
+ *
+ * <p>The budget starts when the decision starts running, so the time a decision waits for a free thread of a busy
+ * pool is not charged to the bot. That wait is itself limited to one budget: if no thread is freed in time, for
+ * example because runaway bots hold all of them, the decision is dropped from the queue, counted as a violation and
+ * replaced by the fallback, so the caller never blocks for more than twice the budget.</p>
+ *
+ * <p>There is one watchdog for the interactive path, used by {@code BotUseCase} while a user waits for the bot, and
+ * one for bulk simulations. Their budgets are read from the system properties {@value #INTERACTIVE_BUDGET_PROPERTY}
+ * and {@value #SIMULATION_BUDGET_PROPERTY}, in milliseconds, and can be changed at runtime. A zero budget disables the
+ * watchdog, so decisions run directly on the calling thread.</p>
+ */
+public final class BotWatchdog {
+    public static final String INTERACTIVE_BUDGET_PROPERTY = "ctruco.bot.budget.interactive";
+    public static final String SIMULATION_BUDGET_PROPERTY = "ctruco.bot.budget.simulation";
+    public static final Duration DEFAULT_INTERACTIVE_BUDGET = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_SIMULATION_BUDGET = Duration.ofSeconds(1);
+
+    private static final Logger LOGGER = Logger.getLogger(BotWatchdog.class.getName());
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int STUCK = 3;
+    private static final Duration INTERRUPTION_GRACE = Duration.ofMillis(10);
+
+    private final String name;
+    private final int maxThreads;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, LongAdder> violations = new ConcurrentHashMap<>();
+    private int stuckDecisions;
+    private volatile Duration budget;
+
+    public BotWatchdog(String name, Duration budget, int maxThreads) {
+        this.name = Objects.requireNonNull(name, "Name must not be null!");
+        setBudget(budget);
+        if (maxThreads < 1) throw new IllegalArgumentException("Max threads must be positive: " + maxThreads);
+        this.maxThreads = maxThreads;
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, name + "-bot-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    private static final class Holder {
+        private static final int MAX_THREADS = 4 * Runtime.getRuntime().availableProcessors();
+        private static final BotWatchdog INTERACTIVE = new BotWatchdog("interactive",
+                budgetOf(INTERACTIVE_BUDGET_PROPERTY, DEFAULT_INTERACTIVE_BUDGET), MAX_THREADS);
+        private static final BotWatchdog SIMULATION = new BotWatchdog("simulation",
+                budgetOf(SIMULATION_BUDGET_PROPERTY, DEFAULT_SIMULATION_BUDGET), MAX_THREADS);
+
+        private static Duration budgetOf(String property, Duration defaultBudget) {
+            final String millis = System.getProperty(property);
+            return millis == null ? defaultBudget : Duration.ofMillis(Long.parseLong(millis));
+        }
+    }
+
+    public static BotWatchdog interactive() {
+        return Holder.INTERACTIVE;
+    }
+
+    public static BotWatchdog simulation() {
+        return Holder.SIMULATION;
+    }
+
+    public BotServiceProvider guard(BotServiceProvider botService) {
+        Objects.requireNonNull(botService, "Bot service must not be null!");
+        return new GuardedBotService(botService, this);
+    }
+
+    /**
+     * <p>Guards each batch of decisions of a batch bot as a whole, with one budget for each decision of the batch.
+     * A batch that times out is replaced by the fallback moves of all its decisions, each counted as a violation.</p>
+     */
+    public BatchBotServiceProvider guard(BatchBotServiceProvider botService) {
+        Objects.requireNonNull(botService, "Bot service must not be null!");
+        return new GuardedBatchBotService(botService, this);
+    }
+
+    <T> T decide(String botName, Callable<T> decision, Supplier<T> fallback) {
+        return decide(botName, 1, decision, fallback);
+    }
+
+    <T> T decide(String botName, int decisions, Callable<T> decision, Supplier<T> fallback) {
+        final Duration decisionBudget = budget;
+        if (decisionBudget.isZero()) return call(decision);
+        final Duration currentBudget = decisionBudget.multipliedBy(decisions);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicLong startTime = new AtomicLong();
+        final AtomicInteger state = new AtomicInteger(QUEUED);
+        final CountDownLatch finished = new CountDownLatch(1);
+        final Future<T> future = executor.submit(() -> {
+            state.set(RUNNING);
+            startTime.set(System.nanoTime());
+            started.countDown();
+            try {
+                return decision.call();
+            } finally {
+                if (!state.compareAndSet(RUNNING, DONE)) releaseStuckThread();
+                finished.countDown();
+            }
+        });
+        try {
+            if (!started.await(currentBudget.toNanos(), TimeUnit.NANOSECONDS)) throw new TimeoutException();
+            final long remaining = currentBudget.toNanos() - (System.nanoTime() - startTime.get());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            violations.computeIfAbsent(botName, unused -> new LongAdder()).add(decisions);
+            if (ignoresInterruption(finished) && state.compareAndSet(RUNNING, STUCK)) {
+                replaceStuckThread(botName, currentBudget);
+            }
+            return fallback.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + botName + " to decide.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(botName + " failed to decide.", e.getCause());
+        }
+    }
+
+    private static boolean ignoresInterruption(CountDownLatch finished) {
+        try {
+            return !finished.await(INTERRUPTION_GRACE.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return finished.getCount() > 0;
+        }
+    }
+
+    private synchronized void replaceStuckThread(String botName, Duration currentBudget) {
+        stuckDecisions++;
+        resizePool();
+        LOGGER.warning(() -> botName + " is still deciding after its budget of " + currentBudget.toMillis()
+                + " ms on the " + name + " watchdog and has been interrupted. Decisions running past their budget: "
+                + stuckDecisions + ", pool threads: " + executor.getMaximumPoolSize() + ".");
+    }
+
+    private synchronized void releaseStuckThread() {
+        stuckDecisions--;
+        resizePool();
+    }
+
+    private void resizePool() {
+        final int size = maxThreads + Math.min(stuckDecisions, maxThreads);
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+        } else {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
+    private static <T> T call(Callable<T> decision) {
+        try {
+            return decision.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static CardToPlay lowestCardOf(GameIntel intel) {
+        final int lowestCardIndex = intel.getLowestCardIndex();
+        if (lowestCardIndex < 0) throw new IllegalStateException("Bot has no cards to play.");
+        return CardToPlay.of(TrucoCard.ofIndex(lowestCardIndex));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * @param budget maximum time a bot has to take a decision, counted from when the decision starts running. A zero
+     *               budget disables the watchdog.
+     */
+    public void setBudget(Duration budget) {
+        Objects.requireNonNull(budget, "Budget must not be null!");
+        if (budget.isNegative()) throw new IllegalArgumentException("Budget must not be negative: " + budget);
+        this.budget = budget;
+    }
+
+    public long violationsOf(String botName) {
+        final LongAdder counter = violations.get(botName);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @return number of decisions each bot took longer than the budget to take, ordered by bot name.
+     */
+    public Map<String, Long> violations() {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        violations.forEach((botName, counter) -> snapshot.put(botName, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return number of decisions that ran past their budget and are still running, because their bots ignored the
+     * interruption.
+     */
+    public synchronized int stuckDecisions() {
+        return stuckDecisions;
+    }
+
+    public void resetViolations() {
+        violations.clear();
+    }
+}
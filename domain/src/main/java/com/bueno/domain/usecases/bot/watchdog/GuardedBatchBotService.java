@@ -0,0 +1,62 @@
+package com.bueno.domain.usecases.bot.watchdog;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BatchBotServiceProvider;
+
+import java.util.Arrays;
+
+class GuardedBatchBotService implements BatchBotServiceProvider {
+
+    private final BatchBotServiceProvider botService;
+    private final BotWatchdog watchdog;
+    private final String botName;
+
+    GuardedBatchBotService(BatchBotServiceProvider botService, BotWatchdog watchdog) {
+        this.botService = botService;
+        this.watchdog = watchdog;
+        this.botName = botService.getName();
+    }
+
+    @Override
+    public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) {
+        return watchdog.decide(botName, intels.length, () -> botService.getMaoDeOnzeResponses(intels), () -> {
+            final boolean[] responses = new boolean[intels.length];
+            Arrays.fill(responses, true);
+            return responses;
+        });
+    }
+
+    @Override
+    public boolean[] decideIfRaises(GameIntel[] intels) {
+        return watchdog.decide(botName, intels.length, () -> botService.decideIfRaises(intels),
+                () -> new boolean[intels.length]);
+    }
+
+    @Override
+    public CardToPlay[] chooseCards(GameIntel[] intels) {
+        return watchdog.decide(botName, intels.length, () -> botService.chooseCards(intels),
+                () -> Arrays.stream(intels).map(BotWatchdog::lowestCardOf).toArray(CardToPlay[]::new));
+    }
+
+    @Override
+    public int[] getRaiseResponses(GameIntel[] intels) {
+        return watchdog.decide(botName, intels.length, () -> botService.getRaiseResponses(intels),
+                () -> new int[intels.length]);
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return botService.isStateless();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return botService.isDeterministic();
+    }
+}
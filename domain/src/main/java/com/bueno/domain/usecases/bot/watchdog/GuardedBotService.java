@@ -0,0 +1,53 @@
+package com.bueno.domain.usecases.bot.watchdog;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+class GuardedBotService implements BotServiceProvider {
+
+    private final BotServiceProvider botService;
+    private final BotWatchdog watchdog;
+    private final String botName;
+
+    GuardedBotService(BotServiceProvider botService, BotWatchdog watchdog) {
+        this.botService = botService;
+        this.watchdog = watchdog;
+        this.botName = botService.getName();
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return watchdog.decide(botName, () -> botService.getMaoDeOnzeResponse(intel), () -> true);
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return watchdog.decide(botName, () -> botService.decideIfRaises(intel), () -> false);
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return watchdog.decide(botName, () -> botService.chooseCard(intel), () -> BotWatchdog.lowestCardOf(intel));
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return watchdog.decide(botName, () -> botService.getRaiseResponse(intel), () -> 0);
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return botService.isStateless();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return botService.isDeterministic();
+    }
+}
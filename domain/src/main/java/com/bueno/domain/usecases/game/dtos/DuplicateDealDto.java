@@ -0,0 +1,14 @@
+package com.bueno.domain.usecases.game.dtos;
+
+import java.util.Objects;
+
+/**
+ * <p>Results of the two games played from the same deal seed: first with the original seats and then with the
+ * bots swapping seats.</p>
+ */
+public record DuplicateDealDto(long seed, PlayWithBotsDto originalSeats, PlayWithBotsDto swappedSeats) {
+    public DuplicateDealDto {
+        Objects.requireNonNull(originalSeats);
+        Objects.requireNonNull(swappedSeats);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bueno.domain.usecases.game.dtos;
+
+import java.util.List;
+
+/**
+ * <p>Summary of a duplicate-deal run from the point of view of the first bot. The variances are the variances of the
+ * estimated win rate when the games are analysed as mirrored pairs and as if they were independent games.
+ * {@code varianceReduction} is the fraction of the unpaired variance removed by pairing the games.</p>
+ */
+public record DuplicateReportDto(List<DuplicateDealDto> deals, long numberOfGames, long botWins, double winRate,
+                                 double pairedVariance, double unpairedVariance, double varianceReduction) {
+}
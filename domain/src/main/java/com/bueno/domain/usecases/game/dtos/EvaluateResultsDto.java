@@ -1,4 +1,7 @@
 package com.bueno.domain.usecases.game.dtos;
 
-public record EvaluateResultsDto(long computingTime, long numberOfGames, long evaluatedBotWins, double winRate, double percentile,long matchWins) {
+import java.util.List;
+
+public record EvaluateResultsDto(long computingTime, long numberOfGames, long evaluatedBotWins, double winRate, double percentile,long matchWins,
+                                 List<OpponentEvaluationDto> opponents) {
 }
@@ -0,0 +1,5 @@
+package com.bueno.domain.usecases.game.dtos;
+
+public record OpponentEvaluationDto(String opponentName, long numberOfGames, long evaluatedBotWins, boolean matchWon,
+                                   double confidence) {
+}
@@ -0,0 +1,14 @@
+package com.bueno.domain.usecases.game.dtos;
+
+import java.time.Duration;
+
+/**
+ * <p>Snapshot of a running simulation. {@code gamesRequested} grows as new batches of games are scheduled, so it is
+ * only the final number of games once the simulation is over.</p>
+ */
+public record SimulationProgressDto(long gamesPlayed, long gamesRequested, Duration elapsed) {
+    public double gamesPerSecond() {
+        final long millis = elapsed.toMillis();
+        return millis == 0 ? 0 : gamesPlayed * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,20 @@
+package com.bueno.domain.usecases.game.dtos;
+
+import java.util.UUID;
+
+/**
+ * <p>Aggregated result of a bot versus bot simulation. Games that threw are counted as failed and have no winner.
+ * {@code complete} is false if the simulation was cancelled or ran out of time before playing all games.</p>
+ */
+public record SimulationResultDto(UUID uuidBot1, String bot1Name, long bot1Wins, UUID uuidBot2, String bot2Name,
+                                  long bot2Wins, long failedGames, long gamesRequested, boolean complete) {
+    public long gamesPlayed() {
+        return bot1Wins + bot2Wins;
+    }
+
+    public long winsOf(UUID botUuid) {
+        if (uuidBot1.equals(botUuid)) return bot1Wins;
+        if (uuidBot2.equals(botUuid)) return bot2Wins;
+        return 0;
+    }
+}
@@ -21,8 +21,10 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
-import java.util.Collection;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -51,7 +53,7 @@ public class GameRepoDisposableImpl implements GameRepository {
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return null;
+    public List<InactiveGameDto> findInactiveSince(Instant inactiveSince, UUID afterGameUuid, int pageSize) {
+        return List.of();
     }
 }
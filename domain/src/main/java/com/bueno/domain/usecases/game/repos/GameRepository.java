@@ -21,8 +21,10 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
-import java.util.Collection;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +34,10 @@ public interface GameRepository {
     void delete(UUID uuid);
     Optional<GameDto> findByPlayerUuid(UUID playerUuid);
 
-    Collection<GameDto> findAllInactiveAfter(int minutes);
+    /**
+     * <p>Returns a page of the games without activity since {@code inactiveSince}, ordered by game UUID and starting
+     * after {@code afterGameUuid}, or from the first game if it is {@code null}.</p>
+     */
+    List<InactiveGameDto> findInactiveSince(Instant inactiveSince, UUID afterGameUuid, int pageSize);
 
 }
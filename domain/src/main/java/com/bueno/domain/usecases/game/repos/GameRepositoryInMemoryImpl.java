@@ -22,8 +22,10 @@ package com.bueno.domain.usecases.game.repos;
 
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.function.Predicate;
 
@@ -53,8 +55,8 @@ public class GameRepositoryInMemoryImpl implements GameRepository {
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return null;
+    public List<InactiveGameDto> findInactiveSince(Instant inactiveSince, UUID afterGameUuid, int pageSize) {
+        return List.of();
     }
 
     private static boolean hasUuid(PlayerDto player, UUID uuid) {
@@ -0,0 +1,49 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.DuplicateDealDto;
+import com.bueno.domain.usecases.game.dtos.DuplicateReportDto;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public abstract class DuplicateDealReportService {
+
+    /**
+     * <p>Compares the variance of the win rate estimated from the pair means, which cancels the luck of the deal,
+     * with the variance expected if the same games had been dealt independently.</p>
+     */
+    public static DuplicateReportDto report(List<DuplicateDealDto> deals, UUID botUuid) {
+        final int pairs = deals.size();
+        final long numberOfGames = 2L * pairs;
+        final double[] pairScores = deals.stream()
+                .mapToDouble(deal -> (winsOf(deal.originalSeats(), botUuid) + winsOf(deal.swappedSeats(), botUuid)) / 2.0)
+                .toArray();
+
+        final double pairMean = pairs == 0 ? Double.NaN : sum(pairScores) / pairs;
+        final long botWins = Math.round(sum(pairScores) * 2);
+        final double unpairedVariance = pairMean * (1 - pairMean) / numberOfGames;
+        final double pairedVariance = sampleVariance(pairScores, pairMean) / pairs;
+        final double varianceReduction = unpairedVariance == 0 ? 0 : 1 - pairedVariance / unpairedVariance;
+
+        return new DuplicateReportDto(deals, numberOfGames, botWins, pairMean * 100,
+                pairedVariance, unpairedVariance, varianceReduction);
+    }
+
+    private static int winsOf(PlayWithBotsDto result, UUID botUuid) {
+        return result.uuid().equals(botUuid) ? 1 : 0;
+    }
+
+    private static double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return sum;
+    }
+
+    private static double sampleVariance(double[] values, double mean) {
+        if (values.length < 2) return Double.NaN;
+        double squares = 0;
+        for (double value : values) squares += (value - mean) * (value - mean);
+        return squares / (values.length - 1);
+    }
+}
@@ -0,0 +1,263 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsRegistry;
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
+import com.bueno.domain.usecases.bot.watchdog.BotWatchdog;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BatchBotServiceProvider;
+import com.bueno.spi.service.BotRegistry;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Plays many bot versus bot games at once on the calling thread, advancing each game by one bot decision per
+ * step. At each step, the pending decisions of all games are grouped by bot service and decision, and each group is
+ * dispatched in a single call to the {@link BatchBotServiceProvider}. Bots are loaded for each game, so a stateless
+ * batch bot is the same instance in every game and its decisions of many games are taken together, while a stateful
+ * one gets an instance per game. Batch bots are measured in the {@link BotMetricsRegistry} and guarded by the
+ * {@link BotWatchdog#simulation()} watchdog one batch at a time. Batch bots with a {@code BotSession} play each game
+ * through their session, like single-call bots.</p>
+ *
+ * <p>Single-call bots keep working unchanged: they are loaded and decorated for each game as in
+ * {@link SimulationEngine}, and adapted by {@link BatchBotServiceProvider#of(BotServiceProvider)}. The rules applied
+ * to each decision are the ones of {@link SimulationEngine}, so a game plays the same whichever way it is run.</p>
+ */
+public class InterleavedSimulation {
+    public static final int DEFAULT_CONCURRENT_GAMES = 64;
+    private static final Logger LOGGER = Logger.getLogger(InterleavedSimulation.class.getName());
+
+    private final UUID uuidBot1;
+    private final String bot1Name;
+    private final UUID uuidBot2;
+    private final String bot2Name;
+    private final Function<String, BotServiceProvider> botLoader;
+
+    public InterleavedSimulation(UUID uuidBot1, String bot1Name, UUID uuidBot2, String bot2Name) {
+        this(uuidBot1, bot1Name, uuidBot2, bot2Name, BotServiceManager::load);
+    }
+
+    InterleavedSimulation(UUID uuidBot1, String bot1Name, UUID uuidBot2, String bot2Name,
+                          Function<String, BotServiceProvider> botLoader) {
+        this.uuidBot1 = Objects.requireNonNull(uuidBot1, "Bot1 UUID must not be null!");
+        this.bot1Name = Objects.requireNonNull(bot1Name, "Bot1 name must not be null!");
+        this.uuidBot2 = Objects.requireNonNull(uuidBot2, "Bot2 UUID must not be null!");
+        this.bot2Name = Objects.requireNonNull(bot2Name, "Bot2 name must not be null!");
+        this.botLoader = Objects.requireNonNull(botLoader, "Bot loader must not be null!");
+        if (uuidBot1.equals(uuidBot2)) throw new IllegalArgumentException("Bots must have different UUIDs!");
+    }
+
+    /**
+     * @return {@code true} if the bot takes its decisions in batches, so its games are worth interleaving. The answer
+     * comes from the {@link BotRegistry}, so no bot is created to find it out.
+     */
+    public static boolean isBatchBot(String botName) {
+        return BotRegistry.getInstance().isBatchBot(botName);
+    }
+
+    /**
+     * <p>Plays one game for each seed, all of them interleaved. Games that throw are abandoned and logged with their
+     * seed, as well as the batches that throw, which abandon all their games. The number of abandoned games is logged
+     * once all games are over.</p>
+     * @return the result of the game of each seed, in the same order, or {@code null} for the abandoned games, which
+     * {@link SimulationService} counts as failed.
+     */
+    public PlayWithBotsDto[] play(long[] seeds) {
+        final BotSessionRegistry sessions = BotSessionRegistry.getInstance();
+        final Map<BatchBotServiceProvider, BatchBotServiceProvider> batchBots = new IdentityHashMap<>();
+        final PlayWithBotsDto[] results = new PlayWithBotsDto[seeds.length];
+        final List<GameSlot> active = new ArrayList<>(seeds.length);
+
+        try {
+            for (int i = 0; i < seeds.length; i++) {
+                final Game game = new Game(Player.ofBot(uuidBot1, bot1Name), Player.ofBot(uuidBot2, bot2Name), seeds[i]);
+                active.add(new GameSlot(i, seeds[i], game, botOf(game, uuidBot1, bot1Name, sessions, batchBots),
+                        botOf(game, uuidBot2, bot2Name, sessions, batchBots)));
+            }
+
+            final Map<BatchBotServiceProvider, List<List<GameSlot>>> groups = new IdentityHashMap<>();
+            while (!active.isEmpty()) {
+                groups.clear();
+                for (GameSlot slot : active) {
+                    if (!slot.prepare(sessions)) continue;
+                    groups.computeIfAbsent(slot.pendingBotService, unused -> newGroup())
+                            .get(slot.pendingDecision.ordinal()).add(slot);
+                }
+                groups.forEach((botService, byDecision) -> {
+                    for (BotDecision decision : BotDecision.values()) {
+                        final List<GameSlot> slots = byDecision.get(decision.ordinal());
+                        if (!slots.isEmpty()) dispatch(botService, decision, slots);
+                    }
+                });
+                active.removeIf(slot -> {
+                    if (!slot.isOver()) return false;
+                    sessions.sync(slot.game);
+                    sessions.close(slot.game.getUuid());
+                    results[slot.index] = slot.result();
+                    return true;
+                });
+            }
+        } finally {
+            SpiModelAdapter.endTurn();
+            active.forEach(slot -> sessions.close(slot.game.getUuid()));
+        }
+        final long abandonedGames = Arrays.stream(results).filter(Objects::isNull).count();
+        if (abandonedGames > 0)
+            LOGGER.warning("Abandoned " + abandonedGames + " of " + seeds.length + " games of " + bot1Name + " vs "
+                    + bot2Name + ".");
+        return results;
+    }
+
+    private BatchBotServiceProvider botOf(Game game, UUID botUuid, String botName, BotSessionRegistry sessions,
+                                          Map<BatchBotServiceProvider, BatchBotServiceProvider> batchBots) {
+        final Player bot = SimulationEngine.botOf(game, botUuid);
+        final BotServiceProvider botService = sessions.open(game, bot, botLoader.apply(botName));
+        if (botService instanceof BatchBotServiceProvider batchBot)
+            return batchBots.computeIfAbsent(batchBot, InterleavedSimulation::decorate);
+        return BatchBotServiceProvider.of(SimulationEngine.decorate(botService));
+    }
+
+    private static BatchBotServiceProvider decorate(BatchBotServiceProvider botService) {
+        return BotWatchdog.simulation().guard(BotMetricsRegistry.getInstance().measure(botService));
+    }
+
+    private static List<List<GameSlot>> newGroup() {
+        final List<List<GameSlot>> group = new ArrayList<>();
+        for (int i = 0; i < BotDecision.values().length; i++) group.add(new ArrayList<>());
+        return group;
+    }
+
+    private static void dispatch(BatchBotServiceProvider botService, BotDecision decision, List<GameSlot> slots) {
+        final GameIntel[] intels = new GameIntel[slots.size()];
+        for (int i = 0; i < intels.length; i++) intels[i] = slots.get(i).pendingIntel;
+
+        try {
+            switch (decision) {
+                case MAO_DE_ONZE_RESPONSE -> {
+                    final boolean[] responses = botService.getMaoDeOnzeResponses(intels);
+                    applyEach(slots, responses.length, i -> slots.get(i).answerMaoDeOnze(responses[i]));
+                }
+                case DECIDE_IF_RAISES -> {
+                    final boolean[] raises = botService.decideIfRaises(intels);
+                    applyEach(slots, raises.length, i -> slots.get(i).raiseIf(raises[i]));
+                }
+                case CHOOSE_CARD -> {
+                    final CardToPlay[] cards = botService.chooseCards(intels);
+                    applyEach(slots, cards.length, i -> slots.get(i).playCard(cards[i]));
+                }
+                case RAISE_RESPONSE -> {
+                    final int[] responses = botService.getRaiseResponses(intels);
+                    applyEach(slots, responses.length, i -> slots.get(i).respondToRaise(responses[i]));
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Batch of " + slots.size() + " " + decision + " decisions failed.", e);
+            slots.forEach(GameSlot::abandon);
+        }
+    }
+
+    private static void applyEach(List<GameSlot> slots, int decisions, IntConsumer apply) {
+        if (decisions != slots.size())
+            throw new IllegalStateException("Expected " + slots.size() + " decisions but got " + decisions + ".");
+        for (int i = 0; i < decisions; i++) {
+            try {
+                apply.accept(i);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Game of seed " + slots.get(i).seed + " failed.", e);
+                slots.get(i).abandon();
+            }
+        }
+    }
+
+    private static final class GameSlot {
+        private final int index;
+        private final long seed;
+        private final Game game;
+        private final BatchBotServiceProvider bot1Service;
+        private final BatchBotServiceProvider bot2Service;
+        private boolean raiseDeclined;
+        private boolean abandoned;
+        private Player pendingBot;
+        private BotDecision pendingDecision;
+        private BatchBotServiceProvider pendingBotService;
+        private GameIntel pendingIntel;
+
+        private GameSlot(int index, long seed, Game game, BatchBotServiceProvider bot1Service,
+                         BatchBotServiceProvider bot2Service) {
+            this.index = index;
+            this.seed = seed;
+            this.game = game;
+            this.bot1Service = bot1Service;
+            this.bot2Service = bot2Service;
+        }
+
+        private boolean prepare(BotSessionRegistry sessions) {
+            try {
+                final Hand hand = game.currentHand();
+                pendingBot = hand.getCurrentPlayer();
+                if (pendingBot == null) throw new IllegalStateException("Hand has no current player: " + game);
+                sessions.sync(game);
+                pendingDecision = SimulationEngine.nextDecision(hand, pendingBot, raiseDeclined);
+                pendingBotService = pendingBot.getUuid().equals(game.getPlayer1().getUuid()) ? bot1Service : bot2Service;
+                pendingIntel = SimulationEngine.gameIntelOf(hand, pendingBot);
+                return true;
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Game of seed " + seed + " failed.", e);
+                abandon();
+                return false;
+            }
+        }
+
+        private void answerMaoDeOnze(boolean accepted) {
+            raiseDeclined = false;
+            SimulationEngine.answerMaoDeOnze(game, game.currentHand(), pendingBot, accepted);
+        }
+
+        private void raiseIf(boolean raises) {
+            raiseDeclined = !raises;
+            if (raises) game.currentHand().raise(pendingBot);
+        }
+
+        private void playCard(CardToPlay card) {
+            raiseDeclined = false;
+            SimulationEngine.playCard(game, game.currentHand(), pendingBot, card);
+        }
+
+        private void respondToRaise(int response) {
+            raiseDeclined = false;
+            SimulationEngine.respondToRaise(game, game.currentHand(), pendingBot, response);
+        }
+
+        private void abandon() {
+            abandoned = true;
+        }
+
+        private boolean isOver() {
+            return abandoned || game.isDone();
+        }
+
+        private PlayWithBotsDto result() {
+            if (abandoned) return null;
+            final Player winner = game.getWinner().orElseThrow();
+            return new PlayWithBotsDto(winner.getUuid(), winner.getUsername());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bueno.domain.usecases.game.service;
+
+/**
+ * <p>Wald's sequential probability ratio test (SPRT) on the win probability of a bot against an opponent. It tests
+ * whether the bot wins with probability {@code 0.5 + indifference} (the bot is better) or {@code 0.5 - indifference}
+ * (the opponent is better), with the same configured error rate for both wrong decisions. The test is stateless: it
+ * only depends on the number of wins and losses observed so far, so games can be added in batches of any size.</p>
+ */
+public class SequentialProbabilityRatio {
+
+    public enum Decision {BETTER, WORSE, UNDECIDED}
+
+    private final double winIncrement;
+    private final double lossIncrement;
+    private final double bound;
+
+    public SequentialProbabilityRatio(double errorRate, double indifference) {
+        if (errorRate <= 0 || errorRate >= 0.5)
+            throw new IllegalArgumentException("Error rate must be in (0, 0.5): " + errorRate);
+        if (indifference <= 0 || indifference >= 0.5)
+            throw new IllegalArgumentException("Indifference must be in (0, 0.5): " + indifference);
+
+        final double better = 0.5 + indifference;
+        final double worse = 0.5 - indifference;
+        this.winIncrement = Math.log(better / worse);
+        this.lossIncrement = Math.log((1 - better) / (1 - worse));
+        this.bound = Math.log((1 - errorRate) / errorRate);
+    }
+
+    public double logLikelihoodRatio(long wins, long losses) {
+        return wins * winIncrement + losses * lossIncrement;
+    }
+
+    public Decision decide(long wins, long losses) {
+        final double ratio = logLikelihoodRatio(wins, losses);
+        if (ratio >= bound) return Decision.BETTER;
+        if (ratio <= -bound) return Decision.WORSE;
+        return Decision.UNDECIDED;
+    }
+
+    /**
+     * @return the confidence on the most likely hypothesis, given by {@code 1 - 1/LR}, where LR is the likelihood
+     * ratio in its favour. It reaches {@code 1 - errorRate / (1 - errorRate)} when the test decides.
+     */
+    public double confidence(long wins, long losses) {
+        return 1 - Math.exp(-Math.abs(logLikelihoodRatio(wins, losses)));
+    }
+}
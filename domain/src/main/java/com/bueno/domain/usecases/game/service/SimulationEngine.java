@@ -0,0 +1,199 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.memoization.DecisionMemoizer;
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsRegistry;
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
+import com.bueno.domain.usecases.bot.watchdog.BotWatchdog;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.endTurn;
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toCard;
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
+
+/**
+ * <p>Plays bot versus bot games directly on live {@link Game} and {@link Hand} objects. It takes the same
+ * decisions as {@code BotUseCase} and its handlers and applies the same rules as {@code PlayCardUseCase},
+ * {@code PointsProposalUseCase} and {@code ResultHandler}, but skips the repository, the DTO converters
+ * and the action validators, which are only needed when a game is shared between requests.</p>
+ *
+ * <p>Each bot service is loaded once per game, so both bots keep the same instance until the game is over. Bots
+ * implementing {@code BotSessionFactory} play through a session of the {@link BotSessionRegistry}, which is notified
+ * of the game events before each turn and closed with the game. A
+ * decorator wraps the loaded services, which by default measures their decisions in the {@link BotMetricsRegistry},
+ * answers repeated decisions of deterministic bots from the {@link DecisionMemoizer} without asking the bot again
+ * and bounds them by the time budget of the {@link BotWatchdog#simulation()} watchdog. The memoizer runs inside the
+ * watchdog, so the fallback moves of decisions that time out are never memoized.</p>
+ */
+public class SimulationEngine {
+
+    private final UUID uuidBot1;
+    private final String bot1Name;
+    private final UUID uuidBot2;
+    private final String bot2Name;
+    private final UnaryOperator<BotServiceProvider> botDecorator;
+
+    public SimulationEngine(UUID uuidBot1, String bot1Name, UUID uuidBot2, String bot2Name) {
+        this(uuidBot1, bot1Name, uuidBot2, bot2Name, SimulationEngine::decorate);
+    }
+
+    public SimulationEngine(UUID uuidBot1, String bot1Name, UUID uuidBot2, String bot2Name,
+                            UnaryOperator<BotServiceProvider> botDecorator) {
+        this.uuidBot1 = Objects.requireNonNull(uuidBot1, "Bot1 UUID must not be null!");
+        this.bot1Name = Objects.requireNonNull(bot1Name, "Bot1 name must not be null!");
+        this.uuidBot2 = Objects.requireNonNull(uuidBot2, "Bot2 UUID must not be null!");
+        this.bot2Name = Objects.requireNonNull(bot2Name, "Bot2 name must not be null!");
+        this.botDecorator = Objects.requireNonNull(botDecorator, "Bot decorator must not be null!");
+        if (uuidBot1.equals(uuidBot2)) throw new IllegalArgumentException("Bots must have different UUIDs!");
+    }
+
+    static BotServiceProvider decorate(BotServiceProvider botService) {
+        return decorate(botService, DecisionMemoizer.getInstance(), BotWatchdog.simulation());
+    }
+
+    static BotServiceProvider decorate(BotServiceProvider botService, DecisionMemoizer memoizer, BotWatchdog watchdog) {
+        final BotServiceProvider measured = BotMetricsRegistry.getInstance().measure(botService);
+        return watchdog.guard(memoizer.memoize(measured));
+    }
+
+    public PlayWithBotsDto play() {
+        return play(new Game(Player.ofBot(uuidBot1, bot1Name), Player.ofBot(uuidBot2, bot2Name)));
+    }
+
+    /**
+     * <p>Plays a game whose deck is shuffled from the given seed, so the same seed deals the same cards.</p>
+     */
+    public PlayWithBotsDto play(long seed) {
+        return play(new Game(Player.ofBot(uuidBot1, bot1Name), Player.ofBot(uuidBot2, bot2Name), seed));
+    }
+
+    private PlayWithBotsDto play(Game game) {
+        playUntilDone(game);
+        final Player winner = game.getWinner().orElseThrow();
+        return new PlayWithBotsDto(winner.getUuid(), winner.getUsername());
+    }
+
+    void playUntilDone(Game game) {
+        final BotSessionRegistry sessions = BotSessionRegistry.getInstance();
+        try {
+            final BotServiceProvider bot1Service = botDecorator.apply(
+                    sessions.open(game, botOf(game, uuidBot1), BotServiceManager.load(bot1Name)));
+            final BotServiceProvider bot2Service = botDecorator.apply(
+                    sessions.open(game, botOf(game, uuidBot2), BotServiceManager.load(bot2Name)));
+
+            while (!game.isDone()) {
+                final Player currentPlayer = game.currentHand().getCurrentPlayer();
+                if (currentPlayer == null) throw new IllegalStateException("Hand has no current player: " + game);
+                sessions.sync(game);
+                playTurn(game, currentPlayer, uuidBot1.equals(currentPlayer.getUuid()) ? bot1Service : bot2Service);
+            }
+            sessions.sync(game);
+        } finally {
+            sessions.close(game.getUuid());
+        }
+    }
+
+    static Player botOf(Game game, UUID botUuid) {
+        return botUuid.equals(game.getPlayer1().getUuid()) ? game.getPlayer1() : game.getPlayer2();
+    }
+
+    static void playTurn(Game game, Player bot, BotServiceProvider botService) {
+        try {
+            playDecisions(game, bot, botService);
+        } finally {
+            endTurn();
+        }
+    }
+
+    private static void playDecisions(Game game, Player bot, BotServiceProvider botService) {
+        final Hand hand = game.currentHand();
+        BotDecision decision = nextDecision(hand, bot, false);
+
+        if (decision == BotDecision.DECIDE_IF_RAISES) {
+            if (botService.decideIfRaises(gameIntelOf(hand, bot))) {
+                hand.raise(bot);
+                return;
+            }
+            decision = nextDecision(hand, bot, true);
+        }
+
+        final GameIntel intel = gameIntelOf(hand, bot);
+        switch (decision) {
+            case MAO_DE_ONZE_RESPONSE -> answerMaoDeOnze(game, hand, bot, botService.getMaoDeOnzeResponse(intel));
+            case CHOOSE_CARD -> playCard(game, hand, bot, botService.chooseCard(intel));
+            case RAISE_RESPONSE -> respondToRaise(game, hand, bot, botService.getRaiseResponse(intel));
+            default -> throw new IllegalStateException("Unexpected bot decision: " + decision);
+        }
+    }
+
+    /**
+     * <p>Tells which decision the bot must take next in its turn. A bot is asked if it raises before playing a card
+     * or answering a raise, unless it has just declined to raise in the same turn.</p>
+     */
+    static BotDecision nextDecision(Hand hand, Player bot, boolean raiseDeclined) {
+        final EnumSet<PossibleAction> actions = hand.getPossibleActions();
+        if (hand.isMaoDeOnze() && hand.getPoints() == HandPoints.ONE) return BotDecision.MAO_DE_ONZE_RESPONSE;
+        if (!raiseDeclined && actions.contains(PossibleAction.RAISE) && !actions.contains(PossibleAction.QUIT))
+            return BotDecision.DECIDE_IF_RAISES;
+        if (actions.contains(PossibleAction.PLAY)) return BotDecision.CHOOSE_CARD;
+        if (!hand.isMaoDeOnze()) return BotDecision.RAISE_RESPONSE;
+        throw new IllegalStateException("No bot action available for " + bot.getUsername() + ": " + actions);
+    }
+
+    static GameIntel gameIntelOf(Hand hand, Player bot) {
+        return toGameIntel(bot, hand.getLastIntel());
+    }
+
+    static void answerMaoDeOnze(Game game, Hand hand, Player bot, boolean accepted) {
+        if (accepted) hand.accept(bot);
+        else quit(game, hand, bot);
+    }
+
+    static void playCard(Game game, Hand hand, Player bot, CardToPlay chosenCard) {
+        final Card card = toCard(chosenCard.content());
+        final Card playedCard = chosenCard.isDiscard() ? bot.discard(card) : bot.play(card);
+
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(bot, playedCard);
+        else hand.playSecondCard(bot, playedCard);
+
+        updateGameStatus(game);
+    }
+
+    static void respondToRaise(Game game, Hand hand, Player bot, int response) {
+        if (response < -1 || response > 1)
+            throw new IllegalStateException("response must be -1, 0, 1 but was: " + response);
+        if (response == 1 && !hand.getPossibleActions().contains(PossibleAction.RAISE)) response = 0;
+
+        switch (response) {
+            case -1 -> quit(game, hand, bot);
+            case 0 -> hand.accept(bot);
+            case 1 -> hand.raise(bot);
+        }
+    }
+
+    private static void quit(Game game, Hand hand, Player bot) {
+        hand.quit(bot);
+        updateGameStatus(game);
+    }
+
+    private static void updateGameStatus(Game game) {
+        if (game.currentHand().getResult().isEmpty()) return;
+        game.updateScores();
+        if (!game.isDone()) game.prepareNewHand();
+    }
+}
@@ -0,0 +1,207 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.SimulationProgressDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>Bounded pool of daemon threads on which simulations play their games, instead of the JVM-wide common pool.
+ * Each call to {@link #run(int, IntConsumer)} starts at most {@code parallelism} workers, which take the next game
+ * index until all games are played, the executor is cancelled or the time budget is over. Games that have already
+ * started are always finished. Several simulations can share the workers by calling {@code run} at the same time,
+ * for instance from the caller threads of {@link #runAll(List)}.</p>
+ *
+ * <p>The progress listener is called from the worker threads at most once every {@link #REPORT_INTERVAL}, and once
+ * more by the caller thread at the end of each run. It must be thread-safe and return quickly.</p>
+ */
+public class SimulationExecutor implements AutoCloseable {
+    public static final Duration REPORT_INTERVAL = Duration.ofMillis(250);
+
+    private final ExecutorService executor;
+    private final ExecutorService callers;
+    private final int parallelism;
+    private final long startTime;
+    private final long timeBudget;
+    private final Consumer<SimulationProgressDto> progressListener;
+    private final LongAdder gamesPlayed = new LongAdder();
+    private final AtomicLong gamesRequested = new AtomicLong();
+    private final AtomicLong lastReport;
+    private volatile boolean cancelled;
+
+    public SimulationExecutor(int parallelism) {
+        this(parallelism, null, progress -> {});
+    }
+
+    /**
+     * @param timeBudget maximum time to start new games, counted from the creation of the executor, or {@code null}
+     *                   for no limit.
+     */
+    public SimulationExecutor(int parallelism, Duration timeBudget, Consumer<SimulationProgressDto> progressListener) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+        this.progressListener = Objects.requireNonNull(progressListener, "Progress listener must not be null!");
+        this.startTime = System.nanoTime();
+        this.timeBudget = timeBudget == null ? Long.MAX_VALUE : timeBudget.toNanos();
+        this.lastReport = new AtomicLong(startTime);
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "simulation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final AtomicInteger callerCount = new AtomicInteger();
+        this.callers = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "simulation-caller-" + callerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static SimulationExecutor ofAvailableProcessors(Consumer<SimulationProgressDto> progressListener) {
+        return new SimulationExecutor(Runtime.getRuntime().availableProcessors(), null, progressListener);
+    }
+
+    public int run(int games, IntConsumer game) {
+        return run(games, 1, game);
+    }
+
+    /**
+     * <p>Runs {@code game} for each index from zero to {@code tasks - 1} and blocks until the workers are done. If the
+     * caller thread is interrupted, the executor is cancelled and the interrupt flag is restored.</p>
+     * @param gamesPerTask number of games each task plays, used to report progress.
+     * @return number of tasks that have been run, which is less than {@code tasks} if the executor has been stopped.
+     */
+    public int run(int tasks, int gamesPerTask, IntConsumer game) {
+        Objects.requireNonNull(game, "Game must not be null!");
+        return run(tasks, gamesPerTask, () -> null, (unused, task) -> game.accept(task));
+    }
+
+    /**
+     * <p>Runs like {@link #run(int, IntConsumer)}, passing each task the state of the worker that runs it. Each worker
+     * creates its state when it starts, so the state is never shared between threads and is left to the garbage
+     * collector when the run ends, unlike a {@link ThreadLocal} of the pooled threads.</p>
+     */
+    public <S> int run(int tasks, Supplier<? extends S> workerState, ObjIntConsumer<? super S> game) {
+        Objects.requireNonNull(workerState, "Worker state must not be null!");
+        Objects.requireNonNull(game, "Game must not be null!");
+        return run(tasks, 1, workerState, game);
+    }
+
+    private <S> int run(int tasks, int gamesPerTask, Supplier<? extends S> workerState,
+                        ObjIntConsumer<? super S> game) {
+        if (tasks < 0) throw new IllegalArgumentException("Number of tasks must not be negative: " + tasks);
+        gamesRequested.addAndGet((long) tasks * gamesPerTask);
+
+        final AtomicInteger nextTask = new AtomicInteger();
+        final AtomicInteger tasksRun = new AtomicInteger();
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(parallelism, tasks); i++) {
+            workers.add(executor.submit(() -> {
+                final S state = workerState.get();
+                int task;
+                while (!isStopped() && (task = nextTask.getAndIncrement()) < tasks) {
+                    game.accept(state, task);
+                    tasksRun.incrementAndGet();
+                    gamesPlayed.add(gamesPerTask);
+                    reportIfDue();
+                }
+            }));
+        }
+        awaitAll(workers);
+        progressListener.accept(progress());
+        return tasksRun.get();
+    }
+
+    /**
+     * <p>Calls each simulation on its own caller thread and blocks until all of them are done. The simulations only
+     * wait for the games they {@link #run(int, IntConsumer) run} through this executor, so their games share its
+     * workers and keep all of them busy. If the caller thread is interrupted, the executor is cancelled, the
+     * simulations are still awaited, which is quick since they can no longer start games, and the interrupt flag is
+     * restored.</p>
+     * @return the result of each simulation, in the same order.
+     */
+    public <T> List<T> runAll(List<? extends Callable<T>> simulations) {
+        Objects.requireNonNull(simulations, "Simulations must not be null!");
+        final List<Future<T>> futures = new ArrayList<>(simulations.size());
+        for (Callable<T> simulation : simulations) futures.add(callers.submit(simulation));
+
+        final List<T> results = new ArrayList<>(futures.size());
+        boolean interrupted = false;
+        try {
+            for (Future<T> future : futures) {
+                while (true) {
+                    try {
+                        results.add(future.get());
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        cancel();
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            cancel();
+            throw new IllegalStateException("Simulation failed.", e.getCause());
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    private void awaitAll(List<Future<?>> workers) {
+        try {
+            for (Future<?> worker : workers) worker.get();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            cancel();
+            throw new IllegalStateException("Simulation worker failed.", e.getCause());
+        }
+    }
+
+    private void reportIfDue() {
+        final long now = System.nanoTime();
+        final long last = lastReport.get();
+        if (now - last < REPORT_INTERVAL.toNanos() || !lastReport.compareAndSet(last, now)) return;
+        progressListener.accept(progress());
+    }
+
+    public SimulationProgressDto progress() {
+        return new SimulationProgressDto(gamesPlayed.sum(), gamesRequested.get(),
+                Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isStopped() {
+        return cancelled || System.nanoTime() - startTime >= timeBudget;
+    }
+
+    @Override
+    public void close() {
+        callers.shutdownNow();
+        executor.shutdownNow();
+    }
+}
@@ -1,71 +1,119 @@
 package com.bueno.domain.usecases.game.service;
 
-import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
-import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
+import com.bueno.domain.usecases.game.dtos.DuplicateDealDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
-import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
-import com.bueno.domain.usecases.game.repos.GameRepository;
-import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class SimulationService {
+   private static final Logger LOGGER = Logger.getLogger(SimulationService.class.getName());
+
    private final UUID uuidBot1;
    private final String bot1Name;
    private final UUID uuidBot2;
    private final String bot2Name;
+   private final long seed;
 
     public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName) {
+        this(uuidBotToEvaluate, botToEvaluateName, challengedBotName, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * <p>Creates a service whose games are dealt from decks seeded by a sequence derived from {@code seed}.
+     * Running the same number of games with the same seed deals exactly the same hands, whatever the thread
+     * that plays each game. Results are reproducible as long as the bots themselves are deterministic.</p>
+     */
+    public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName, long seed) {
         this.uuidBot1 = uuidBotToEvaluate;
         this.bot1Name = botToEvaluateName;
-        this.uuidBot2 = UUID.randomUUID();;
+        this.uuidBot2 = UUID.randomUUID();
         this.bot2Name = challengedBotName;
+        this.seed = seed;
     }
 
-    public List<PlayWithBotsDto> runInParallel(int times) {
-        final Callable<PlayWithBotsDto> gameWaitingForBeCreatedAndPlayed = this::simulate;
-        return Stream.generate(() -> gameWaitingForBeCreatedAndPlayed)
-                .limit(times)
-                .parallel()
-                .map(executeGameCall())
-                .filter(Objects::nonNull)
-                .toList();
+    /**
+     * <p>Plays {@code times} games on the given executor and counts the wins of each bot as the games finish. Games
+     * that throw are counted as failed and logged.</p>
+     *
+     * <p>If any of the bots is a {@code BatchBotServiceProvider}, each task of the executor plays a chunk of
+     * {@link InterleavedSimulation#DEFAULT_CONCURRENT_GAMES} games interleaved, so the bot decides for many games
+     * in each call. Games are dealt from the same seeds either way.</p>
+     */
+    public SimulationResultDto run(int times, SimulationExecutor executor) {
+        final long[] gameSeeds = new SplittableRandom(seed).longs(times).toArray();
+        final LongAdder bot1Wins = new LongAdder();
+        final LongAdder bot2Wins = new LongAdder();
+        final LongAdder failedGames = new LongAdder();
+        final Consumer<PlayWithBotsDto> count = result -> {
+            if (result == null) failedGames.increment();
+            else if (result.uuid().equals(uuidBot1)) bot1Wins.increment();
+            else bot2Wins.increment();
+        };
+
+        final boolean complete;
+        if (InterleavedSimulation.isBatchBot(bot1Name) || InterleavedSimulation.isBatchBot(bot2Name)) {
+            final int chunkSize = InterleavedSimulation.DEFAULT_CONCURRENT_GAMES;
+            final int chunks = (times + chunkSize - 1) / chunkSize;
+            final int chunksRun = executor.run(chunks, chunkSize, chunk -> {
+                final long[] chunkSeeds = Arrays.copyOfRange(gameSeeds, chunk * chunkSize,
+                        Math.min(times, (chunk + 1) * chunkSize));
+                final PlayWithBotsDto[] results = executeGameCall(() -> simulateInterleaved(chunkSeeds));
+                if (results == null) failedGames.add(chunkSeeds.length);
+                else Arrays.stream(results).forEach(count);
+            });
+            complete = chunksRun == chunks;
+        } else {
+            final int gamesRun = executor.run(times, game -> count.accept(executeGameCall(() -> simulate(gameSeeds[game]))));
+            complete = gamesRun == times;
+        }
+        return new SimulationResultDto(uuidBot1, bot1Name, bot1Wins.sum(), uuidBot2, bot2Name, bot2Wins.sum(),
+                failedGames.sum(), times, complete);
     }
 
-    private PlayWithBotsDto simulate(){
-        GameRepository gameRepository = new GameRepoDisposableImpl();
-        final var requestModel = new CreateForBotsDto(uuidBot1, bot1Name, uuidBot2, bot2Name);
-        final CreateGameUseCase createGameUseCase = new CreateGameUseCase(gameRepository);
-        createGameUseCase.createForBots(requestModel);
-        final var game = gameRepository.findByPlayerUuid(requestModel.bot1Uuid()).map(GameConverter::fromDto).orElseThrow();
-        final var botUseCase = new BotUseCase(gameRepository);
+    /**
+     * <p>Plays each deal twice, the second time with the bots swapping seats, so both bots receive the same cards
+     * along the games. Deals in which any of the two games fails, or that were not played because the executor was
+     * stopped, are discarded.</p>
+     */
+    public List<DuplicateDealDto> runDuplicate(int deals, SimulationExecutor executor) {
+        final long[] dealSeeds = new SplittableRandom(seed).longs(deals).toArray();
+        final DuplicateDealDto[] results = new DuplicateDealDto[deals];
+        executor.run(deals, 2, deal -> results[deal] = executeGameCall(() -> simulateDuplicate(dealSeeds[deal])));
+        return Arrays.stream(results).filter(Objects::nonNull).toList();
+    }
 
-        //Plays the game
-        final var intel = botUseCase.playWhenNecessary(game);
+    private DuplicateDealDto simulateDuplicate(long dealSeed) {
+        final var originalSeats = new SimulationEngine(uuidBot1, bot1Name, uuidBot2, bot2Name).play(dealSeed);
+        final var swappedSeats = new SimulationEngine(uuidBot2, bot2Name, uuidBot1, bot1Name).play(dealSeed);
+        return new DuplicateDealDto(dealSeed, originalSeats, swappedSeats);
+    }
 
-        final var winnerUUID = intel.gameWinner().orElseThrow();
-        final var winnerName = winnerUUID.equals(requestModel.bot1Uuid()) ?
-                requestModel.bot1Name() : requestModel.bot2Name();
-        System.out.println("Winner: " + winnerName);
-        return new PlayWithBotsDto(winnerUUID, winnerName);
+    private PlayWithBotsDto simulate(long gameSeed){
+        final var engine = new SimulationEngine(uuidBot1, bot1Name, uuidBot2, bot2Name);
+        return engine.play(gameSeed);
     }
 
+    private PlayWithBotsDto[] simulateInterleaved(long[] gameSeeds) {
+        return new InterleavedSimulation(uuidBot1, bot1Name, uuidBot2, bot2Name).play(gameSeeds);
+    }
 
-    private Function<Callable<PlayWithBotsDto>, PlayWithBotsDto> executeGameCall(){
-        return gameCall -> {
-            try {
-                return gameCall.call();
-            }
-            catch (Exception e) {
-                e.printStackTrace();
-                return null;
-            }
-        };
+    private <T> T executeGameCall(Callable<T> gameCall){
+        try {
+            return gameCall.call();
+        }
+        catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Simulation of " + bot1Name + " vs " + bot2Name + " failed.", e);
+            return null;
+        }
     }
 }
@@ -0,0 +1,139 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.dtos.SolverAnalysisDto;
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
+import com.bueno.domain.usecases.hand.solver.Deal;
+import com.bueno.domain.usecases.hand.solver.HandSolver;
+import com.bueno.domain.usecases.hand.solver.SolverMove;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Compares the decisions of two bots along seeded games with the best moves of a {@link HandSolver}. Games are
+ * played as in the {@link SimulationEngine} and, before each bot turn, the solver evaluates every legal move of the
+ * hand. The move the bot made is the one whose state matches the hand after the turn, and the points it lost are the
+ * difference between the value of the best move and the value of its move, for the bot.</p>
+ *
+ * <p>The solver sees the cards of both players, so the losses measure the distance to a clairvoyant player. They are
+ * not a fair score of a single bot, but they show in which decisions each bot gives up more points.</p>
+ */
+public class SolverAnalysisService {
+    private static final Logger LOGGER = Logger.getLogger(SolverAnalysisService.class.getName());
+
+    private final UUID uuidBot1 = UUID.randomUUID();
+    private final String bot1Name;
+    private final UUID uuidBot2 = UUID.randomUUID();
+    private final String bot2Name;
+    private final Map<String, Map<BotDecision, long[]>> tallies = new HashMap<>();
+    private final LongAdder discardedGames = new LongAdder();
+
+    public SolverAnalysisService(String bot1Name, String bot2Name) {
+        this.bot1Name = Objects.requireNonNull(bot1Name, "Bot1 name must not be null!");
+        this.bot2Name = Objects.requireNonNull(bot2Name, "Bot2 name must not be null!");
+    }
+
+    /**
+     * <p>Plays one game for each seed on the executor and adds its decisions to the analysis. Games that throw are
+     * logged with their seed and discarded, and counted in {@link #discardedGames()}.</p>
+     * @return the analysis of all the games played by this service, by bot and decision.
+     */
+    public List<SolverAnalysisDto> analyse(long[] seeds, SimulationExecutor executor) {
+        executor.run(seeds.length, HandSolver::new, (solver, game) -> {
+            try {
+                merge(analyse(seeds[game], solver));
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Analysis of the game of seed " + seeds[game] + " failed.", e);
+                discardedGames.increment();
+            }
+        });
+        return results();
+    }
+
+    /**
+     * @return the number of games played by this service that threw and were left out of the analysis.
+     */
+    public long discardedGames() {
+        return discardedGames.sum();
+    }
+
+    private Map<String, Map<BotDecision, long[]>> analyse(long seed, HandSolver solver) {
+        final Game game = new Game(Player.ofBot(uuidBot1, bot1Name), Player.ofBot(uuidBot2, bot2Name), seed);
+        final Map<String, Map<BotDecision, long[]>> gameTallies = new HashMap<>();
+        final BotSessionRegistry sessions = BotSessionRegistry.getInstance();
+        try {
+            final BotServiceProvider bot1Service = SimulationEngine.decorate(
+                    sessions.open(game, SimulationEngine.botOf(game, uuidBot1), BotServiceManager.load(bot1Name)));
+            final BotServiceProvider bot2Service = SimulationEngine.decorate(
+                    sessions.open(game, SimulationEngine.botOf(game, uuidBot2), BotServiceManager.load(bot2Name)));
+
+            while (!game.isDone()) {
+                final Hand hand = game.currentHand();
+                final Player bot = hand.getCurrentPlayer();
+                if (bot == null) throw new IllegalStateException("Hand has no current player: " + game);
+                sessions.sync(game);
+
+                final Deal deal = Deal.of(hand);
+                final long before = solver.stateOf(deal, hand);
+                final BotDecision decision = SimulationEngine.nextDecision(hand, bot, false);
+                final Map<SolverMove, Integer> values = solver.valuesOfMoves(deal, before);
+
+                SimulationEngine.playTurn(game, bot, uuidBot1.equals(bot.getUuid()) ? bot1Service : bot2Service);
+
+                final long after = solver.stateOf(deal, hand);
+                final SolverMove move = values.keySet().stream()
+                        .filter(candidate -> solver.apply(deal, before, candidate) == after)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("Bot move does not follow the solver rules: " + hand));
+
+                final int sign = HandSolver.playerToMove(before) == 0 ? 1 : -1;
+                final int best = values.values().stream().mapToInt(value -> sign * value).max().orElseThrow();
+                final int lost = best - sign * values.get(move);
+                final long[] tally = gameTallies.computeIfAbsent(bot.getUsername(), unused -> new EnumMap<>(BotDecision.class))
+                        .computeIfAbsent(decisionOf(decision, move), unused -> new long[3]);
+                tally[0]++;
+                if (lost == 0) tally[1]++;
+                tally[2] += lost;
+            }
+        } finally {
+            sessions.close(game.getUuid());
+        }
+        return gameTallies;
+    }
+
+    private static BotDecision decisionOf(BotDecision firstDecision, SolverMove move) {
+        if (firstDecision != BotDecision.DECIDE_IF_RAISES) return firstDecision;
+        return move == SolverMove.RAISE ? BotDecision.DECIDE_IF_RAISES : BotDecision.CHOOSE_CARD;
+    }
+
+    private synchronized void merge(Map<String, Map<BotDecision, long[]>> gameTallies) {
+        gameTallies.forEach((botName, byDecision) -> byDecision.forEach((decision, tally) -> {
+            final long[] total = tallies.computeIfAbsent(botName, unused -> new EnumMap<>(BotDecision.class))
+                    .computeIfAbsent(decision, unused -> new long[3]);
+            for (int i = 0; i < total.length; i++) total[i] += tally[i];
+        }));
+    }
+
+    private synchronized List<SolverAnalysisDto> results() {
+        final List<SolverAnalysisDto> results = new ArrayList<>();
+        tallies.forEach((botName, byDecision) -> byDecision.forEach((decision, tally) ->
+                results.add(new SolverAnalysisDto(botName, decision, tally[0], tally[1], tally[2]))));
+        results.sort(Comparator.comparing(SolverAnalysisDto::botName).thenComparing(SolverAnalysisDto::decision));
+        return results;
+    }
+}
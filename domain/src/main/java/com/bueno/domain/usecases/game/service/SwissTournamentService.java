@@ -0,0 +1,185 @@
+package com.bueno.domain.usecases.game.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Ranks bots by a Swiss-system tournament. In each round, bots are sorted by their current match points and
+ * paired with the closest bot they have not faced yet, so a ranking close to a round robin emerges after about
+ * {@code log2(n)} rounds instead of {@code n - 1}. When the number of bots is odd, the lowest ranked bot without a
+ * bye so far skips the round and receives one match point.</p>
+ *
+ * <p>The matches of a round are played concurrently on a fixed size executor. Standings are only updated by the
+ * calling thread after all matches of the round are done. A match whose runner throws is logged and ends the
+ * tournament with an exception, since it has no result that could be counted without skewing the pairings.</p>
+ */
+public class SwissTournamentService {
+    private static final Logger LOGGER = Logger.getLogger(SwissTournamentService.class.getName());
+
+    @FunctionalInterface
+    public interface MatchRunner {
+        /**
+         * @return the name of the bot that won the match, or empty if it is a draw.
+         */
+        Optional<String> play(String bot1Name, String bot2Name, long seed);
+    }
+
+    private final List<String> botNames;
+    private final int rounds;
+    private final int parallelism;
+    private final SplittableRandom seeds;
+    private final MatchRunner matchRunner;
+
+    public SwissTournamentService(List<String> botNames, int rounds, int parallelism, long seed, MatchRunner matchRunner) {
+        this.botNames = List.copyOf(botNames);
+        this.matchRunner = Objects.requireNonNull(matchRunner, "Match runner must not be null!");
+        if (rounds < 0) throw new IllegalArgumentException("Number of rounds must not be negative: " + rounds);
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.rounds = rounds;
+        this.parallelism = parallelism;
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    public static int defaultRounds(int numberOfBots) {
+        if (numberOfBots < 2) return 0;
+        return 32 - Integer.numberOfLeadingZeros(numberOfBots - 1);
+    }
+
+    /**
+     * @return match points of each bot, ordered from the first to the last place. Bots with the same points are
+     * ordered by the sum of the points of their opponents (Buchholz score).
+     */
+    public Map<String, Long> play() {
+        final List<Standing> standings = shuffledStandings();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (int round = 0; round < rounds; round++) playRound(standings, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+        return ranking(standings);
+    }
+
+    private List<Standing> shuffledStandings() {
+        final List<Standing> standings = new ArrayList<>();
+        botNames.forEach(name -> standings.add(new Standing(name)));
+        for (int i = standings.size() - 1; i > 0; i--) Collections.swap(standings, i, seeds.nextInt(i + 1));
+        return standings;
+    }
+
+    private void playRound(List<Standing> standings, ExecutorService executor) {
+        standings.sort(Comparator.comparingLong(Standing::points).reversed());
+        final List<Standing> unpaired = new ArrayList<>(standings);
+        assignBye(unpaired);
+
+        final List<Pairing> pairings = new ArrayList<>();
+        while (unpaired.size() > 1) {
+            final Standing first = unpaired.remove(0);
+            pairings.add(new Pairing(first, unpaired.remove(closestNewOpponent(first, unpaired)), seeds.nextLong()));
+        }
+
+        final List<Callable<Optional<String>>> matches = pairings.stream()
+                .map(pairing -> (Callable<Optional<String>>) () ->
+                        matchRunner.play(pairing.first().name, pairing.second().name, pairing.seed()))
+                .toList();
+
+        final List<Future<Optional<String>>> results = invokeAll(executor, matches);
+        for (int i = 0; i < pairings.size(); i++) pairings.get(i).register(resultOf(pairings.get(i), results.get(i)));
+    }
+
+    private void assignBye(List<Standing> unpaired) {
+        if (unpaired.size() % 2 == 0) return;
+        Standing bye = unpaired.get(unpaired.size() - 1);
+        for (int i = unpaired.size() - 1; i >= 0; i--) {
+            if (!unpaired.get(i).hadBye) {
+                bye = unpaired.get(i);
+                break;
+            }
+        }
+        unpaired.remove(bye);
+        bye.hadBye = true;
+        bye.points++;
+    }
+
+    private int closestNewOpponent(Standing standing, List<Standing> candidates) {
+        for (int i = 0; i < candidates.size(); i++)
+            if (!standing.opponents.contains(candidates.get(i).name)) return i;
+        return 0;
+    }
+
+    private static List<Future<Optional<String>>> invokeAll(ExecutorService executor, List<Callable<Optional<String>>> matches) {
+        try {
+            return executor.invokeAll(matches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted.", e);
+        }
+    }
+
+    private static Optional<String> resultOf(Pairing pairing, Future<Optional<String>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted.", e);
+        } catch (ExecutionException e) {
+            final String match = pairing.first().name + " vs " + pairing.second().name;
+            LOGGER.log(Level.SEVERE, "Match " + match + " failed.", e.getCause());
+            throw new IllegalStateException("Match " + match + " failed.", e.getCause());
+        }
+    }
+
+    private Map<String, Long> ranking(List<Standing> standings) {
+        final Map<String, Long> pointsByName = new LinkedHashMap<>();
+        standings.forEach(standing -> pointsByName.put(standing.name, standing.points));
+
+        final Comparator<Standing> byPoints = Comparator.comparingLong(Standing::points);
+        final Comparator<Standing> byBuchholz = Comparator.comparingLong(standing -> standing.opponents.stream()
+                .mapToLong(pointsByName::get).sum());
+
+        final Map<String, Long> ranking = new LinkedHashMap<>();
+        standings.stream()
+                .sorted(byPoints.thenComparing(byBuchholz).reversed().thenComparing(standing -> standing.name))
+                .forEach(standing -> ranking.put(standing.name, standing.points));
+        return ranking;
+    }
+
+    private static final class Standing {
+        private final String name;
+        private final Set<String> opponents = new HashSet<>();
+        private long points;
+        private boolean hadBye;
+
+        private Standing(String name) {
+            this.name = name;
+        }
+
+        private long points() {
+            return points;
+        }
+    }
+
+    private record Pairing(Standing first, Standing second, long seed) {
+        void register(Optional<String> winner) {
+            first.opponents.add(second.name);
+            second.opponents.add(first.name);
+            winner.ifPresent(name -> (name.equals(first.name) ? first : second).points++);
+        }
+    }
+}
@@ -33,7 +33,7 @@ import com.bueno.domain.usecases.user.UserRepository;
 import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
 import com.bueno.domain.usecases.utils.exceptions.IllegalGameEnrolmentException;
-import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -75,7 +75,7 @@ public class CreateGameUseCase {
     }
 
     private boolean hasNoBotServiceWith(String botName) {
-        return !BotServiceManager.providersNames().contains(botName);
+        return !BotRegistry.getInstance().contains(botName);
     }
 
     public IntelDto createDetached(CreateDetachedDto request){
@@ -1,54 +1,132 @@
 package com.bueno.domain.usecases.game.usecase;
 
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.OpponentEvaluationDto;
+import com.bueno.domain.usecases.game.dtos.SimulationProgressDto;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
+import com.bueno.domain.usecases.game.service.SequentialProbabilityRatio;
+import com.bueno.domain.usecases.game.service.SequentialProbabilityRatio.Decision;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
 import com.bueno.domain.usecases.game.service.SimulationService;
 import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 public class EvaluateBotsUseCase {
     private final UUID uuidBotToEvaluate = UUID.randomUUID();
     private final String botToEvaluateName;
+    private final SplittableRandom seeds;
+    private final Consumer<SimulationProgressDto> progressListener;
     public static final int TIMES = 31;
+    public static final int BATCH_SIZE = 8;
+    public static final double DEFAULT_ERROR_RATE = 0.05;
+    public static final double INDIFFERENCE = 0.1;
 
     public EvaluateBotsUseCase(String botToEvaluateName) {
+        this(botToEvaluateName, new SplittableRandom().nextLong());
+    }
+
+    public EvaluateBotsUseCase(String botToEvaluateName, long seed) {
+        this(botToEvaluateName, seed, progress -> {});
+    }
+
+    public EvaluateBotsUseCase(String botToEvaluateName, Consumer<SimulationProgressDto> progressListener) {
+        this(botToEvaluateName, new SplittableRandom().nextLong(), progressListener);
+    }
+
+    public EvaluateBotsUseCase(String botToEvaluateName, long seed, Consumer<SimulationProgressDto> progressListener) {
         this.botToEvaluateName = botToEvaluateName;
+        this.seeds = new SplittableRandom(seed);
+        this.progressListener = Objects.requireNonNull(progressListener, "Progress listener must not be null!");
     }
 
     public EvaluateResultsDto getResults(List<String> botNames) {
-        final int numberOfGames = (botNames.size() - 1) * TIMES;
+        final var test = new SequentialProbabilityRatio(DEFAULT_ERROR_RATE, INDIFFERENCE);
+        return evaluate(botNames, (opponentName, seed, executor) -> runSimulations(opponentName, seed, test, executor));
+    }
+
+    /**
+     * <p>Plays batches of {@link #BATCH_SIZE} games against each opponent until a sequential probability ratio test
+     * decides who is the better bot at the given error rate, or until {@link #TIMES} games have been played. In the
+     * later case, the match is decided by majority as in {@link #getResults(List)}. All the opponents are evaluated
+     * at the same time, so their batches share the simulation workers and keep all of them busy.</p>
+     */
+    public EvaluateResultsDto getAdaptiveResults(List<String> botNames, double errorRate) {
+        final var test = new SequentialProbabilityRatio(errorRate, INDIFFERENCE);
+        return evaluate(botNames, (opponentName, seed, executor) -> runSequentialSimulations(opponentName, seed, test, executor));
+    }
+
+    private EvaluateResultsDto evaluate(List<String> botNames, OpponentEvaluation evaluation) {
+        final List<String> opponents = botNames.stream().filter(this::isNotEvaluatedBot).toList();
 
         final long start = System.currentTimeMillis();
-        var results = botNames.stream().filter(this::isNotEvaluatedBot).map(this::runSimulations).toList();
+        final List<OpponentEvaluationDto> results;
+        try (var executor = SimulationExecutor.ofAvailableProcessors(progressListener)) {
+            final List<Callable<OpponentEvaluationDto>> evaluations = new ArrayList<>(opponents.size());
+            for (String opponent : opponents) {
+                final long seed = seeds.nextLong();
+                evaluations.add(() -> evaluation.apply(opponent, seed, executor));
+            }
+            results = executor.runAll(evaluations);
+        }
         final long end = System.currentTimeMillis();
 
-        final long evaluatedBotWins = results.stream().mapToLong(this::resultAccumulator).sum();
-        final long gameWins = results.stream().mapToLong(match -> WinsAccumulatorService.getWins(match, botToEvaluateName, TIMES)).sum();
+        final long numberOfGames = results.stream().mapToLong(OpponentEvaluationDto::numberOfGames).sum();
+        final long evaluatedBotWins = results.stream().mapToLong(OpponentEvaluationDto::evaluatedBotWins).sum();
+        final long gameWins = results.stream().filter(OpponentEvaluationDto::matchWon).count();
 
-        double winRate = ((double) evaluatedBotWins / numberOfGames) * 100;
-        double percentile = (((double) gameWins / (botNames.size() - 1)) * 100);
+        double winRate = numberOfGames == 0 ? 0 : ((double) evaluatedBotWins / numberOfGames) * 100;
+        double percentile = (((double) gameWins / opponents.size()) * 100);
 
-        return new EvaluateResultsDto((end - start), numberOfGames, evaluatedBotWins, winRate, percentile, gameWins);
+        return new EvaluateResultsDto((end - start), numberOfGames, evaluatedBotWins, winRate, percentile, gameWins, results);
     }
 
     private boolean isNotEvaluatedBot(String opponentName) {
         return !opponentName.equals(botToEvaluateName);
     }
 
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName) {
-        final var playManyService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return playManyService.runInParallel(TIMES);
+    private OpponentEvaluationDto runSimulations(String challengedBotName, long seed, SequentialProbabilityRatio test,
+                                                 SimulationExecutor executor) {
+        final var playManyService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName, seed);
+        final SimulationResultDto results = playManyService.run(TIMES, executor);
+
+        final long games = results.gamesPlayed();
+        final long wins = results.winsOf(uuidBotToEvaluate);
+        final boolean matchWon = WinsAccumulatorService.getWins(wins, TIMES) == 1;
+        return new OpponentEvaluationDto(challengedBotName, games, wins, matchWon, test.confidence(wins, games - wins));
     }
 
-    private Long resultAccumulator(List<PlayWithBotsDto> results) {
-        Map<String, Long> collectResults = results.stream()
-                .collect(Collectors.groupingBy(PlayWithBotsDto::name, Collectors.counting()));
-        if (!collectResults.containsKey(botToEvaluateName)) return 0L;
-        return collectResults.get(botToEvaluateName);
+    private OpponentEvaluationDto runSequentialSimulations(String challengedBotName, long seed, SequentialProbabilityRatio test,
+                                                           SimulationExecutor executor) {
+        final SplittableRandom batchSeeds = new SplittableRandom(seed);
+        int attempts = 0;
+        long games = 0;
+        long wins = 0;
+        Decision decision = Decision.UNDECIDED;
+
+        while (decision == Decision.UNDECIDED && attempts < TIMES && !executor.isStopped()) {
+            final int batchSize = Math.min(BATCH_SIZE, TIMES - attempts);
+            final var batchService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName, batchSeeds.nextLong());
+            final SimulationResultDto results = batchService.run(batchSize, executor);
+
+            attempts += batchSize;
+            games += results.gamesPlayed();
+            wins += results.winsOf(uuidBotToEvaluate);
+            decision = test.decide(wins, games - wins);
+        }
+
+        final boolean matchWon = decision == Decision.UNDECIDED ? wins * 2 > games : decision == Decision.BETTER;
+        return new OpponentEvaluationDto(challengedBotName, games, wins, matchWon, test.confidence(wins, games - wins));
     }
 
+    @FunctionalInterface
+    private interface OpponentEvaluation {
+        OpponentEvaluationDto apply(String opponentName, long seed, SimulationExecutor executor);
+    }
 }
@@ -20,27 +20,72 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.DuplicateReportDto;
+import com.bueno.domain.usecases.game.dtos.SimulationProgressDto;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
+import com.bueno.domain.usecases.game.service.DuplicateDealReportService;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
 import com.bueno.domain.usecases.game.service.SimulationService;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class PlayWithBotsUseCase {
 
     private final UUID uuidBot1;
     private final String bot1Name;
     private final String bot2Name;
+    private final long seed;
+    private final Consumer<SimulationProgressDto> progressListener;
 
     public PlayWithBotsUseCase(UUID uuidBot1, String bot1Name, String bot2Name) {
+        this(uuidBot1, bot1Name, bot2Name, new SplittableRandom().nextLong());
+    }
+
+    public PlayWithBotsUseCase(UUID uuidBot1, String bot1Name, String bot2Name, long seed) {
+        this(uuidBot1, bot1Name, bot2Name, seed, progress -> {});
+    }
+
+    public PlayWithBotsUseCase(UUID uuidBot1, String bot1Name, String bot2Name, Consumer<SimulationProgressDto> progressListener) {
+        this(uuidBot1, bot1Name, bot2Name, new SplittableRandom().nextLong(), progressListener);
+    }
+
+    public PlayWithBotsUseCase(UUID uuidBot1, String bot1Name, String bot2Name, long seed,
+                               Consumer<SimulationProgressDto> progressListener) {
         this.uuidBot1 = uuidBot1;
         this.bot1Name = bot1Name;
         this.bot2Name = bot2Name;
+        this.seed = seed;
+        this.progressListener = Objects.requireNonNull(progressListener, "Progress listener must not be null!");
+    }
+
+    public SimulationResultDto playWithBots(int times) {
+        return playWithBots(times, null);
+    }
+
+    /**
+     * <p>Plays up to {@code times} games, stopping to start new games once {@code timeBudget} is over. A {@code null}
+     * budget plays all games.</p>
+     */
+    public SimulationResultDto playWithBots(int times, Duration timeBudget) {
+        final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name, seed);
+        try (var executor = newExecutor(timeBudget)) {
+            return simulator.run(times, executor);
+        }
+    }
+
+    public DuplicateReportDto playDuplicate(int deals) {
+        final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name, seed);
+        try (var executor = newExecutor(null)) {
+            return DuplicateDealReportService.report(simulator.runDuplicate(deals, executor), uuidBot1);
+        }
     }
 
-    public List<PlayWithBotsDto> playWithBots(int times) {
-        final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name);
-        return simulator.runInParallel(times);
+    private SimulationExecutor newExecutor(Duration timeBudget) {
+        return new SimulationExecutor(Runtime.getRuntime().availableProcessors(), timeBudget, progressListener);
     }
 
 }
@@ -1,34 +1,87 @@
 package com.bueno.domain.usecases.game.usecase;
 
 import com.bueno.domain.usecases.bot.providers.BotProviders;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.SimulationProgressDto;
+import com.bueno.domain.usecases.game.dtos.SimulationResultDto;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
 import com.bueno.domain.usecases.game.service.SimulationService;
+import com.bueno.domain.usecases.game.service.SwissTournamentService;
 import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class RankBotsUseCase {
     private final int TIMES = 7;
     private final Map<String, Long> rankMap = new HashMap<>();
     private final List<String> botNames = BotProviders.availableBots();
+    private final SplittableRandom seeds;
+    private final Consumer<SimulationProgressDto> progressListener;
+
+    public RankBotsUseCase() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public RankBotsUseCase(long seed) {
+        this(seed, progress -> {});
+    }
+
+    public RankBotsUseCase(Consumer<SimulationProgressDto> progressListener) {
+        this(new SplittableRandom().nextLong(), progressListener);
+    }
+
+    public RankBotsUseCase(long seed, Consumer<SimulationProgressDto> progressListener) {
+        this.seeds = new SplittableRandom(seed);
+        this.progressListener = Objects.requireNonNull(progressListener, "Progress listener must not be null!");
+    }
 
     public Map<String, Long> rankAll() {
-        botNames.forEach(this::playAgainstAll);
+        try (var executor = SimulationExecutor.ofAvailableProcessors(progressListener)) {
+            botNames.forEach(botName -> playAgainstAll(botName, executor));
+        }
         return rankMap;
     }
 
-    private void playAgainstAll(String botName) {
+    /**
+     * <p>Ranks the bots by a Swiss-system tournament of {@code ceil(log2(n))} rounds, each bot playing a match of
+     * {@code TIMES} games per round against a bot with a similar score.</p>
+     * @return match points of each bot, ordered from the first to the last place.
+     */
+    public Map<String, Long> rankSwiss() {
+        final int rounds = SwissTournamentService.defaultRounds(botNames.size());
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        try (var executor = SimulationExecutor.ofAvailableProcessors(progressListener)) {
+            final var tournament = new SwissTournamentService(botNames, rounds, parallelism, seeds.nextLong(),
+                    (bot1Name, bot2Name, seed) -> playMatch(bot1Name, bot2Name, seed, executor));
+            return tournament.play();
+        }
+    }
+
+    private Optional<String> playMatch(String bot1Name, String bot2Name, long seed, SimulationExecutor executor) {
+        final UUID uuidBot1 = UUID.randomUUID();
+        final SimulationResultDto results = new SimulationService(uuidBot1, bot1Name, bot2Name, seed).run(TIMES, executor);
+        final long bot1Wins = results.bot1Wins();
+        final long bot2Wins = results.bot2Wins();
+
+        if (bot1Wins == bot2Wins) return Optional.empty();
+        return Optional.of(bot1Wins > bot2Wins ? bot1Name : bot2Name);
+    }
+
+    private void playAgainstAll(String botName, SimulationExecutor executor) {
         UUID uuidBotToEvaluate = UUID.randomUUID();
         var results = botNames.stream()
                 .filter(opponentName -> isNotEvaluatedBot(opponentName, botName))
-                .map(opponent -> runSimulations(opponent, botName, uuidBotToEvaluate))
+                .map(opponent -> runSimulations(opponent, botName, uuidBotToEvaluate, executor))
                 .toList();
 
         Long botWins = results.stream()
-                .mapToLong(match -> WinsAccumulatorService.getWins(match, botName, TIMES))
+                .mapToLong(match -> WinsAccumulatorService.getWins(match.winsOf(uuidBotToEvaluate), TIMES))
                 .sum();
         rankMap.put(botName, botWins);
     }
@@ -37,9 +90,10 @@ public class RankBotsUseCase {
         return !opponentName.equals(botToEvaluateName);
     }
 
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName, String botToEvaluateName, UUID uuidBotToEvaluate) {
-        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return simulator.runInParallel(TIMES);
+    private SimulationResultDto runSimulations(String challengedBotName, String botToEvaluateName, UUID uuidBotToEvaluate,
+                                               SimulationExecutor executor) {
+        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName, seeds.nextLong());
+        return simulator.run(TIMES, executor);
     }
 
 }
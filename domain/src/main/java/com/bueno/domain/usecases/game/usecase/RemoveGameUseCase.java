@@ -20,14 +20,18 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
-import com.bueno.domain.usecases.hand.dtos.HandDto;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -36,6 +40,7 @@ import java.util.UUID;
 
 @Service
 public class RemoveGameUseCase {
+    public static final int INACTIVE_GAMES_PAGE_SIZE = 100;
 
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
@@ -45,18 +50,25 @@ public class RemoveGameUseCase {
         this.gameResultRepo = gameResultRepo;
     }
 
+    /**
+     * <p>Removes the games without activity in the last {@code minutes}, reading them in pages of
+     * {@link #INACTIVE_GAMES_PAGE_SIZE} game and player UUIDs.</p>
+     * @return UUIDs of the inactive players, who lose the removed games.
+     */
     public List<UUID> byInactivityAfter(int minutes){
-        final List<UUID> gamesToRemove = gameRepo.findAllInactiveAfter(minutes)
-                .stream()
-                .map(this::inactivePlayerUuid)
-                .toList();
-        gamesToRemove.forEach(this::byUserUuid);
-        return gamesToRemove;
-    }
-
-    public UUID inactivePlayerUuid(GameDto game){
-        final HandDto currentHand = game.hands().get(game.hands().size() - 1);
-        return currentHand.currentPlayer().uuid();
+        final Instant inactiveSince = Instant.now().minus(Duration.ofMinutes(minutes));
+        final List<UUID> inactivePlayers = new ArrayList<>();
+        List<InactiveGameDto> page = gameRepo.findInactiveSince(inactiveSince, null, INACTIVE_GAMES_PAGE_SIZE);
+        while (!page.isEmpty()) {
+            for (InactiveGameDto game : page) {
+                byUserUuid(game.inactivePlayerUuid());
+                inactivePlayers.add(game.inactivePlayerUuid());
+            }
+            if (page.size() < INACTIVE_GAMES_PAGE_SIZE) break;
+            final UUID lastGameUuid = page.get(page.size() - 1).gameUuid();
+            page = gameRepo.findInactiveSince(inactiveSince, lastGameUuid, INACTIVE_GAMES_PAGE_SIZE);
+        }
+        return inactivePlayers;
     }
 
     public void byUserUuid(UUID userUuid) {
@@ -64,6 +76,7 @@ public class RemoveGameUseCase {
         final GameDto game = gameRepo.findByPlayerUuid(Objects.requireNonNull(uuid))
                 .orElseThrow(() -> new NoSuchElementException("The is no active game for user UUID: " + userUuid));
         gameRepo.delete(game.gameUuid());
+        BotSessionRegistry.getInstance().close(game.gameUuid());
         gameResultRepo.save(createGameResultFrom(game, userUuid));
     }
 
@@ -23,9 +23,11 @@ package com.bueno.domain.usecases.hand;
 import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
 import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
@@ -43,6 +45,7 @@ public class PlayCardUseCase {
     private final GameRepository gameRepository;
     private final GameResultRepository gameResultRepository;
     private final HandResultRepository handResultRepository;
+    private final ResultHandler resultHandler;
     private final BotUseCase botUseCase;
 
     public PlayCardUseCase(GameRepository gameRepository) {
@@ -57,6 +60,7 @@ public class PlayCardUseCase {
         this.gameRepository = gameRepository;
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
+        this.resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
         this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
     }
 
@@ -74,24 +78,32 @@ public class PlayCardUseCase {
 
         if (notification.hasErrors()) throw new UnsupportedGameRequestException(notification.errorMessage());
 
-        Game game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
+        final Game game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
+        playCard(game, CardConverter.fromDto(request.card()), discard);
+        gameRepository.update(GameConverter.toDto(game));
+
+        if (game.isDone()) BotSessionRegistry.getInstance().close(game.getUuid());
+        else botUseCase.playWhenNecessaryAndUpdate(game);
+        return IntelConverter.toDto(game.getIntel());
+    }
+
+    public Intel playCard(Game game, Card card) {
+        return playCard(game, card, false);
+    }
+
+    public Intel discard(Game game, Card card) {
+        return playCard(game, card, true);
+    }
+
+    private Intel playCard(Game game, Card card, boolean discard) {
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
-        final Card cardToPlay = CardConverter.fromDto(request.card());
-        final Card playedCard = discard ? player.discard(cardToPlay) : player.play(cardToPlay);
+        final Card playedCard = discard ? player.discard(card) : player.play(card);
 
         if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
         else hand.playSecondCard(player, playedCard);
 
-        final ResultHandler resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
-        final IntelDto gameResult = resultHandler.handle(game);
-
-        gameRepository.update(GameConverter.toDto(game));
-        if(gameResult != null) return gameResult;
-
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+        resultHandler.handle(game);
+        return game.getIntel();
     }
 }
@@ -22,9 +22,10 @@ package com.bueno.domain.usecases.hand;
 
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
-import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.bot.session.BotSessionRegistry;
 import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
@@ -46,6 +47,7 @@ public class PointsProposalUseCase {
     private final GameRepository gameRepository;
     private final GameResultRepository gameResultRepository;
     private final HandResultRepository handResultRepository;
+    private final ResultHandler resultHandler;
     private final BotUseCase botUseCase;
 
     public PointsProposalUseCase(GameRepository gameRepository) {
@@ -59,57 +61,58 @@ public class PointsProposalUseCase {
         this.gameRepository = Objects.requireNonNull( gameRepository);
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
+        this.resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
         this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
     }
 
     public IntelDto raise(UUID playerUuid){
         validateInput(playerUuid, PossibleAction.RAISE);
+        final Game game = loadGame(playerUuid);
+        raise(game);
+        return playBotsAndUpdate(game);
+    }
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+    public Intel raise(Game game){
         final Hand hand = game.currentHand();
-        final Player player = hand.getCurrentPlayer();
-
-        hand.raise(player);
-        gameRepository.update(GameConverter.toDto(game));
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+        hand.raise(hand.getCurrentPlayer());
+        return game.getIntel();
     }
 
     public IntelDto accept(UUID playerUuid){
         validateInput(playerUuid, PossibleAction.ACCEPT);
+        final Game game = loadGame(playerUuid);
+        accept(game);
+        return playBotsAndUpdate(game);
+    }
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+    public Intel accept(Game game){
         final Hand hand = game.currentHand();
-        final Player player = hand.getCurrentPlayer();
-
-        hand.accept(player);
-        gameRepository.update(GameConverter.toDto(game));
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+        hand.accept(hand.getCurrentPlayer());
+        return game.getIntel();
     }
 
     public IntelDto quit(UUID playerUuid){
         validateInput(playerUuid, PossibleAction.QUIT);
+        final Game game = loadGame(playerUuid);
+        quit(game);
+        return playBotsAndUpdate(game);
+    }
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+    public Intel quit(Game game){
         final Hand hand = game.currentHand();
-        final Player player = hand.getCurrentPlayer();
-
-        hand.quit(player);
+        hand.quit(hand.getCurrentPlayer());
+        resultHandler.handle(game);
+        return game.getIntel();
+    }
 
-        final ResultHandler resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
-        final IntelDto gameResult = resultHandler.handle(game);
+    private Game loadGame(UUID playerUuid) {
+        return gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+    }
 
+    private IntelDto playBotsAndUpdate(Game game) {
         gameRepository.update(GameConverter.toDto(game));
-        if(gameResult != null) return gameResult;
-
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        if (game.isDone()) BotSessionRegistry.getInstance().close(game.getUuid());
+        else botUseCase.playWhenNecessaryAndUpdate(game);
         return IntelConverter.toDto(game.getIntel());
     }
 
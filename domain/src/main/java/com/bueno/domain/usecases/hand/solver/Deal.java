@@ -0,0 +1,60 @@
+package com.bueno.domain.usecases.hand.solver;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardIndex;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Everything the {@link HandSolver} needs to know about a hand before it starts: the vira, the cards dealt to
+ * both players and their scores, which limit raises and define the mão de onze. Players are named after their
+ * position at the start of the hand.</p>
+ */
+public record Deal(Card vira, List<Card> firstToPlayCards, List<Card> lastToPlayCards,
+                   int firstToPlayScore, int lastToPlayScore) {
+
+    public Deal {
+        Objects.requireNonNull(vira, "Vira must not be null!");
+        firstToPlayCards = List.copyOf(firstToPlayCards);
+        lastToPlayCards = List.copyOf(lastToPlayCards);
+        if (firstToPlayCards.size() != 3 || lastToPlayCards.size() != 3)
+            throw new IllegalArgumentException("Each player must be dealt three cards!");
+        final long mask = CardIndex.maskOf(vira) | CardIndex.maskOf(firstToPlayCards) | CardIndex.maskOf(lastToPlayCards);
+        if (Long.bitCount(mask) != 7 || CardIndex.contains(mask, Card.closed()))
+            throw new IllegalArgumentException("Dealt cards must be open and unique!");
+        if (firstToPlayScore < 0 || firstToPlayScore >= Player.MAX_SCORE || lastToPlayScore < 0 || lastToPlayScore >= Player.MAX_SCORE)
+            throw new IllegalArgumentException("Scores must be lower than " + Player.MAX_SCORE + ".");
+    }
+
+    /**
+     * <p>Deals the vira and three cards to each player from the top of the deck.</p>
+     */
+    public static Deal of(Deck deck, int firstToPlayScore, int lastToPlayScore) {
+        final Card vira = deck.takeOne();
+        return new Deal(vira, deck.take(3), deck.take(3), firstToPlayScore, lastToPlayScore);
+    }
+
+    /**
+     * <p>Recovers the deal of a hand that is being played. It must be called before the hand is done, since the game
+     * updates the scores of the players when the hand is over.</p>
+     */
+    public static Deal of(Hand hand) {
+        final List<Card> dealtCards = hand.getDealtCards();
+        final Player firstToPlay = DealRules.firstToPlayOf(hand);
+        final Player lastToPlay = hand.getOpponentOf(firstToPlay);
+        return new Deal(dealtCards.get(0), dealtCards.subList(1, 4), dealtCards.subList(4, 7),
+                firstToPlay.getScore(), lastToPlay.getScore());
+    }
+
+    public List<Card> cardsOf(int player) {
+        return player == 0 ? firstToPlayCards : lastToPlayCards;
+    }
+
+    public int scoreOf(int player) {
+        return player == 0 ? firstToPlayScore : lastToPlayScore;
+    }
+}
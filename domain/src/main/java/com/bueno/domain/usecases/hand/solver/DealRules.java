@@ -0,0 +1,293 @@
+package com.bueno.domain.usecases.hand.solver;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardIndex;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.hand.Round;
+import com.bueno.domain.entities.hand.states.WaitingMaoDeOnze;
+import com.bueno.domain.entities.hand.states.WaitingRaiseResponse;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>The rules of {@link Hand}, its states and {@link Round} applied to a bit-packed hand state of a single
+ * {@link Deal}, so the solver can walk the action tree without creating objects. Players are 0, for the first to
+ * play at the start of the hand, and 1. Fields of an ongoing hand state, from the lowest bit:</p>
+ * <pre>
+ * cards of player 0 (3) | cards of player 1 (3) | card to play against (3) | rounds played (2) |
+ * first round result (2) | second round result (2) | first to play (1) | player to move (1) |
+ * points (3) | points proposal (3) | last bet raiser (2) | phase (2)
+ * </pre>
+ * <p>Cards are bits of the dealt cards still in the hand of each player. The card to play against is 0 if there is
+ * none, the dealt position plus one if it is open, or {@link #CLOSED_CARD}. Round results and the last bet raiser are
+ * 0 if there is none, or the player plus one, and {@link #DRAW} for tied rounds. Points are {@link HandPoints}
+ * ordinals, with no proposal being 0. Done hands keep only the phase and their value, so hands with the same result
+ * have the same state.</p>
+ */
+final class DealRules {
+    static final int PLAY = 0;
+    static final int MAO_DE_ONZE = 1;
+    static final int RAISE_RESPONSE = 2;
+    static final int DONE = 3;
+    static final int MAX_VALUE = 12;
+
+    private static final int CLOSED_CARD = 4;
+    private static final int DRAW = 3;
+    private static final int ALL_CARDS = 0b111;
+
+    private static final int CARDS = 0;
+    private static final int TABLE = 6;
+    private static final int ROUNDS = 9;
+    private static final int FIRST_ROUND = 11;
+    private static final int SECOND_ROUND = 13;
+    private static final int FIRST_TO_PLAY = 15;
+    private static final int TO_MOVE = 16;
+    private static final int POINTS = 17;
+    private static final int PROPOSAL = 20;
+    private static final int RAISER = 23;
+    private static final int PHASE = 25;
+    private static final int VALUE = 0;
+
+    private static final HandPoints[] HAND_POINTS = HandPoints.values();
+    private static final int ONE = HandPoints.ONE.ordinal();
+    private static final int THREE = HandPoints.THREE.ordinal();
+    private static final int TWELVE = HandPoints.TWELVE.ordinal();
+
+    private final Deal deal;
+    private final int[][] values = new int[2][3];
+    private final int closedValue;
+    private final boolean raisingAllowed;
+    private final int maxHandPoints;
+
+    DealRules(Deal deal) {
+        this.deal = deal;
+        for (int player = 0; player < 2; player++)
+            for (int slot = 0; slot < 3; slot++)
+                values[player][slot] = CardIndex.relativeValue(deal.cardsOf(player).get(slot), deal.vira());
+        closedValue = CardIndex.relativeValue(Card.closed(), deal.vira());
+        raisingAllowed = deal.firstToPlayScore() < 11 && deal.lastToPlayScore() < 11;
+        final int pointsToLosingPlayerWin = Player.MAX_SCORE - Math.min(deal.firstToPlayScore(), deal.lastToPlayScore());
+        maxHandPoints = pointsToLosingPlayerWin % 3 == 0 ? pointsToLosingPlayerWin
+                : pointsToLosingPlayerWin + (3 - pointsToLosingPlayerWin % 3);
+    }
+
+    Deal deal() {
+        return deal;
+    }
+
+    long initialState() {
+        long state = set(set(set(0L, CARDS, 3, ALL_CARDS), CARDS + 3, 3, ALL_CARDS), POINTS, 3, ONE);
+        final boolean firstHasEleven = deal.firstToPlayScore() == 11;
+        if (!(firstHasEleven ^ deal.lastToPlayScore() == 11)) return state;
+        return set(set(state, PHASE, 2, MAO_DE_ONZE), TO_MOVE, 1, firstHasEleven ? 0 : 1);
+    }
+
+    static boolean isDone(long state) {
+        return get(state, PHASE, 2) == DONE;
+    }
+
+    /**
+     * @return points won by player 0 in a done hand, negative if they were lost.
+     */
+    static int valueOf(long state) {
+        return get(state, VALUE, 5) - MAX_VALUE;
+    }
+
+    static int phaseOf(long state) {
+        return get(state, PHASE, 2);
+    }
+
+    static int playerToMove(long state) {
+        return get(state, TO_MOVE, 1);
+    }
+
+    /**
+     * @return a bit for the ordinal of each {@link SolverMove} allowed in the state.
+     */
+    int legalMoves(long state) {
+        final int phase = get(state, PHASE, 2);
+        if (phase == DONE) return 0;
+        if (phase == MAO_DE_ONZE) return bit(SolverMove.ACCEPT) | bit(SolverMove.QUIT);
+
+        final int raise = canRaise(state) ? bit(SolverMove.RAISE) : 0;
+        if (phase == RAISE_RESPONSE) return bit(SolverMove.ACCEPT) | bit(SolverMove.QUIT) | raise;
+
+        final int cards = get(state, CARDS + 3 * playerToMove(state), 3);
+        final int discards = get(state, ROUNDS, 2) == 0 ? 0 : cards << SolverMove.DISCARD_FIRST_CARD.ordinal();
+        return cards | discards | raise;
+    }
+
+    private boolean canRaise(long state) {
+        final int points = get(state, POINTS, 3);
+        final int proposal = get(state, PROPOSAL, 3);
+        return raisingAllowed
+                && get(state, RAISER, 2) != playerToMove(state) + 1
+                && points < TWELVE && HAND_POINTS[points + 1].get() <= maxHandPoints
+                && (proposal == 0 || proposal < TWELVE && HAND_POINTS[proposal + 1].get() <= maxHandPoints);
+    }
+
+    long apply(long state, SolverMove move) {
+        if ((legalMoves(state) & bit(move)) == 0)
+            throw new IllegalArgumentException("Can not " + move + " in state " + Long.toBinaryString(state));
+        return next(state, move);
+    }
+
+    /**
+     * <p>Same as {@link #apply(long, SolverMove)} without checking if the move is legal.</p>
+     */
+    long next(long state, SolverMove move) {
+        final int player = playerToMove(state);
+        final int phase = get(state, PHASE, 2);
+        return switch (move) {
+            case RAISE -> raise(state, player, phase);
+            case ACCEPT -> accept(state, phase);
+            case QUIT -> done(2 - player, phase == MAO_DE_ONZE ? ONE : get(state, POINTS, 3));
+            default -> play(state, player, move);
+        };
+    }
+
+    private long play(long state, int player, SolverMove move) {
+        final int slot = move.slot();
+        final int cardsField = CARDS + 3 * player;
+        final int card = move.isDiscard() ? CLOSED_CARD : slot + 1;
+        state = set(state, cardsField, 3, get(state, cardsField, 3) & ~(1 << slot));
+
+        final int cardToPlayAgainst = get(state, TABLE, 3);
+        if (cardToPlayAgainst == 0) return set(set(state, TABLE, 3, card), TO_MOVE, 1, 1 - player);
+
+        final int firstToPlay = get(state, FIRST_TO_PLAY, 1);
+        final int comparison = Integer.compare(valueOf(firstToPlay, cardToPlayAgainst), valueOf(player, card));
+        final int roundResult = comparison > 0 ? firstToPlay + 1 : comparison < 0 ? player + 1 : DRAW;
+        final int roundsPlayed = get(state, ROUNDS, 2) + 1;
+        final int points = get(state, POINTS, 3);
+
+        if (roundsPlayed == 3) {
+            final int firstRound = get(state, FIRST_ROUND, 2);
+            return done(roundResult == DRAW && firstRound != DRAW ? firstRound : roundResult, points);
+        }
+        if (roundsPlayed == 2) {
+            final int winner = winnerAfterSecondRound(get(state, FIRST_ROUND, 2), roundResult);
+            if (winner != 0) return done(winner, points);
+        }
+
+        final int nextFirstToPlay = roundResult == player + 1 ? player : firstToPlay;
+        state = set(state, roundsPlayed == 1 ? FIRST_ROUND : SECOND_ROUND, 2, roundResult);
+        state = set(set(state, TABLE, 3, 0), ROUNDS, 2, roundsPlayed);
+        return set(set(state, FIRST_TO_PLAY, 1, nextFirstToPlay), TO_MOVE, 1, nextFirstToPlay);
+    }
+
+    private int valueOf(int player, int card) {
+        return card == CLOSED_CARD ? closedValue : values[player][card - 1];
+    }
+
+    private static int winnerAfterSecondRound(int firstRound, int secondRound) {
+        if (firstRound == DRAW && secondRound != DRAW) return secondRound;
+        if (firstRound != DRAW && secondRound == DRAW) return firstRound;
+        if (secondRound != DRAW && secondRound == firstRound) return secondRound;
+        return 0;
+    }
+
+    private static long raise(long state, int player, int phase) {
+        if (phase == PLAY) state = set(state, PROPOSAL, 3, get(state, POINTS, 3) + 1);
+        else {
+            final int proposal = get(state, PROPOSAL, 3);
+            state = set(set(state, POINTS, 3, proposal), PROPOSAL, 3, proposal + 1);
+        }
+        state = set(set(state, RAISER, 2, player + 1), TO_MOVE, 1, 1 - player);
+        return set(state, PHASE, 2, RAISE_RESPONSE);
+    }
+
+    private static long accept(long state, int phase) {
+        final int firstToPlay = get(state, FIRST_TO_PLAY, 1);
+        if (phase == MAO_DE_ONZE) return set(set(set(state, POINTS, 3, THREE), TO_MOVE, 1, firstToPlay), PHASE, 2, PLAY);
+        final int toMove = get(state, TABLE, 3) == 0 ? firstToPlay : 1 - firstToPlay;
+        state = set(set(state, POINTS, 3, get(state, PROPOSAL, 3)), PROPOSAL, 3, 0);
+        return set(set(state, TO_MOVE, 1, toMove), PHASE, 2, PLAY);
+    }
+
+    private static long done(int result, int points) {
+        final int value = result == DRAW ? 0 : result == 1 ? HAND_POINTS[points].get() : -HAND_POINTS[points].get();
+        return set(set(0L, PHASE, 2, DONE), VALUE, 5, value + MAX_VALUE);
+    }
+
+    /**
+     * <p>Packs the state of a hand of this deal that is being played, or of a done hand.</p>
+     */
+    long stateOf(Hand hand) {
+        if (hand.isDone()) {
+            final HandResult result = hand.getResult().orElseThrow();
+            final Player firstToPlay = firstToPlayOf(hand);
+            return done(result.getWinner().map(winner -> playerOf(winner, firstToPlay) + 1).orElse(DRAW),
+                    result.getPoints().ordinal());
+        }
+
+        final Player firstToPlay = firstToPlayOf(hand);
+        long state = set(0L, CARDS, 3, slotsOf(firstToPlay.getCards(), 0));
+        state = set(state, CARDS + 3, 3, slotsOf(hand.getOpponentOf(firstToPlay).getCards(), 1));
+
+        final int roundFirstToPlay = playerOf(hand.getFirstToPlay(), firstToPlay);
+        final Optional<Card> cardToPlayAgainst = hand.getCardToPlayAgainst();
+        if (cardToPlayAgainst.isPresent()) {
+            final Card card = cardToPlayAgainst.get();
+            state = set(state, TABLE, 3, card.isClosed() ? CLOSED_CARD
+                    : deal.cardsOf(roundFirstToPlay).indexOf(card) + 1);
+        }
+
+        final List<Round> rounds = hand.getRoundsPlayed();
+        state = set(state, ROUNDS, 2, rounds.size());
+        for (int i = 0; i < rounds.size(); i++) {
+            final int result = rounds.get(i).getWinner().map(winner -> playerOf(winner, firstToPlay) + 1).orElse(DRAW);
+            state = set(state, i == 0 ? FIRST_ROUND : SECOND_ROUND, 2, result);
+        }
+
+        state = set(state, FIRST_TO_PLAY, 1, roundFirstToPlay);
+        state = set(state, TO_MOVE, 1, playerOf(hand.getCurrentPlayer(), firstToPlay));
+        state = set(state, POINTS, 3, hand.getPoints().ordinal());
+        state = set(state, PROPOSAL, 3, hand.getPointsProposal() == null ? 0 : hand.getPointsProposal().ordinal());
+        state = set(state, RAISER, 2, hand.getLastBetRaiser() == null ? 0 : playerOf(hand.getLastBetRaiser(), firstToPlay) + 1);
+
+        final int phase = hand.getState() instanceof WaitingMaoDeOnze ? MAO_DE_ONZE
+                : hand.getState() instanceof WaitingRaiseResponse ? RAISE_RESPONSE : PLAY;
+        return set(state, PHASE, 2, phase);
+    }
+
+    private int slotsOf(List<Card> cards, int player) {
+        int slots = 0;
+        final List<Card> dealt = deal.cardsOf(player);
+        for (Card card : cards) {
+            final int slot = dealt.indexOf(card);
+            if (slot < 0) throw new IllegalArgumentException("Card " + card + " was not dealt to player " + player);
+            slots |= 1 << slot;
+        }
+        return slots;
+    }
+
+    /**
+     * @return the player that played first in the first round, who was dealt the first three cards.
+     */
+    static Player firstToPlayOf(Hand hand) {
+        final List<Round> rounds = hand.getRoundsPlayed();
+        return rounds.isEmpty() ? hand.getFirstToPlay() : rounds.get(0).getFirstToPlay();
+    }
+
+    private static int playerOf(Player player, Player firstToPlay) {
+        return player.equals(firstToPlay) ? 0 : 1;
+    }
+
+    private static int bit(SolverMove move) {
+        return 1 << move.ordinal();
+    }
+
+    private static int get(long state, int shift, int bits) {
+        return (int) (state >>> shift) & ((1 << bits) - 1);
+    }
+
+    private static long set(long state, int shift, int bits, int value) {
+        final long mask = ((1L << bits) - 1) << shift;
+        return state & ~mask | (long) value << shift;
+    }
+}
@@ -0,0 +1,164 @@
+package com.bueno.domain.usecases.hand.solver;
+
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>Finds the game-theoretic value of a hand when both players know all the cards: the points won by the first to
+ * play at the start of the hand, or lost if negative, when both players choose their best action at every step. The
+ * search covers the whole action tree of the {@link Hand} rules, including discards, raises up to
+ * {@code HandPoints.TWELVE} and the mão de onze, with alpha-beta pruning and a transposition table of bit-packed
+ * states. The value only counts hand points, so it ignores how close the players are to winning the game.</p>
+ *
+ * <p>States are {@code long} values that are only meaningful for the deal they were created for. A solver keeps the
+ * table of the last deal it solved and is not thread-safe: use one per thread or
+ * {@link #solveAll(List, SimulationExecutor)}.</p>
+ */
+public class HandSolver {
+    public static final int DEFAULT_TABLE_SIZE = 1 << 16;
+
+    private final TranspositionTable table;
+    private DealRules rules;
+    private long nodes;
+
+    public HandSolver() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * @param tableSize number of entries of the transposition table, which must be a power of two.
+     */
+    public HandSolver(int tableSize) {
+        this.table = new TranspositionTable(tableSize);
+    }
+
+    /**
+     * <p>Solves many independent deals on the executor, one solver per worker thread.</p>
+     * @return the value of each deal, in the same order.
+     * @throws IllegalStateException if the executor is stopped before all deals are solved.
+     */
+    public static int[] solveAll(List<Deal> deals, SimulationExecutor executor) {
+        Objects.requireNonNull(deals, "Deals must not be null!");
+        final int[] values = new int[deals.size()];
+        final int solved = executor.run(deals.size(), HandSolver::new,
+                (solver, deal) -> values[deal] = solver.solve(deals.get(deal)));
+        if (solved != deals.size())
+            throw new IllegalStateException("Solver stopped after " + solved + " of " + deals.size() + " deals.");
+        return values;
+    }
+
+    public int solve(Deal deal) {
+        return solve(deal, rulesOf(deal).initialState());
+    }
+
+    public int solve(Deal deal, long state) {
+        rulesOf(deal);
+        return search(state, -DealRules.MAX_VALUE - 1, DealRules.MAX_VALUE + 1);
+    }
+
+    /**
+     * @return the value of each legal move in the state, in the order of {@link SolverMove}.
+     */
+    public Map<SolverMove, Integer> valuesOfMoves(Deal deal, long state) {
+        final DealRules dealRules = rulesOf(deal);
+        final Map<SolverMove, Integer> values = new EnumMap<>(SolverMove.class);
+        for (SolverMove move : movesOf(deal, state))
+            values.put(move, search(dealRules.next(state, move), -DealRules.MAX_VALUE - 1, DealRules.MAX_VALUE + 1));
+        return values;
+    }
+
+    public long initialState(Deal deal) {
+        return rulesOf(deal).initialState();
+    }
+
+    /**
+     * <p>Packs the state of a hand of the deal, which may be done.</p>
+     */
+    public long stateOf(Deal deal, Hand hand) {
+        return rulesOf(deal).stateOf(hand);
+    }
+
+    public List<SolverMove> movesOf(Deal deal, long state) {
+        final List<SolverMove> moves = new ArrayList<>();
+        for (int legal = rulesOf(deal).legalMoves(state); legal != 0; legal &= legal - 1)
+            moves.add(SolverMove.ofOrdinal(Integer.numberOfTrailingZeros(legal)));
+        return moves;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the move is not allowed in the state.
+     */
+    public long apply(Deal deal, long state, SolverMove move) {
+        return rulesOf(deal).apply(state, Objects.requireNonNull(move, "Move must not be null!"));
+    }
+
+    /**
+     * @return 0 if the first to play at the start of the hand must move, 1 otherwise.
+     */
+    public static int playerToMove(long state) {
+        return DealRules.playerToMove(state);
+    }
+
+    public static boolean isDone(long state) {
+        return DealRules.isDone(state);
+    }
+
+    /**
+     * @return number of states searched by this solver, including the ones found in the transposition table.
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    private DealRules rulesOf(Deal deal) {
+        Objects.requireNonNull(deal, "Deal must not be null!");
+        if (rules == null || !rules.deal().equals(deal)) {
+            rules = new DealRules(deal);
+            table.clear();
+        }
+        return rules;
+    }
+
+    private int search(long state, int alpha, int beta) {
+        nodes++;
+        if (DealRules.isDone(state)) return DealRules.valueOf(state);
+
+        final int alphaStart = alpha;
+        final int betaStart = beta;
+        final int slot = table.find(state);
+        if (slot >= 0) {
+            final int value = table.valueAt(slot);
+            switch (table.boundAt(slot)) {
+                case TranspositionTable.EXACT -> { return value; }
+                case TranspositionTable.LOWER_BOUND -> alpha = Math.max(alpha, value);
+                default -> beta = Math.min(beta, value);
+            }
+            if (alpha >= beta) return value;
+        }
+
+        final boolean maximizing = DealRules.playerToMove(state) == 0;
+        int best = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (int moves = rules.legalMoves(state); moves != 0 && alpha < beta; moves &= moves - 1) {
+            final long next = rules.next(state, SolverMove.ofOrdinal(Integer.numberOfTrailingZeros(moves)));
+            final int value = search(next, alpha, beta);
+            if (maximizing) {
+                best = Math.max(best, value);
+                alpha = Math.max(alpha, best);
+            } else {
+                best = Math.min(best, value);
+                beta = Math.min(beta, best);
+            }
+        }
+
+        final int bound = best <= alphaStart ? TranspositionTable.UPPER_BOUND
+                : best >= betaStart ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        table.store(state, best, bound);
+        return best;
+    }
+}
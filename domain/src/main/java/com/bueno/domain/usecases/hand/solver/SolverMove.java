@@ -0,0 +1,42 @@
+package com.bueno.domain.usecases.hand.solver;
+
+/**
+ * <p>Actions of a player in a hand, as seen by the {@link HandSolver}. Card moves refer to the cards of the player
+ * in the order they were dealt in the {@link Deal}.</p>
+ */
+public enum SolverMove {
+    PLAY_FIRST_CARD, PLAY_SECOND_CARD, PLAY_THIRD_CARD,
+    DISCARD_FIRST_CARD, DISCARD_SECOND_CARD, DISCARD_THIRD_CARD,
+    RAISE, ACCEPT, QUIT;
+
+    private static final SolverMove[] MOVES = values();
+
+    static SolverMove ofOrdinal(int ordinal) {
+        return MOVES[ordinal];
+    }
+
+    static SolverMove play(int slot) {
+        return MOVES[slot];
+    }
+
+    static SolverMove discard(int slot) {
+        return MOVES[DISCARD_FIRST_CARD.ordinal() + slot];
+    }
+
+    public boolean isCardMove() {
+        return ordinal() <= DISCARD_THIRD_CARD.ordinal();
+    }
+
+    public boolean isDiscard() {
+        return isCardMove() && ordinal() >= DISCARD_FIRST_CARD.ordinal();
+    }
+
+    /**
+     * @return the position of the card in the cards dealt to the player, from 0 to 2.
+     * @throws IllegalStateException if this is not a card move.
+     */
+    public int slot() {
+        if (!isCardMove()) throw new IllegalStateException(this + " does not move a card.");
+        return ordinal() % 3;
+    }
+}
@@ -0,0 +1,61 @@
+package com.bueno.domain.usecases.hand.solver;
+
+/**
+ * <p>Fixed-size cache of solved states, in which each state has a single slot and newer entries replace older ones.
+ * Entries are tagged with a generation, so clearing the table for a new deal does not touch the arrays.</p>
+ */
+final class TranspositionTable {
+    static final int EXACT = 0;
+    static final int LOWER_BOUND = 1;
+    static final int UPPER_BOUND = 2;
+
+    private final long[] keys;
+    private final byte[] values;
+    private final byte[] bounds;
+    private final int shift;
+    private long generation = 1;
+
+    TranspositionTable(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        keys = new long[capacity];
+        values = new byte[capacity];
+        bounds = new byte[capacity];
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    void clear() {
+        generation++;
+    }
+
+    /**
+     * @return the slot of the state, or -1 if it is not in the table.
+     */
+    int find(long state) {
+        final int slot = slotOf(state);
+        return keys[slot] == keyOf(state) ? slot : -1;
+    }
+
+    int valueAt(int slot) {
+        return values[slot];
+    }
+
+    int boundAt(int slot) {
+        return bounds[slot];
+    }
+
+    void store(long state, int value, int bound) {
+        final int slot = slotOf(state);
+        keys[slot] = keyOf(state);
+        values[slot] = (byte) value;
+        bounds[slot] = (byte) bound;
+    }
+
+    private int slotOf(long state) {
+        return (int) (state * 0x9E3779B97F4A7C15L >>> shift);
+    }
+
+    private long keyOf(long state) {
+        return generation << 32 | state;
+    }
+}
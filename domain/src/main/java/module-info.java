@@ -13,6 +13,11 @@ module domain {
     exports com.bueno.domain.usecases.intel.dtos;
     exports com.bueno.domain.usecases.hand;
     exports com.bueno.domain.usecases.bot.providers;
+    exports com.bueno.domain.usecases.bot.metrics;
+    exports com.bueno.domain.usecases.bot.dtos;
+    exports com.bueno.domain.usecases.bot.watchdog;
+    exports com.bueno.domain.usecases.bot.memoization;
+    exports com.bueno.domain.usecases.bot.session;
     exports com.bueno.domain.usecases.utils.exceptions;
     exports com.bueno.domain.usecases.hand.dtos;
     exports com.bueno.domain.usecases.game.repos;
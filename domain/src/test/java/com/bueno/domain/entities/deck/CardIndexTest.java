@@ -0,0 +1,119 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.deck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CardIndexTest {
+
+    private static List<Card> openCards() {
+        final List<Card> cards = new ArrayList<>();
+        for (Rank rank : Rank.values())
+            for (Suit suit : Suit.values())
+                if (rank != Rank.HIDDEN && suit != Suit.HIDDEN) cards.add(Card.of(rank, suit));
+        return cards;
+    }
+
+    private static int previousComputedValue(Card card, Card vira) {
+        if (card.isManilha(vira)) return 9 + card.getSuit().ordinal();
+        final int rank = card.getRank().ordinal();
+        return rank > vira.getRank().ordinal() ? rank - 1 : rank;
+    }
+
+    @Test
+    @DisplayName("Should give each card a distinct index that maps back to the same instance")
+    void shouldGiveEachCardADistinctIndexThatMapsBackToTheSameInstance() {
+        final List<Card> cards = new ArrayList<>(openCards());
+        cards.add(Card.closed());
+
+        assertThat(cards).extracting(CardIndex::of).doesNotHaveDuplicates().allMatch(i -> i >= 0 && i < CardIndex.SIZE);
+        assertThat(cards).allMatch(card -> CardIndex.cardAt(CardIndex.of(card)) == card);
+        assertThat(CardIndex.of(Card.closed())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should throw if index is out of bounds")
+    void shouldThrowIfIndexIsOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> CardIndex.cardAt(CardIndex.SIZE));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> CardIndex.cardAt(-1));
+    }
+
+    @Test
+    @DisplayName("Should convert cards to mask and back")
+    void shouldConvertCardsToMaskAndBack() {
+        final List<Card> cards = List.of(Card.of(Rank.FOUR, Suit.DIAMONDS), Card.of(Rank.ACE, Suit.SPADES),
+                Card.of(Rank.THREE, Suit.CLUBS));
+        final long mask = CardIndex.maskOf(cards);
+
+        assertThat(Long.bitCount(mask)).isEqualTo(3);
+        assertThat(CardIndex.cardsOf(mask)).containsExactlyInAnyOrderElementsOf(cards);
+        assertThat(CardIndex.contains(mask, Card.of(Rank.ACE, Suit.SPADES))).isTrue();
+        assertThat(CardIndex.contains(mask, Card.of(Rank.ACE, Suit.HEARTS))).isFalse();
+        assertThat(CardIndex.cardsOf(CardIndex.EMPTY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the values previously computed on each comparison for every vira")
+    void shouldKeepTheValuesPreviouslyComputedOnEachComparisonForEveryVira() {
+        final List<Card> cards = openCards();
+        for (Card vira : cards)
+            for (Card card : cards)
+                assertThat(CardIndex.relativeValue(card, vira))
+                        .as("%s with vira %s", card, vira)
+                        .isEqualTo(previousComputedValue(card, vira));
+    }
+
+    @Test
+    @DisplayName("Should compare cards by their relative value")
+    void shouldCompareCardsByTheirRelativeValue() {
+        final Card vira = Card.of(Rank.KING, Suit.CLUBS);
+        final Card manilha = Card.of(Rank.ACE, Suit.DIAMONDS);
+        final Card three = Card.of(Rank.THREE, Suit.CLUBS);
+        assertThat(manilha.compareValueTo(three, vira)).isPositive();
+        assertThat(three.compareValueTo(manilha, vira)).isNegative();
+        assertThat(three.compareValueTo(Card.of(Rank.THREE, Suit.HEARTS), vira)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should value manilhas from 10 to 13 and closed card as the lowest")
+    void shouldValueManilhasFrom10To13AndClosedCardAsTheLowest() {
+        final Card vira = Card.of(Rank.SEVEN, Suit.HEARTS);
+        assertThat(IntStream.of(
+                CardIndex.relativeValue(Card.of(Rank.QUEEN, Suit.DIAMONDS), vira),
+                CardIndex.relativeValue(Card.of(Rank.QUEEN, Suit.SPADES), vira),
+                CardIndex.relativeValue(Card.of(Rank.QUEEN, Suit.HEARTS), vira),
+                CardIndex.relativeValue(Card.of(Rank.QUEEN, Suit.CLUBS), vira))).containsExactly(10, 11, 12, 13);
+        assertThat(CardIndex.relativeValue(Card.closed(), vira)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not compare closed card with closed vira")
+    void shouldNotCompareClosedCardWithClosedVira() {
+        assertThatIllegalStateException().isThrownBy(() -> CardIndex.relativeValue(Card.closed(), Card.closed()));
+    }
+}
@@ -89,4 +89,37 @@ class DeckTest {
         softly.assertThat(deck.size()).as("Number of remaining cards in the deck").isEqualTo(39);
         softly.assertAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should deal the same cards for decks with the same seed")
+    void shouldDealTheSameCardsForDecksWithTheSameSeed() {
+        final Deck first = new Deck(42L);
+        final Deck second = new Deck(42L);
+        for (int hand = 0; hand < 10; hand++) {
+            first.shuffle();
+            second.shuffle();
+            assertThat(first.take(7)).isEqualTo(second.take(7));
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore all cards when shuffling")
+    void shouldRestoreAllCardsWhenShuffling() {
+        deck.take(7);
+        deck.shuffle();
+        final List<Card> cards = deck.take(40);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(cards).as("Dealt cards").doesNotHaveDuplicates().hasSize(40);
+        softly.assertThat(deck.size()).as("Number of remaining cards in the deck").isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not take more cards than available")
+    void shouldNotTakeMoreCardsThanAvailable() {
+        deck.take(39);
+        deck.takeOne();
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.take(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.takeOne());
+    }
+}
@@ -124,8 +124,8 @@ class BotUseCaseTest {
     void shouldFirstHandleMaoDeOnze() {
         when(maoDeOnzeHandler.shouldHandle(intel)).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(maoDeOnzeHandler, times(1)).handle(intel, player);
-        verify(raiseHandler, times(0)).handle(intel, player);
+        verify(maoDeOnzeHandler, times(1)).handle(game, intel, player);
+        verify(raiseHandler, times(0)).handle(game, intel, player);
     }
 
     @Test
@@ -134,8 +134,8 @@ class BotUseCaseTest {
         when(maoDeOnzeHandler.shouldHandle(intel)).thenReturn(false);
         when(raiseHandler.shouldHandle(intel)).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(raiseHandler, times(1)).handle(intel, player);
-        verify(cardPlayingHandler, times(0)).handle(intel, player);
+        verify(raiseHandler, times(1)).handle(game, intel, player);
+        verify(cardPlayingHandler, times(0)).handle(game, intel, player);
     }
 
     @Test
@@ -144,8 +144,8 @@ class BotUseCaseTest {
         when(raiseHandler.shouldHandle(intel)).thenReturn(false);
         when(cardPlayingHandler.shouldHandle(intel)).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(cardPlayingHandler, times(1)).handle(intel, player);
-        verify(raiseRequestHandler, times(0)).handle(intel, player);
+        verify(cardPlayingHandler, times(1)).handle(game, intel, player);
+        verify(raiseRequestHandler, times(0)).handle(game, intel, player);
     }
 
     @Test
@@ -153,7 +153,29 @@ class BotUseCaseTest {
     void shouldHandleIfItIsBotTurnJustBecauseItMustDecideAboutRaiseRequest() {
         when(raiseRequestHandler.shouldHandle(any())).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(raiseRequestHandler, times(1)).handle(intel, player);
+        verify(raiseRequestHandler, times(1)).handle(game, intel, player);
+    }
+
+    @Test
+    @DisplayName("Should keep playing while it is bot turn")
+    void shouldKeepPlayingWhileItIsBotTurn() {
+        final Intel humanTurnIntel = mock(Intel.class);
+        when(humanTurnIntel.currentPlayerUuid()).thenReturn(Optional.empty());
+        when(cardPlayingHandler.shouldHandle(any())).thenReturn(true);
+        when(cardPlayingHandler.handle(game, intel, player)).thenReturn(intel, humanTurnIntel);
+
+        assertThat(sut.playWhenNecessary(game)).isEqualTo(humanTurnIntel);
+        verify(cardPlayingHandler, times(2)).handle(game, intel, player);
+    }
+
+    @Test
+    @DisplayName("Should play a whole bot versus bot game without saving it")
+    void shouldPlayAWholeBotVersusBotGameWithoutSavingIt() {
+        final Game botGame = new Game(Player.ofBot(UUID.randomUUID(), "DummyBot"), Player.ofBot(UUID.randomUUID(), "DummyBot"));
+        sut = new BotUseCase(gameRepository);
+
+        assertThat(sut.playWhenNecessary(botGame).isGameDone()).isTrue();
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
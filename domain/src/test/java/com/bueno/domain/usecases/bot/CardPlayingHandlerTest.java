@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.bot;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
@@ -47,6 +48,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CardPlayingHandlerTest {
 
+    @Mock Game game;
     @Mock Player bot;
     @Mock Intel intel;
     @Mock BotServiceProvider botService;
@@ -75,17 +77,17 @@ class CardPlayingHandlerTest {
     @DisplayName("Should handle playing card and return true")
     void shouldHandlePlayingCardAndReturnTrue() {
         when(botService.chooseCard(any())).thenReturn(CardToPlay.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)));
-        sut.handle(intel, bot);
-        verify(cardUseCase, times(1)).playCard(any());
-        verify(cardUseCase, times(0)).discard(any());
+        sut.handle(game, intel, bot);
+        verify(cardUseCase, times(1)).playCard(eq(game), any());
+        verify(cardUseCase, times(0)).discard(eq(game), any());
     }
 
     @Test
     @DisplayName("Should handle discard")
     void shouldHandleDiscard() {
         when(botService.chooseCard(any())).thenReturn(CardToPlay.discard(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)));
-        sut.handle(intel, bot);
-        verify(cardUseCase, times(0)).playCard(any());
-        verify(cardUseCase, times(1)).discard(any());
+        sut.handle(game, intel, bot);
+        verify(cardUseCase, times(0)).playCard(eq(game), any());
+        verify(cardUseCase, times(1)).discard(eq(game), any());
     }
 }
\ No newline at end of file
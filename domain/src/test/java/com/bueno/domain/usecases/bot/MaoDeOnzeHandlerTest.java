@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.bot;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.MaoDeOnzeHandler;
@@ -42,6 +43,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class MaoDeOnzeHandlerTest {
 
+    @Mock Game game;
     @Mock Player bot;
     @Mock Intel intel;
     @Mock BotServiceProvider botService;
@@ -77,17 +79,17 @@ class MaoDeOnzeHandlerTest {
     @DisplayName("Should accept if bot service implementation decides to accept")
     void shouldAcceptIfBotServiceImplementationDecidesToAccept() {
         when(botService.getMaoDeOnzeResponse(any())).thenReturn(true);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(1)).accept(any());
-        verify(scoreUseCase, times(0)).quit(any());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(1)).accept(game);
+        verify(scoreUseCase, times(0)).quit(game);
     }
 
     @Test
     @DisplayName("Should quit if bot service implementation decides to quit")
     void shouldQuitIfBotServiceImplementationDecidesToQuit() {
         when(botService.getMaoDeOnzeResponse(any())).thenReturn(false);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).accept(any());
-        verify(scoreUseCase, times(1)).quit(any());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(0)).accept(game);
+        verify(scoreUseCase, times(1)).quit(game);
     }
 }
\ No newline at end of file
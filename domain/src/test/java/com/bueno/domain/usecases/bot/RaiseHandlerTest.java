@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.bot;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
@@ -43,6 +44,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class RaiseHandlerTest {
 
+    @Mock Game game;
     @Mock Player bot;
     @Mock Intel intel;
     @Mock BotServiceProvider botService;
@@ -78,15 +80,15 @@ class RaiseHandlerTest {
     @DisplayName("Should raise if bot service implementation decides to raise")
     void shouldRaiseIfBotServiceImplementationDecidesToRaise() {
         when(botService.decideIfRaises(any())).thenReturn(true);
-        sut.handle(intel,bot);
-        verify(scoreUseCase, times(1)).raise(bot.getUuid());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(1)).raise(game);
     }
 
     @Test
     @DisplayName("Should not handle if bot service implementation decides to not raise")
     void shouldNotHandleIfBotServiceImplementationDecidesToNotRaise() {
         when(botService.decideIfRaises(any())).thenReturn(false);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(0)).raise(game);
     }
 }
\ No newline at end of file
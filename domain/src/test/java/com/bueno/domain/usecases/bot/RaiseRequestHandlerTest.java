@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.bot;
 
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
@@ -43,6 +44,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith({MockitoExtension.class})
 class RaiseRequestHandlerTest {
 
+    @Mock Game game;
     @Mock Player bot;
     @Mock Intel intel;
     @Mock BotServiceProvider botService;
@@ -65,10 +67,10 @@ class RaiseRequestHandlerTest {
     void shouldQuitIfBotServiceImplementationIsAnsweringToQuitAndQuitIsAllowed() {
         when(intel.possibleActions()).thenReturn(Set.of("QUIT"));
         when(botService.getRaiseResponse(any())).thenReturn(-1);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(1)).quit(bot.getUuid());
-        verify(scoreUseCase, times(0)).accept(bot.getUuid());
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(1)).quit(game);
+        verify(scoreUseCase, times(0)).accept(game);
+        verify(scoreUseCase, times(0)).raise(game);
     }
 
     @Test
@@ -76,10 +78,10 @@ class RaiseRequestHandlerTest {
     void shouldAcceptIfBotServiceImplementationIsAnsweringToAcceptAndAcceptIsAllowed() {
         when(intel.possibleActions()).thenReturn(Set.of("ACCEPT"));
         when(botService.getRaiseResponse(any())).thenReturn(0);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).quit(bot.getUuid());
-        verify(scoreUseCase, times(1)).accept(bot.getUuid());
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(0)).quit(game);
+        verify(scoreUseCase, times(1)).accept(game);
+        verify(scoreUseCase, times(0)).raise(game);
     }
 
     @Test
@@ -87,18 +89,18 @@ class RaiseRequestHandlerTest {
     void shouldRaiseIfBotServiceImplementationIsAnsweringToRaiseAndRaiseIsAllowed() {
         when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
         when(botService.getRaiseResponse(any())).thenReturn(1);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).quit(bot.getUuid());
-        verify(scoreUseCase, times(0)).accept(bot.getUuid());
-        verify(scoreUseCase, times(1)).raise(bot.getUuid());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(0)).quit(game);
+        verify(scoreUseCase, times(0)).accept(game);
+        verify(scoreUseCase, times(1)).raise(game);
     }
 
     @Test
     @DisplayName("Should not raise if bot service implementation is answering to raise and raise is not allowed")
     void shouldNotRaiseIfBotServiceImplementationIsAnsweringToRaiseAndRaiseIsNotAllowed() {
         when(botService.getRaiseResponse(any())).thenReturn(1);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(game, intel, bot);
+        verify(scoreUseCase, times(0)).raise(game);
     }
 
     @Test
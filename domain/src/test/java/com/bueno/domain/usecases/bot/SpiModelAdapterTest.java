@@ -31,18 +31,22 @@ import com.bueno.spi.model.CardSuit;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.GameIntel.RoundResult;
 import com.bueno.spi.model.TrucoCard;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static com.bueno.spi.model.GameIntel.RoundResult.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -92,4 +96,92 @@ class SpiModelAdapterTest {
         TrucoCard trucoCard = TrucoCard.of(CardRank.ACE, CardSuit.CLUBS);
         assertThat(SpiModelAdapter.toCard(trucoCard)).isEqualTo(Card.of(Rank.ACE, Suit.CLUBS));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should convert every card to TrucoCard and back")
+    void shouldConvertEveryCardToTrucoCardAndBack() {
+        for (int index = 0; index < TrucoCard.NUMBER_OF_INDEXES; index++) {
+            final TrucoCard trucoCard = TrucoCard.ofIndex(index);
+            final Card card = SpiModelAdapter.toCard(trucoCard);
+            assertThat(card.getRank().toString()).isEqualTo(trucoCard.getRank().toString());
+            assertThat(card.getSuit().toString()).isEqualTo(trucoCard.getSuit().toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse the GameIntel of the same turn")
+    void shouldReuseTheGameIntelOfTheSameTurn() {
+        final Player bot = Player.ofBot(UUID.randomUUID(), "DummyBot");
+        bot.setCards(List.of(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES)));
+        stubIntel(intel);
+
+        final GameIntel first = SpiModelAdapter.toGameIntel(bot, intel);
+        final GameIntel second = SpiModelAdapter.toGameIntel(bot, intel);
+        bot.play(Card.of(Rank.TWO, Suit.CLUBS));
+        final GameIntel afterPlaying = SpiModelAdapter.toGameIntel(bot, intel);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(second).isSameAs(first);
+        softly.assertThat(afterPlaying).isNotSameAs(first);
+        softly.assertThat(afterPlaying.getCards()).containsExactly(TrucoCard.of(CardRank.ACE, CardSuit.SPADES));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should forget the GameIntel of the turn once it ends")
+    void shouldForgetTheGameIntelOfTheTurnOnceItEnds() {
+        final Player bot = Player.ofBot(UUID.randomUUID(), "DummyBot");
+        bot.setCards(List.of(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES)));
+        stubIntel(intel);
+
+        final GameIntel first = SpiModelAdapter.toGameIntel(bot, intel);
+        SpiModelAdapter.endTurn();
+
+        assertThat(SpiModelAdapter.toGameIntel(bot, intel)).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should let bots sort their cards in place")
+    void shouldLetBotsSortTheirCardsInPlace() {
+        final Player bot = Player.ofBot(UUID.randomUUID(), "DummyBot");
+        bot.setCards(List.of(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.FOUR, Suit.HEARTS)));
+        stubIntel(intel);
+
+        final GameIntel first = SpiModelAdapter.toGameIntel(bot, intel);
+        first.getCards().sort(Comparator.comparingInt(TrucoCard::cardIndex));
+        final GameIntel second = SpiModelAdapter.toGameIntel(bot, intel);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(second).isNotSameAs(first);
+        softly.assertThat(second.getCards()).containsExactly(TrucoCard.of(CardRank.ACE, CardSuit.SPADES),
+                TrucoCard.of(CardRank.TWO, CardSuit.CLUBS), TrucoCard.of(CardRank.FOUR, CardSuit.HEARTS));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should share the round result lists")
+    void shouldShareTheRoundResultLists() {
+        final Player bot = Player.ofBot(UUID.randomUUID(), "DummyBot");
+        final Intel otherIntel = mock(Intel.class);
+        bot.setCards(List.of());
+        stubIntel(intel);
+        stubIntel(otherIntel);
+        when(intel.roundWinnersUuid()).thenReturn(List.of(Optional.of(bot.getUuid()), Optional.empty()));
+        when(otherIntel.roundWinnersUuid()).thenReturn(List.of(Optional.of(bot.getUuid()), Optional.empty()));
+
+        final GameIntel gameIntel = SpiModelAdapter.toGameIntel(bot, intel);
+        final GameIntel otherGameIntel = SpiModelAdapter.toGameIntel(bot, otherIntel);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(gameIntel.getRoundResults()).containsExactly(WON, DREW);
+        softly.assertThat(otherGameIntel.getRoundResults()).isSameAs(gameIntel.getRoundResults());
+        softly.assertAll();
+    }
+
+    private static void stubIntel(Intel intel) {
+        lenient().when(intel.roundWinnersUuid()).thenReturn(List.of());
+        when(intel.openCards()).thenReturn(List.of(Card.of(Rank.THREE, Suit.CLUBS)));
+        when(intel.vira()).thenReturn(Card.of(Rank.THREE, Suit.CLUBS));
+        when(intel.cardToPlayAgainst()).thenReturn(Optional.empty());
+    }
+}
@@ -0,0 +1,55 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class DecisionCacheTest {
+
+    @Test
+    @DisplayName("Should return the cached values")
+    void shouldReturnTheCachedValues() {
+        final DecisionCache<Integer, String> sut = new DecisionCache<>(8);
+        sut.put(1, "one");
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.get(1)).isEqualTo("one");
+        softly.assertThat(sut.get(2)).isNull();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should never hold more entries than its capacity")
+    void shouldNeverHoldMoreEntriesThanItsCapacity() {
+        final DecisionCache<Integer, Integer> sut = new DecisionCache<>(8);
+        IntStream.range(0, 100).forEach(i -> sut.put(i, i));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.size()).isLessThanOrEqualTo(8);
+        softly.assertThat(sut.evictions()).isEqualTo(100 - sut.size());
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should keep the entries in use when generations rotate")
+    void shouldKeepTheEntriesInUseWhenGenerationsRotate() {
+        final DecisionCache<Integer, Integer> sut = new DecisionCache<>(8);
+        sut.put(0, 0);
+        final long misses = IntStream.range(1, 100)
+                .peek(i -> sut.put(i, i))
+                .filter(i -> sut.get(0) == null)
+                .count();
+        assertThat(misses).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not accept capacities below two")
+    void shouldNotAcceptCapacitiesBelowTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DecisionCache<>(1));
+    }
+}
@@ -0,0 +1,122 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import com.bueno.domain.usecases.bot.dtos.MemoizationStatsDto;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionMemoizerTest {
+
+    private GameIntel intel;
+
+    @BeforeEach
+    void setUp() {
+        intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(), TrucoCard.of(CardRank.KING, CardSuit.HEARTS), 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS), TrucoCard.of(CardRank.ACE, CardSuit.SPADES),
+                        TrucoCard.of(CardRank.FIVE, CardSuit.DIAMONDS)), 0)
+                .opponentScore(0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should not memoize bots that are not deterministic")
+    void shouldNotMemoizeBotsThatAreNotDeterministic() {
+        final CountingBot bot = new CountingBot(false);
+        assertThat(new DecisionMemoizer(16, 0.0).memoize(bot)).isSameAs(bot);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated decisions from the cache")
+    void shouldAnswerRepeatedDecisionsFromTheCache() {
+        final CountingBot bot = new CountingBot(true);
+        final DecisionMemoizer sut = new DecisionMemoizer(16, 0.0);
+        final BotServiceProvider memoized = sut.memoize(bot);
+
+        SoftAssertions softly = new SoftAssertions();
+        for (int i = 0; i < 3; i++) {
+            softly.assertThat(memoized.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)));
+            softly.assertThat(memoized.getRaiseResponse(intel)).isZero();
+        }
+        softly.assertThat(bot.calls).isEqualTo(2);
+        softly.assertThat(sut.stats()).containsExactly(new MemoizationStatsDto("CountingBot", 4, 2, 0, 0, 0, true));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should stop memoizing a bot whose decisions do not match the cached ones")
+    void shouldStopMemoizingABotWhoseDecisionsDoNotMatchTheCachedOnes() {
+        final CountingBot bot = new CountingBot(true);
+        final DecisionMemoizer sut = new DecisionMemoizer(16, 1.0);
+        final BotServiceProvider memoized = sut.memoize(bot);
+
+        final int first = memoized.getRaiseResponse(intel);
+        final int second = memoized.getRaiseResponse(intel);
+        final int third = memoized.getRaiseResponse(intel);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(List.of(first, second, third)).containsExactly(0, 1, -1);
+        softly.assertThat(bot.calls).isEqualTo(3);
+        softly.assertThat(sut.stats()).containsExactly(new MemoizationStatsDto("CountingBot", 1, 1, 0, 1, 1, false));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should forget cached decisions and mismatches when cleared")
+    void shouldForgetCachedDecisionsAndMismatchesWhenCleared() {
+        final DecisionMemoizer sut = new DecisionMemoizer(16, 0.0);
+        sut.memoize(new CountingBot(true)).chooseCard(intel);
+        sut.clear();
+        assertThat(sut.stats()).isEmpty();
+    }
+
+    private static class CountingBot implements BotServiceProvider {
+        private final boolean deterministic;
+        private int calls;
+        private int raiseResponses;
+
+        private CountingBot(boolean deterministic) {
+            this.deterministic = deterministic;
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            calls++;
+            return true;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            calls++;
+            return false;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            calls++;
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            calls++;
+            return List.of(0, 1, -1).get(raiseResponses++ % 3);
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return deterministic;
+        }
+    }
+}
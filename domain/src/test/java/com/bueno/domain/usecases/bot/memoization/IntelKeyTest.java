@@ -0,0 +1,79 @@
+package com.bueno.domain.usecases.bot.memoization;
+
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.bueno.domain.usecases.bot.metrics.BotDecision.CHOOSE_CARD;
+import static com.bueno.domain.usecases.bot.metrics.BotDecision.DECIDE_IF_RAISES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntelKeyTest {
+
+    private static final TrucoCard VIRA = TrucoCard.of(CardRank.KING, CardSuit.HEARTS);
+
+    @Test
+    @DisplayName("Should have equal keys for equal intel")
+    void shouldHaveEqualKeysForEqualIntel() {
+        assertThat(IntelKey.of(CHOOSE_CARD, intelOf(List.of(card(CardRank.ACE, CardSuit.SPADES)), 0)))
+                .isEqualTo(IntelKey.of(CHOOSE_CARD, intelOf(List.of(card(CardRank.ACE, CardSuit.SPADES)), 0)))
+                .isPresent();
+    }
+
+    @Test
+    @DisplayName("Should have different keys for different decisions")
+    void shouldHaveDifferentKeysForDifferentDecisions() {
+        final GameIntel intel = intelOf(List.of(card(CardRank.ACE, CardSuit.SPADES)), 0);
+        assertThat(IntelKey.of(CHOOSE_CARD, intel)).isNotEqualTo(IntelKey.of(DECIDE_IF_RAISES, intel));
+    }
+
+    @Test
+    @DisplayName("Should have different keys for different scores")
+    void shouldHaveDifferentKeysForDifferentScores() {
+        final List<TrucoCard> cards = List.of(card(CardRank.ACE, CardSuit.SPADES));
+        assertThat(IntelKey.of(CHOOSE_CARD, intelOf(cards, 0))).isNotEqualTo(IntelKey.of(CHOOSE_CARD, intelOf(cards, 1)));
+    }
+
+    @Test
+    @DisplayName("Should have distinct keys for every card and card order")
+    void shouldHaveDistinctKeysForEveryCardAndCardOrder() {
+        final List<TrucoCard> allCards = new java.util.ArrayList<>();
+        for (CardRank rank : CardRank.values()) {
+            if (rank == CardRank.HIDDEN) continue;
+            for (CardSuit suit : CardSuit.values()) if (suit != CardSuit.HIDDEN) allCards.add(card(rank, suit));
+        }
+        allCards.add(TrucoCard.closed());
+
+        final long distinctKeys = allCards.stream()
+                .flatMap(first -> allCards.stream().map(second -> intelOf(List.of(first, second), 0)))
+                .map(intel -> IntelKey.of(CHOOSE_CARD, intel).orElseThrow())
+                .distinct()
+                .count();
+
+        assertThat(distinctKeys).isEqualTo((long) allCards.size() * allCards.size());
+    }
+
+    @Test
+    @DisplayName("Should not have a key for intel that does not fit")
+    void shouldNotHaveAKeyForIntelThatDoesNotFit() {
+        assertThat(IntelKey.of(BotDecision.RAISE_RESPONSE, intelOf(List.of(), 99))).isEmpty();
+    }
+
+    private static GameIntel intelOf(List<TrucoCard> cards, int score) {
+        return GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(VIRA), VIRA, 1)
+                .botInfo(cards, score)
+                .opponentScore(0)
+                .build();
+    }
+
+    private static TrucoCard card(CardRank rank, CardSuit suit) {
+        return TrucoCard.of(rank, suit);
+    }
+}
@@ -0,0 +1,126 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import com.bueno.domain.usecases.bot.dtos.BotDecisionMetricsDto;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BatchBotServiceProvider;
+import com.bueno.spi.service.BotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BotMetricsRegistryTest {
+
+    @Mock private BotServiceProvider botService;
+    private GameIntel intel;
+    private BotMetricsRegistry sut;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(botService.getName()).thenReturn("MockBot");
+        intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(), TrucoCard.of(CardRank.KING, CardSuit.HEARTS), 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.FOUR, CardSuit.CLUBS)), 0)
+                .opponentScore(0)
+                .build();
+        sut = new BotMetricsRegistry();
+    }
+
+    @Test
+    @DisplayName("Should measure each decision of the bot")
+    void shouldMeasureEachDecisionOfTheBot() {
+        when(botService.chooseCard(any())).thenReturn(CardToPlay.of(TrucoCard.of(CardRank.FOUR, CardSuit.CLUBS)));
+        final BotServiceProvider measured = sut.measure(botService);
+
+        measured.chooseCard(intel);
+        measured.chooseCard(intel);
+        measured.decideIfRaises(intel);
+
+        final List<BotDecisionMetricsDto> metrics = sut.snapshot();
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::decision).containsExactly("DECIDE_IF_RAISES", "CHOOSE_CARD");
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::decisions).containsExactly(1L, 2L);
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::invalidResponses).containsOnly(0L);
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::botName).containsOnly("MockBot");
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should measure each decision of a batch")
+    void shouldMeasureEachDecisionOfABatch() {
+        final BatchBotServiceProvider measured = sut.measure(new BatchBotServiceProvider() {
+            @Override public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) { return new boolean[intels.length]; }
+            @Override public boolean[] decideIfRaises(GameIntel[] intels) { return new boolean[intels.length]; }
+            @Override public CardToPlay[] chooseCards(GameIntel[] intels) { return new CardToPlay[intels.length]; }
+            @Override public int[] getRaiseResponses(GameIntel[] intels) { return new int[]{2}; }
+            @Override public String getName() { return "BatchBot"; }
+        });
+
+        measured.decideIfRaises(new GameIntel[]{intel, intel, intel});
+        measured.getRaiseResponses(new GameIntel[]{intel, intel});
+
+        final List<BotDecisionMetricsDto> metrics = sut.snapshot();
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::decision).containsExactly("DECIDE_IF_RAISES", "RAISE_RESPONSE");
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::decisions).containsExactly(3L, 2L);
+        softly.assertThat(metrics).extracting(BotDecisionMetricsDto::invalidResponses).containsExactly(0L, 2L);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should count cards that are not in the bot hand as invalid responses")
+    void shouldCountCardsThatAreNotInTheBotHandAsInvalidResponses() {
+        when(botService.chooseCard(any())).thenReturn(CardToPlay.of(TrucoCard.of(CardRank.ACE, CardSuit.SPADES)));
+        sut.measure(botService).chooseCard(intel);
+        assertThat(sut.snapshot()).extracting(BotDecisionMetricsDto::invalidResponses).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should count out of range raise responses as invalid responses")
+    void shouldCountOutOfRangeRaiseResponsesAsInvalidResponses() {
+        when(botService.getRaiseResponse(any())).thenReturn(2);
+        sut.measure(botService).getRaiseResponse(intel);
+        assertThat(sut.snapshot()).extracting(BotDecisionMetricsDto::invalidResponses).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should count and rethrow exceptions thrown by the bot")
+    void shouldCountAndRethrowExceptionsThrownByTheBot() {
+        when(botService.getMaoDeOnzeResponse(any())).thenThrow(new IllegalStateException("Bot bug"));
+        final BotServiceProvider measured = sut.measure(botService);
+
+        assertThatIllegalStateException().isThrownBy(() -> measured.getMaoDeOnzeResponse(intel));
+        assertThat(sut.snapshot()).extracting(BotDecisionMetricsDto::invalidResponses).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should not measure an already measured bot twice")
+    void shouldNotMeasureAnAlreadyMeasuredBotTwice() {
+        final BotServiceProvider measured = sut.measure(botService);
+        assertThat(sut.measure(measured)).isSameAs(measured);
+    }
+
+    @Test
+    @DisplayName("Should have no metrics after reset")
+    void shouldHaveNoMetricsAfterReset() {
+        sut.measure(botService).decideIfRaises(intel);
+        sut.reset();
+        assertThat(sut.snapshot()).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bueno.domain.usecases.bot.metrics;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LatencyHistogram();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 17, 31, 32, 33, 1_000, 123_456, 987_654_321, LatencyHistogram.MAX_VALUE})
+    @DisplayName("Should place values in a bucket whose upper bound is at most 6.25% above the value")
+    void shouldPlaceValuesInABucketWhoseUpperBoundIsAtMostAboveTheValue(long value) {
+        final long upperBound = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+        assertThat(upperBound).isGreaterThanOrEqualTo(value).isLessThanOrEqualTo(value + value / 16);
+    }
+
+    @Test
+    @DisplayName("Should report count, mean, max and percentiles of recorded values")
+    void shouldReportCountMeanMaxAndPercentilesOfRecordedValues() {
+        IntStream.rangeClosed(1, 1000).forEach(value -> sut.record(value * 1000L));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.count()).isEqualTo(1000);
+        softly.assertThat(sut.mean()).isEqualTo(500_500);
+        softly.assertThat(sut.max()).isEqualTo(1_000_000);
+        softly.assertThat((double) sut.percentile(50)).isCloseTo(500_000, within(500_000 / 16.0));
+        softly.assertThat((double) sut.percentile(99)).isCloseTo(990_000, within(990_000 / 16.0));
+        softly.assertThat(sut.percentile(100)).isEqualTo(1_000_000);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should count values from concurrent threads")
+    void shouldCountValuesFromConcurrentThreads() {
+        IntStream.range(0, 100_000).parallel().forEach(sut::record);
+        assertThat(sut.count()).isEqualTo(100_000);
+        assertThat(sut.percentile(100)).isEqualTo(99_999);
+    }
+
+    @Test
+    @DisplayName("Should clamp negative and too large values")
+    void shouldClampNegativeAndTooLargeValues() {
+        sut.record(-5);
+        sut.record(Long.MAX_VALUE);
+        assertThat(sut.percentile(0)).isZero();
+        assertThat(sut.max()).isEqualTo(LatencyHistogram.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should forget recorded values when reset")
+    void shouldForgetRecordedValuesWhenReset() {
+        sut.record(42);
+        sut.reset();
+        assertThat(sut.count()).isZero();
+        assertThat(sut.percentile(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not accept percentiles out of range")
+    void shouldNotAcceptPercentilesOutOfRange() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.percentile(101));
+    }
+}
@@ -0,0 +1,169 @@
+package com.bueno.domain.usecases.bot.session;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.BotSession;
+import com.bueno.spi.service.BotSessionFactory;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BotSessionRegistryTest {
+
+    private Game game;
+    private BotSessionRegistry sut;
+
+    @BeforeEach
+    void setUp() {
+        final UUID uuidBot1 = UUID.randomUUID();
+        final UUID uuidBot2 = UUID.randomUUID();
+        game = new Game(Player.ofBot(uuidBot1, "DummyBot"), Player.ofBot(uuidBot2, "DummyBot"), 42L);
+        sut = new BotSessionRegistry();
+    }
+
+    @Test
+    @DisplayName("Should return bot services that are not session factories unchanged")
+    void shouldReturnBotServicesThatAreNotSessionFactoriesUnchanged() {
+        final BotServiceProvider botService = new RecordingBot();
+        final BotServiceProvider plain = new BotServiceProvider() {
+            @Override public boolean getMaoDeOnzeResponse(GameIntel intel) { return false; }
+            @Override public boolean decideIfRaises(GameIntel intel) { return false; }
+            @Override public CardToPlay chooseCard(GameIntel intel) { return null; }
+            @Override public int getRaiseResponse(GameIntel intel) { return 0; }
+        };
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.open(game, game.getPlayer1(), plain)).isSameAs(plain);
+        softly.assertThat(sut.open(game, game.getPlayer1(), botService).getName()).isEqualTo("RecordingBot");
+        softly.assertThat(sut.openSessions()).isOne();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should keep a single session per bot and game")
+    void shouldKeepASingleSessionPerBotAndGame() {
+        final RecordingBot botService = new RecordingBot();
+        sut.open(game, game.getPlayer1(), botService);
+        sut.open(game, game.getPlayer1(), botService);
+        sut.open(game, game.getPlayer2(), botService);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(botService.sessions).hasSize(2);
+        softly.assertThat(sut.openSessions()).isEqualTo(2);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should notify every event of the game once and close the session when the game is over")
+    void shouldNotifyEveryEventOfTheGameOnceAndCloseTheSessionWhenTheGameIsOver() {
+        playUntilDone();
+        final RecordingBot botService = new RecordingBot();
+        sut.open(game, game.getPlayer1(), botService);
+
+        sut.sync(game);
+        sut.sync(game);
+        sut.closeIfDone(game);
+
+        final RecordingSession session = botService.sessions.get(0);
+        final long cardsPlayed = game.getHands().stream().map(Hand::getIntelHistory).flatMap(List::stream)
+                .filter(intel -> intel.event().filter("PLAY"::equals).isPresent()).count();
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(session.events).filteredOn(event -> event.startsWith("card")).hasSize((int) cardsPlayed);
+        softly.assertThat(session.events).filteredOn(event -> event.startsWith("hand")).hasSize(game.getHands().size());
+        softly.assertThat(session.events).last().isEqualTo("close");
+        softly.assertThat(sut.openSessions()).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should notify the cards played by the bot and by the opponent")
+    void shouldNotifyTheCardsPlayedByTheBotAndByTheOpponent() {
+        playUntilDone();
+        final RecordingBot botService = new RecordingBot();
+        sut.open(game, game.getPlayer1(), botService);
+        sut.sync(game);
+
+        final List<Intel> firstHand = game.getHands().get(0).getIntelHistory();
+        final long cardsOfBot = firstHand.stream()
+                .filter(intel -> intel.event().filter("PLAY"::equals).isPresent())
+                .filter(intel -> intel.eventPlayerUuid().filter(game.getPlayer1().getUuid()::equals).isPresent())
+                .count();
+
+        final List<String> firstHandEvents = botService.sessions.get(0).events.subList(0,
+                botService.sessions.get(0).events.indexOf(botService.sessions.get(0).events.stream()
+                        .filter(event -> event.startsWith("hand")).findFirst().orElseThrow()));
+        assertThat(firstHandEvents).filteredOn(event -> event.startsWith("card") && event.endsWith("bot"))
+                .hasSize((int) cardsOfBot);
+    }
+
+    private void playUntilDone() {
+        new BotUseCase(new GameRepoDisposableImpl()).playWhenNecessary(game);
+    }
+
+    private static class RecordingBot implements BotServiceProvider, BotSessionFactory {
+        private final List<RecordingSession> sessions = new ArrayList<>();
+
+        @Override
+        public BotSession newSession() {
+            final RecordingSession session = new RecordingSession();
+            sessions.add(session);
+            return session;
+        }
+
+        @Override public boolean getMaoDeOnzeResponse(GameIntel intel) { return true; }
+        @Override public boolean decideIfRaises(GameIntel intel) { return false; }
+        @Override public CardToPlay chooseCard(GameIntel intel) { return CardToPlay.of(intel.getCards().get(0)); }
+        @Override public int getRaiseResponse(GameIntel intel) { return 0; }
+    }
+
+    private static class RecordingSession extends RecordingBot implements BotSession {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onCardPlayed(TrucoCard card, boolean byBot) {
+            events.add("card " + card + (byBot ? " bot" : " opponent"));
+        }
+
+        @Override
+        public void onRaise(int proposedPoints, boolean byBot) {
+            events.add("raise " + proposedPoints);
+        }
+
+        @Override
+        public void onAccept(int handPoints, boolean byBot) {
+            events.add("accept " + handPoints);
+        }
+
+        @Override
+        public void onQuit(boolean byBot) {
+            events.add("quit");
+        }
+
+        @Override
+        public void onHandEnd(RoundResult result, int handPoints) {
+            events.add("hand " + result + " " + handPoints);
+        }
+
+        @Override
+        public void close() {
+            events.add("close");
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.bueno.domain.usecases.bot.watchdog;
+
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BatchBotServiceProvider;
+import com.bueno.spi.service.BotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class BotWatchdogTest {
+
+    private GameIntel intel;
+    private BotWatchdog sut;
+
+    @BeforeEach
+    void setUp() {
+        intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(), TrucoCard.of(CardRank.KING, CardSuit.HEARTS), 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS), TrucoCard.of(CardRank.ACE, CardSuit.SPADES),
+                        TrucoCard.of(CardRank.FIVE, CardSuit.DIAMONDS)), 0)
+                .opponentScore(0)
+                .build();
+        sut = new BotWatchdog("test", Duration.ofMillis(50), 2);
+    }
+
+    @Test
+    @DisplayName("Should return the decision of a bot within the budget")
+    void shouldReturnTheDecisionOfABotWithinTheBudget() {
+        final BotServiceProvider guarded = sut.guard(new SleepyBot(0));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(guarded.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)));
+        softly.assertThat(guarded.getRaiseResponse(intel)).isEqualTo(1);
+        softly.assertThat(guarded.decideIfRaises(intel)).isTrue();
+        softly.assertThat(guarded.getMaoDeOnzeResponse(intel)).isFalse();
+        softly.assertThat(sut.violationsOf("SleepyBot")).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should play the fallback moves when the bot is too slow")
+    void shouldPlayTheFallbackMovesWhenTheBotIsTooSlow() {
+        final BotServiceProvider guarded = sut.guard(new SleepyBot(10_000));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(guarded.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(CardRank.FIVE, CardSuit.DIAMONDS)));
+        softly.assertThat(guarded.getRaiseResponse(intel)).isZero();
+        softly.assertThat(guarded.decideIfRaises(intel)).isFalse();
+        softly.assertThat(guarded.getMaoDeOnzeResponse(intel)).isTrue();
+        softly.assertThat(sut.violationsOf("SleepyBot")).isEqualTo(4);
+        softly.assertThat(sut.violations()).containsEntry("SleepyBot", 4L);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should play the fallback moves of the whole batch when a batch bot is too slow")
+    void shouldPlayTheFallbackMovesOfTheWholeBatchWhenABatchBotIsTooSlow() {
+        final SleepyBot sleepyBot = new SleepyBot(10_000);
+        final BatchBotServiceProvider guarded = sut.guard(new BatchBotServiceProvider() {
+            @Override public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) { return null; }
+            @Override public boolean[] decideIfRaises(GameIntel[] intels) { return null; }
+            @Override public CardToPlay[] chooseCards(GameIntel[] intels) {
+                sleepyBot.think();
+                return null;
+            }
+            @Override public int[] getRaiseResponses(GameIntel[] intels) { return null; }
+            @Override public String getName() { return "SleepyBatchBot"; }
+        });
+
+        final CardToPlay lowestCard = CardToPlay.of(TrucoCard.of(CardRank.FIVE, CardSuit.DIAMONDS));
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(guarded.chooseCards(new GameIntel[]{intel, intel})).containsExactly(lowestCard, lowestCard);
+        softly.assertThat(sut.violationsOf("SleepyBatchBot")).isEqualTo(2);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should rethrow exceptions thrown by the bot")
+    void shouldRethrowExceptionsThrownByTheBot() {
+        final BotServiceProvider guarded = sut.guard(new SleepyBot(-1));
+        assertThatIllegalStateException().isThrownBy(() -> guarded.chooseCard(intel)).withMessage("Bot bug");
+    }
+
+    @Test
+    @DisplayName("Should decide on the calling thread when the budget is zero")
+    void shouldDecideOnTheCallingThreadWhenTheBudgetIsZero() {
+        sut.setBudget(Duration.ZERO);
+        final SleepyBot bot = new SleepyBot(0);
+        sut.guard(bot).decideIfRaises(intel);
+        assertThat(bot.lastThread).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("Should not charge the time waiting for a free thread to the bot")
+    void shouldNotChargeTheTimeWaitingForAFreeThreadToTheBot() throws Exception {
+        final BotWatchdog watchdog = new BotWatchdog("test", Duration.ofMillis(300), 1);
+        final BotServiceProvider guarded = watchdog.guard(new SleepyBot(200));
+        final ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            final List<Future<Boolean>> decisions = new ArrayList<>();
+            for (int i = 0; i < 2; i++) decisions.add(callers.submit(() -> guarded.decideIfRaises(intel)));
+            for (Future<Boolean> decision : decisions) assertThat(decision.get()).isTrue();
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(watchdog.violationsOf("SleepyBot")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replace the pool threads held by bots that ignore the interruption")
+    void shouldReplaceThePoolThreadsHeldByBotsThatIgnoreTheInterruption() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BotServiceProvider runaway = sut.guard(new RunawayBot(release));
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertThat(runaway.decideIfRaises(intel)).isFalse();
+                assertThat(runaway.decideIfRaises(intel)).isFalse();
+                assertThat(sut.guard(new SleepyBot(0)).decideIfRaises(intel)).isTrue();
+            });
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.stuckDecisions()).isEqualTo(2);
+            softly.assertThat(sut.violationsOf("RunawayBot")).isEqualTo(2);
+            softly.assertThat(sut.violationsOf("SleepyBot")).isZero();
+            softly.assertAll();
+        } finally {
+            release.countDown();
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (sut.stuckDecisions() > 0) Thread.sleep(10);
+        });
+    }
+
+    @Test
+    @DisplayName("Should play the fallback moves when runaway bots hold every replacement thread")
+    void shouldPlayTheFallbackMovesWhenRunawayBotsHoldEveryReplacementThread() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BotServiceProvider runaway = sut.guard(new RunawayBot(release));
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i < 4; i++) assertThat(runaway.decideIfRaises(intel)).isFalse();
+                assertThat(sut.guard(new SleepyBot(0)).decideIfRaises(intel)).isFalse();
+            });
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.stuckDecisions()).isEqualTo(4);
+            softly.assertThat(sut.violationsOf("RunawayBot")).isEqualTo(4);
+            softly.assertThat(sut.violationsOf("SleepyBot")).isEqualTo(1);
+            softly.assertAll();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not accept negative budgets")
+    void shouldNotAcceptNegativeBudgets() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.setBudget(Duration.ofMillis(-1)));
+    }
+
+    private static class RunawayBot implements BotServiceProvider {
+        private final CountDownLatch release;
+
+        private RunawayBot(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // Ignores the watchdog on purpose.
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 1;
+        }
+    }
+
+    private static class SleepyBot implements BotServiceProvider {
+        private final long sleepMillis;
+        private volatile Thread lastThread;
+
+        private SleepyBot(long sleepMillis) {
+            this.sleepMillis = sleepMillis;
+        }
+
+        private void think() {
+            lastThread = Thread.currentThread();
+            if (sleepMillis < 0) throw new IllegalStateException("Bot bug");
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            think();
+            return false;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            think();
+            return true;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            think();
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            think();
+            return 1;
+        }
+    }
+}
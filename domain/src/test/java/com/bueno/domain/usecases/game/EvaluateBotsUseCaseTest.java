@@ -0,0 +1,46 @@
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.OpponentEvaluationDto;
+import com.bueno.domain.usecases.game.usecase.EvaluateBotsUseCase;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class EvaluateBotsUseCaseTest {
+
+    private final List<String> botNames = List.of("DummyBot", "MineiroByBueno", "ChatGptBot");
+
+    @Test
+    @DisplayName("Should play a fixed number of games against each opponent")
+    void shouldPlayAFixedNumberOfGamesAgainstEachOpponent() {
+        final var sut = new EvaluateBotsUseCase("DummyBot", 42L);
+        final var results = sut.getResults(botNames);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results.opponents()).extracting(OpponentEvaluationDto::opponentName)
+                .containsExactly("MineiroByBueno", "ChatGptBot");
+        softly.assertThat(results.opponents()).extracting(OpponentEvaluationDto::numberOfGames)
+                .containsOnly((long) EvaluateBotsUseCase.TIMES);
+        softly.assertThat(results.numberOfGames()).isEqualTo(2L * EvaluateBotsUseCase.TIMES);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should stop evaluating each opponent when decided or after the maximum number of games")
+    void shouldStopEvaluatingEachOpponentWhenDecidedOrAfterTheMaximumNumberOfGames() {
+        final var sut = new EvaluateBotsUseCase("DummyBot", 42L);
+        final var results = sut.getAdaptiveResults(botNames, 0.05);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results.opponents()).hasSize(2);
+        softly.assertThat(results.opponents()).allSatisfy(opponent -> {
+            softly.assertThat(opponent.numberOfGames()).isBetween(1L, (long) EvaluateBotsUseCase.TIMES);
+            softly.assertThat(opponent.confidence()).isBetween(0.0, 1.0);
+        });
+        softly.assertThat(results.numberOfGames())
+                .isEqualTo(results.opponents().stream().mapToLong(OpponentEvaluationDto::numberOfGames).sum());
+        softly.assertAll();
+    }
+}
@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.game;
 
 import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
+import com.bueno.domain.usecases.game.dtos.DuplicateDealDto;
 import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.usecase.PlayWithBotsUseCase;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -82,4 +84,47 @@ class PlayWithBotsUseCaseTest {
         softly.assertThat(response.name()).isNotNull();
         softly.assertAll();*/
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should play each deal twice with swapped seats in duplicate mode")
+    void shouldPlayEachDealTwiceWithSwappedSeatsInDuplicateMode() {
+        final var uuid = UUID.randomUUID();
+        final var sut = new PlayWithBotsUseCase(uuid, "DummyBot", "DummyBot", 42L);
+        final var report = sut.playDuplicate(5);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(report.deals()).hasSize(5);
+        softly.assertThat(report.numberOfGames()).isEqualTo(10);
+        softly.assertThat(report.botWins()).isBetween(0L, 10L);
+        softly.assertThat(report.deals()).extracting(DuplicateDealDto::seed).doesNotHaveDuplicates();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should count the wins of each bot as the games finish")
+    void shouldCountTheWinsOfEachBotAsTheGamesFinish() {
+        final var uuid = UUID.randomUUID();
+        final var sut = new PlayWithBotsUseCase(uuid, "DummyBot", "DummyBot", 42L);
+        final var result = sut.playWithBots(10);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.uuidBot1()).isEqualTo(uuid);
+        softly.assertThat(result.gamesPlayed()).isEqualTo(10);
+        softly.assertThat(result.failedGames()).isZero();
+        softly.assertThat(result.complete()).isTrue();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not start games after the time budget is over")
+    void shouldNotStartGamesAfterTheTimeBudgetIsOver() {
+        final var sut = new PlayWithBotsUseCase(UUID.randomUUID(), "DummyBot", "DummyBot", 42L);
+        final var result = sut.playWithBots(10, Duration.ZERO);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.gamesPlayed()).isZero();
+        softly.assertThat(result.gamesRequested()).isEqualTo(10);
+        softly.assertThat(result.complete()).isFalse();
+        softly.assertAll();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.usecase.RemoveGameUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.bueno.domain.usecases.game.usecase.RemoveGameUseCase.INACTIVE_GAMES_PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemoveGameUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepo;
+    @Mock
+    private GameResultRepository gameResultRepo;
+
+    @InjectMocks
+    private RemoveGameUseCase sut;
+
+    @Test
+    @DisplayName("Should not remove any game if there is no inactive game")
+    void shouldNotRemoveAnyGameIfThereIsNoInactiveGame() {
+        when(gameRepo.findInactiveSince(any(), isNull(), eq(INACTIVE_GAMES_PAGE_SIZE))).thenReturn(List.of());
+        assertThat(sut.byInactivityAfter(5)).isEmpty();
+        verify(gameRepo, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should look for games without activity since the inactivity limit")
+    void shouldLookForGamesWithoutActivitySinceTheInactivityLimit() {
+        final ArgumentCaptor<Instant> inactiveSince = ArgumentCaptor.forClass(Instant.class);
+        when(gameRepo.findInactiveSince(inactiveSince.capture(), isNull(), anyInt())).thenReturn(List.of());
+
+        sut.byInactivityAfter(5);
+
+        assertThat(inactiveSince.getValue())
+                .isBetween(Instant.now().minus(Duration.ofMinutes(5)).minusSeconds(1), Instant.now().minus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Should remove inactive games page by page and return the inactive players")
+    void shouldRemoveInactiveGamesPageByPageAndReturnTheInactivePlayers() {
+        final List<GameDto> games = IntStream.range(0, INACTIVE_GAMES_PAGE_SIZE + 1).mapToObj(i -> newGame()).toList();
+        final List<InactiveGameDto> inactiveGames = games.stream()
+                .map(game -> new InactiveGameDto(game.gameUuid(), game.player1().uuid())).toList();
+        final List<InactiveGameDto> firstPage = inactiveGames.subList(0, INACTIVE_GAMES_PAGE_SIZE);
+        final UUID lastOfFirstPage = firstPage.get(firstPage.size() - 1).gameUuid();
+        when(gameRepo.findInactiveSince(any(), isNull(), eq(INACTIVE_GAMES_PAGE_SIZE))).thenReturn(firstPage);
+        when(gameRepo.findInactiveSince(any(), eq(lastOfFirstPage), eq(INACTIVE_GAMES_PAGE_SIZE)))
+                .thenReturn(inactiveGames.subList(INACTIVE_GAMES_PAGE_SIZE, inactiveGames.size()));
+        games.forEach(game -> when(gameRepo.findByPlayerUuid(game.player1().uuid())).thenReturn(Optional.of(game)));
+
+        final List<UUID> inactivePlayers = sut.byInactivityAfter(5);
+
+        assertThat(inactivePlayers).containsExactlyElementsOf(games.stream().map(game -> game.player1().uuid()).toList());
+        verify(gameRepo, times(2)).findInactiveSince(any(), any(), anyInt());
+        games.forEach(game -> verify(gameRepo).delete(game.gameUuid()));
+        verify(gameResultRepo, times(games.size())).save(any(GameResultDto.class));
+    }
+
+    private static GameDto newGame() {
+        return GameConverter.toDto(new Game(Player.of(UUID.randomUUID(), "User"), Player.ofBot("DummyBot")));
+    }
+}
@@ -0,0 +1,66 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.DuplicateDealDto;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DuplicateDealReportServiceTest {
+
+    private PlayWithBotsDto bot;
+    private PlayWithBotsDto opponent;
+
+    @BeforeEach
+    void setUp() {
+        bot = new PlayWithBotsDto(UUID.randomUUID(), "BotA");
+        opponent = new PlayWithBotsDto(UUID.randomUUID(), "BotB");
+    }
+
+    private DuplicateDealDto deal(PlayWithBotsDto originalWinner, PlayWithBotsDto swappedWinner) {
+        return new DuplicateDealDto(0L, originalWinner, swappedWinner);
+    }
+
+    @Test
+    @DisplayName("Should count wins and win rate of the bot in both seats")
+    void shouldCountWinsAndWinRateOfTheBotInBothSeats() {
+        final var report = DuplicateDealReportService.report(
+                List.of(deal(bot, bot), deal(bot, opponent), deal(opponent, opponent), deal(opponent, bot)), bot.uuid());
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(report.numberOfGames()).isEqualTo(8);
+        softly.assertThat(report.botWins()).isEqualTo(4);
+        softly.assertThat(report.winRate()).isCloseTo(50.0, within(1e-9));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should remove all variance when each deal is won once by each bot")
+    void shouldRemoveAllVarianceWhenEachDealIsWonOnceByEachBot() {
+        final var report = DuplicateDealReportService.report(
+                List.of(deal(bot, opponent), deal(opponent, bot), deal(bot, opponent)), bot.uuid());
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(report.pairedVariance()).isZero();
+        softly.assertThat(report.unpairedVariance()).isCloseTo(0.25 / 6, within(1e-9));
+        softly.assertThat(report.varianceReduction()).isCloseTo(1.0, within(1e-9));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should report increased variance when deal luck decides both games")
+    void shouldReportIncreasedVarianceWhenDealLuckDecidesBothGames() {
+        final var report = DuplicateDealReportService.report(
+                List.of(deal(bot, bot), deal(opponent, opponent)), bot.uuid());
+
+        assertThat(report.pairedVariance()).isGreaterThan(report.unpairedVariance());
+        assertThat(report.varianceReduction()).isNegative();
+    }
+}
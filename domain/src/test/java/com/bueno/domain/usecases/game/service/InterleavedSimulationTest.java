@@ -0,0 +1,188 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.bot.dtos.BotDecisionMetricsDto;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsRegistry;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BatchBotServiceProvider;
+import com.bueno.spi.service.BotServiceManager;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class InterleavedSimulationTest {
+
+    private UUID uuidBot1;
+    private UUID uuidBot2;
+    private long[] seeds;
+
+    @BeforeEach
+    void setUp() {
+        uuidBot1 = UUID.randomUUID();
+        uuidBot2 = UUID.randomUUID();
+        seeds = LongStream.rangeClosed(1, 16).toArray();
+    }
+
+    @Test
+    @DisplayName("Should play single-call bots exactly as the simulation engine")
+    void shouldPlaySingleCallBotsExactlyAsTheSimulationEngine() {
+        final var sut = new InterleavedSimulation(uuidBot1, "DummyBot", uuidBot2, "DummyBot");
+        final var engine = new SimulationEngine(uuidBot1, "DummyBot", uuidBot2, "DummyBot");
+
+        final PlayWithBotsDto[] results = sut.play(seeds);
+
+        assertThat(results).containsExactly(Arrays.stream(seeds).mapToObj(engine::play).toArray(PlayWithBotsDto[]::new));
+    }
+
+    @Test
+    @DisplayName("Should ask batch bots for the decisions of many games at once")
+    void shouldAskBatchBotsForTheDecisionsOfManyGamesAtOnce() {
+        final var batchBot = new BatchDummyBot();
+        final var sut = new InterleavedSimulation(uuidBot1, "BatchBot", uuidBot2, "BatchBot", name -> batchBot);
+        final var engine = new SimulationEngine(uuidBot1, "DummyBot", uuidBot2, "DummyBot");
+
+        final PlayWithBotsDto[] results = sut.play(seeds);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results).extracting(PlayWithBotsDto::uuid)
+                .containsExactly(Arrays.stream(seeds).mapToObj(engine::play).map(PlayWithBotsDto::uuid).toArray(UUID[]::new));
+        softly.assertThat(batchBot.batchSizes).contains(seeds.length);
+        softly.assertThat(batchBot.batchSizes).allMatch(size -> size > 0 && size <= seeds.length);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should mix batch bots with single-call bots")
+    void shouldMixBatchBotsWithSingleCallBots() {
+        final var batchBot = new BatchDummyBot();
+        final var sut = new InterleavedSimulation(uuidBot1, "BatchBot", uuidBot2, "DummyBot",
+                name -> name.equals("BatchBot") ? batchBot : BotServiceManager.load(name));
+
+        final PlayWithBotsDto[] results = sut.play(seeds);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results).doesNotContainNull();
+        softly.assertThat(batchBot.batchSizes).contains(seeds.length);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should give a stateful batch bot one instance per game")
+    void shouldGiveAStatefulBatchBotOneInstancePerGame() {
+        final List<BatchDummyBot> instances = new ArrayList<>();
+        final var sut = new InterleavedSimulation(uuidBot1, "BatchBot", uuidBot2, "DummyBot", name -> {
+            if (!name.equals("BatchBot")) return BotServiceManager.load(name);
+            final var batchBot = new BatchDummyBot();
+            instances.add(batchBot);
+            return batchBot;
+        });
+
+        final PlayWithBotsDto[] results = sut.play(seeds);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results).doesNotContainNull();
+        softly.assertThat(instances).hasSize(seeds.length);
+        softly.assertThat(instances).allMatch(batchBot -> batchBot.batchSizes.stream().allMatch(size -> size == 1));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should load each bot once per game")
+    void shouldLoadEachBotOncePerGame() {
+        final List<String> loaded = new ArrayList<>();
+        final var sut = new InterleavedSimulation(uuidBot1, "DummyBot", uuidBot2, "DummyBot", name -> {
+            loaded.add(name);
+            return BotServiceManager.load(name);
+        });
+
+        sut.play(seeds);
+
+        assertThat(loaded).hasSize(2 * seeds.length);
+    }
+
+    @Test
+    @DisplayName("Should measure the decisions of batch bots")
+    void shouldMeasureTheDecisionsOfBatchBots() {
+        final var batchBot = new BatchDummyBot() {
+            @Override
+            public String getName() {
+                return "MeasuredBatchBot";
+            }
+        };
+        final var sut = new InterleavedSimulation(uuidBot1, "MeasuredBatchBot", uuidBot2, "MeasuredBatchBot",
+                name -> batchBot);
+
+        sut.play(seeds);
+
+        assertThat(BotMetricsRegistry.getInstance().snapshot())
+                .filteredOn(metrics -> metrics.botName().equals("MeasuredBatchBot"))
+                .extracting(BotDecisionMetricsDto::decision)
+                .contains("CHOOSE_CARD");
+    }
+
+    @Test
+    @DisplayName("Should abandon the games of a batch with the wrong number of decisions")
+    void shouldAbandonTheGamesOfABatchWithTheWrongNumberOfDecisions() {
+        final var batchBot = new BatchDummyBot() {
+            @Override
+            public CardToPlay[] chooseCards(GameIntel[] intels) {
+                final CardToPlay[] cards = super.chooseCards(intels);
+                return intels.length > 1 ? Arrays.copyOf(cards, cards.length - 1) : cards;
+            }
+        };
+        final var sut = new InterleavedSimulation(uuidBot1, "BatchBot", uuidBot2, "BatchBot", name -> batchBot);
+
+        assertThat(sut.play(seeds)).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Should not accept bots with the same UUID")
+    void shouldNotAcceptBotsWithTheSameUuid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new InterleavedSimulation(uuidBot1, "DummyBot", uuidBot1, "DummyBot"));
+    }
+
+    private static class BatchDummyBot implements BatchBotServiceProvider {
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public boolean[] getMaoDeOnzeResponses(GameIntel[] intels) {
+            batchSizes.add(intels.length);
+            return new boolean[intels.length];
+        }
+
+        @Override
+        public boolean[] decideIfRaises(GameIntel[] intels) {
+            batchSizes.add(intels.length);
+            return new boolean[intels.length];
+        }
+
+        @Override
+        public CardToPlay[] chooseCards(GameIntel[] intels) {
+            batchSizes.add(intels.length);
+            return Arrays.stream(intels).map(intel -> CardToPlay.of(intel.getCards().get(0))).toArray(CardToPlay[]::new);
+        }
+
+        @Override
+        public int[] getRaiseResponses(GameIntel[] intels) {
+            batchSizes.add(intels.length);
+            return new int[intels.length];
+        }
+
+        @Override
+        public String getName() {
+            return "BatchBot";
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.service.SequentialProbabilityRatio.Decision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SequentialProbabilityRatioTest {
+
+    private SequentialProbabilityRatio sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SequentialProbabilityRatio(0.05, 0.1);
+    }
+
+    @Test
+    @DisplayName("Should decide lopsided matches after a handful of games")
+    void shouldDecideLopsidedMatchesAfterAHandfulOfGames() {
+        assertThat(sut.decide(7, 0)).isEqualTo(Decision.UNDECIDED);
+        assertThat(sut.decide(8, 0)).isEqualTo(Decision.BETTER);
+        assertThat(sut.decide(0, 8)).isEqualTo(Decision.WORSE);
+    }
+
+    @Test
+    @DisplayName("Should not decide balanced matches")
+    void shouldNotDecideBalancedMatches() {
+        assertThat(sut.decide(15, 16)).isEqualTo(Decision.UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("Should reach at least the configured confidence when deciding")
+    void shouldReachAtLeastTheConfiguredConfidenceWhenDeciding() {
+        assertThat(sut.confidence(8, 0)).isGreaterThanOrEqualTo(1 - 0.05 / 0.95);
+        assertThat(sut.confidence(0, 8)).isEqualTo(sut.confidence(8, 0), within(1e-12));
+        assertThat(sut.confidence(10, 10)).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.5, -0.1, 1.0})
+    @DisplayName("Should not accept invalid error rates or indifference")
+    void shouldNotAcceptInvalidErrorRatesOrIndifference(double value) {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SequentialProbabilityRatio(value, 0.1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SequentialProbabilityRatio(0.05, value));
+    }
+}
@@ -0,0 +1,192 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.bot.memoization.DecisionMemoizer;
+import com.bueno.domain.usecases.bot.watchdog.BotWatchdog;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SimulationEngineTest {
+
+    private UUID uuidBot1;
+    private UUID uuidBot2;
+    private SimulationEngine sut;
+
+    @BeforeEach
+    void setUp() {
+        uuidBot1 = UUID.randomUUID();
+        uuidBot2 = UUID.randomUUID();
+        sut = new SimulationEngine(uuidBot1, "DummyBot", uuidBot2, "DummyBot");
+    }
+
+    @Test
+    @DisplayName("Should play until one of the bots wins the game")
+    void shouldPlayUntilOneOfTheBotsWinsTheGame() {
+        final var result = sut.play();
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.uuid()).isIn(uuidBot1, uuidBot2);
+        softly.assertThat(result.name()).isEqualTo("DummyBot");
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not accept bots with the same UUID")
+    void shouldNotAcceptBotsWithTheSameUuid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SimulationEngine(uuidBot1, "DummyBot", uuidBot1, "DummyBot"));
+    }
+
+    @Test
+    @DisplayName("Should throw if bot name is not a valid bot service implementation name")
+    void shouldThrowIfBotNameIsNotAValidBotServiceImplementationName() {
+        final var engine = new SimulationEngine(uuidBot1, "DummyBot", uuidBot2, "NoBot");
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(engine::play);
+    }
+
+    @Test
+    @DisplayName("Should play the first hand exactly as the bot use case")
+    void shouldPlayTheFirstHandExactlyAsTheBotUseCase() {
+        final Game expected = new Game(Player.ofBot(uuidBot1, "DummyBot"), Player.ofBot(uuidBot2, "DummyBot"));
+        final Game actual = GameConverter.fromDto(GameConverter.toDto(expected));
+
+        new BotUseCase(new GameRepoDisposableImpl()).playWhenNecessary(expected);
+        final Hand expectedHand = expected.getHands().get(0);
+
+        sut.playUntilDone(actual);
+        final Hand actualHand = actual.getHands().get(0);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(actualHand.getIntelHistory()).extracting(intel -> intel.event().orElse(null))
+                .isEqualTo(expectedHand.getIntelHistory().stream().map(intel -> intel.event().orElse(null)).toList());
+        softly.assertThat(actualHand.getIntelHistory()).extracting(intel -> intel.eventPlayerUuid().orElse(null))
+                .isEqualTo(expectedHand.getIntelHistory().stream().map(intel -> intel.eventPlayerUuid().orElse(null)).toList());
+        softly.assertThat(actualHand.getResult().flatMap(HandResult::getWinner).map(Player::getUuid))
+                .isEqualTo(expectedHand.getResult().flatMap(HandResult::getWinner).map(Player::getUuid));
+        softly.assertThat(actualHand.getPoints()).isEqualTo(expectedHand.getPoints());
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should replay the same game for the same seed")
+    void shouldReplayTheSameGameForTheSameSeed() {
+        final Game first = new Game(Player.ofBot(uuidBot1, "DummyBot"), Player.ofBot(uuidBot2, "DummyBot"), 42L);
+        final Game second = new Game(Player.ofBot(uuidBot1, "DummyBot"), Player.ofBot(uuidBot2, "DummyBot"), 42L);
+
+        sut.playUntilDone(first);
+        sut.playUntilDone(second);
+
+        assertThat(first.getHands()).extracting(Hand::getVira).isEqualTo(second.getHands().stream().map(Hand::getVira).toList());
+        assertThat(first.getWinner().map(Player::getUuid)).isEqualTo(second.getWinner().map(Player::getUuid));
+    }
+
+    @Test
+    @DisplayName("Should play bots that sort their cards in place")
+    void shouldPlayBotsThatSortTheirCardsInPlace() {
+        final var engine = new SimulationEngine(uuidBot1, "DeyvinBot", uuidBot2, "CFBot");
+        for (long seed = 0; seed < 5; seed++)
+            assertThat(engine.play(seed).uuid()).isIn(uuidBot1, uuidBot2);
+    }
+
+    @Test
+    @DisplayName("Should play with the decorated bot services")
+    void shouldPlayWithTheDecoratedBotServices() {
+        final List<String> decorated = new ArrayList<>();
+        final var engine = new SimulationEngine(uuidBot1, "DummyBot", uuidBot2, "DummyBot", botService -> {
+            decorated.add(botService.getName());
+            return botService;
+        });
+
+        engine.play(42L);
+
+        assertThat(decorated).containsExactly("DummyBot", "DummyBot");
+    }
+
+    @Test
+    @DisplayName("Should not memoize the fallback moves of a slow deterministic bot")
+    void shouldNotMemoizeTheFallbackMovesOfASlowDeterministicBot() throws InterruptedException {
+        final SlowDeterministicBot bot = new SlowDeterministicBot();
+        final DecisionMemoizer memoizer = new DecisionMemoizer(16, 1.0);
+        final BotServiceProvider decorated = SimulationEngine.decorate(bot, memoizer,
+                new BotWatchdog("test", Duration.ofMillis(50), 1));
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(), TrucoCard.of(CardRank.KING, CardSuit.HEARTS), 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)), 0)
+                .opponentScore(0)
+                .build();
+
+        final boolean fallback = decorated.decideIfRaises(intel);
+        bot.firstDecisionTaken.await();
+        final boolean decided = decorated.decideIfRaises(intel);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(fallback).isFalse();
+        softly.assertThat(decided).isTrue();
+        softly.assertThat(memoizer.stats()).singleElement().satisfies(stats -> {
+            assertThat(stats.mismatches()).isZero();
+            assertThat(stats.enabled()).isTrue();
+        });
+        softly.assertAll();
+    }
+
+    private static class SlowDeterministicBot implements BotServiceProvider {
+        private final CountDownLatch firstDecisionTaken = new CountDownLatch(1);
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            if (firstDecisionTaken.getCount() > 0) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                firstDecisionTaken.countDown();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return true;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 0;
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.SimulationProgressDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SimulationExecutorTest {
+
+    private final List<SimulationProgressDto> reports = new CopyOnWriteArrayList<>();
+    private SimulationExecutor sut;
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) sut.close();
+    }
+
+    @Test
+    @DisplayName("Should run every task and report the final progress")
+    void shouldRunEveryTaskAndReportTheFinalProgress() {
+        sut = new SimulationExecutor(4, null, reports::add);
+        final AtomicInteger counter = new AtomicInteger();
+
+        final int tasksRun = sut.run(100, task -> counter.incrementAndGet());
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(tasksRun).isEqualTo(100);
+        softly.assertThat(counter).hasValue(100);
+        softly.assertThat(reports).last().extracting(SimulationProgressDto::gamesPlayed).isEqualTo(100L);
+        softly.assertThat(reports).last().extracting(SimulationProgressDto::gamesRequested).isEqualTo(100L);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not run more tasks at the same time than its parallelism")
+    void shouldNotRunMoreTasksAtTheSameTimeThanItsParallelism() {
+        sut = new SimulationExecutor(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        sut.run(20, task -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+        });
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should count games per task when reporting progress")
+    void shouldCountGamesPerTaskWhenReportingProgress() {
+        sut = new SimulationExecutor(2, null, reports::add);
+        sut.run(10, 2, task -> {});
+        assertThat(sut.progress().gamesPlayed()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should give each worker its own state")
+    void shouldGiveEachWorkerItsOwnState() {
+        sut = new SimulationExecutor(2);
+        final List<AtomicInteger> states = new CopyOnWriteArrayList<>();
+
+        final int tasksRun = sut.run(100, () -> {
+            final AtomicInteger state = new AtomicInteger();
+            states.add(state);
+            return state;
+        }, (state, task) -> state.incrementAndGet());
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(tasksRun).isEqualTo(100);
+        softly.assertThat(states).hasSizeBetween(1, 2);
+        softly.assertThat(states.stream().mapToInt(AtomicInteger::get).sum()).isEqualTo(100);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should stop starting new tasks once cancelled")
+    void shouldStopStartingNewTasksOnceCancelled() {
+        sut = new SimulationExecutor(1);
+        final int tasksRun = sut.run(100, task -> {
+            if (task == 9) sut.cancel();
+        });
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(tasksRun).isEqualTo(10);
+        softly.assertThat(sut.isCancelled()).isTrue();
+        softly.assertThat(sut.run(10, task -> {})).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not start tasks after the time budget is over")
+    void shouldNotStartTasksAfterTheTimeBudgetIsOver() {
+        sut = new SimulationExecutor(2, Duration.ZERO, reports::add);
+        final int tasksRun = sut.run(10, task -> {});
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(tasksRun).isZero();
+        softly.assertThat(sut.isStopped()).isTrue();
+        softly.assertThat(sut.isCancelled()).isFalse();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should report progress periodically while running")
+    void shouldReportProgressPeriodicallyWhileRunning() {
+        sut = new SimulationExecutor(1, null, reports::add);
+        sut.run(1, task -> sleep(SimulationExecutor.REPORT_INTERVAL.toMillis() + 50));
+        sut.run(1, task -> {});
+        assertThat(reports).extracting(SimulationProgressDto::gamesPlayed).contains(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should run simulations at the same time on the shared workers")
+    void shouldRunSimulationsAtTheSameTimeOnTheSharedWorkers() {
+        sut = new SimulationExecutor(4);
+        final CountDownLatch allStarted = new CountDownLatch(4);
+        final List<Callable<Boolean>> simulations = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            simulations.add(() -> {
+                final AtomicBoolean met = new AtomicBoolean();
+                sut.run(1, task -> {
+                    allStarted.countDown();
+                    met.set(await(allStarted));
+                });
+                return met.get();
+            });
+        }
+
+        assertThat(sut.runAll(simulations)).containsExactly(true, true, true, true);
+    }
+
+    @Test
+    @DisplayName("Should return the results of the simulations in order")
+    void shouldReturnTheResultsOfTheSimulationsInOrder() {
+        sut = new SimulationExecutor(2);
+        final List<Callable<Integer>> simulations = List.of(
+                () -> sut.run(3, task -> sleep(5)),
+                () -> sut.run(1, task -> {}));
+        assertThat(sut.runAll(simulations)).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("Should not accept non-positive parallelism")
+    void shouldNotAcceptNonPositiveParallelism() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SimulationExecutor(0));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
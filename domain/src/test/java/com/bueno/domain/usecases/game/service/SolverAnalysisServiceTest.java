@@ -0,0 +1,50 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.bot.dtos.SolverAnalysisDto;
+import com.bueno.domain.usecases.bot.metrics.BotDecision;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolverAnalysisServiceTest {
+
+    @Test
+    @DisplayName("Should compare every bot decision with the solver")
+    void shouldCompareEveryBotDecisionWithTheSolver() {
+        final var sut = new SolverAnalysisService("DummyBot", "DummyBot");
+        final List<SolverAnalysisDto> results;
+        try (SimulationExecutor executor = new SimulationExecutor(2)) {
+            results = sut.analyse(LongStream.rangeClosed(1, 10).toArray(), executor);
+        }
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results).extracting(SolverAnalysisDto::botName).containsOnly("DummyBot");
+        softly.assertThat(results).extracting(SolverAnalysisDto::decision)
+                .contains(BotDecision.CHOOSE_CARD).doesNotContain(BotDecision.DECIDE_IF_RAISES);
+        softly.assertThat(results).allSatisfy(result -> {
+            softly.assertThat(result.decisions()).isPositive();
+            softly.assertThat(result.bestDecisions()).isBetween(0L, result.decisions());
+            softly.assertThat(result.pointsLost()).isNotNegative();
+        });
+        softly.assertThat(sut.discardedGames()).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should count the games that fail as discarded")
+    void shouldCountTheGamesThatFailAsDiscarded() {
+        final var sut = new SolverAnalysisService("DummyBot", "MissingBot");
+        final List<SolverAnalysisDto> results;
+        try (SimulationExecutor executor = new SimulationExecutor(2)) {
+            results = sut.analyse(LongStream.rangeClosed(1, 3).toArray(), executor);
+        }
+
+        assertThat(results).isEmpty();
+        assertThat(sut.discardedGames()).isEqualTo(3);
+    }
+}
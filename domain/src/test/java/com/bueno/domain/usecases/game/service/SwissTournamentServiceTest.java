@@ -0,0 +1,94 @@
+package com.bueno.domain.usecases.game.service;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SwissTournamentServiceTest {
+
+    private final Set<String> matches = ConcurrentHashMap.newKeySet();
+
+    private static List<String> botsByStrength(int numberOfBots) {
+        return IntStream.range(0, numberOfBots).mapToObj(i -> String.format("Bot%02d", i)).toList();
+    }
+
+    private Optional<String> strongerWins(String bot1Name, String bot2Name, long seed) {
+        matches.add(bot1Name.compareTo(bot2Name) < 0 ? bot1Name + bot2Name : bot2Name + bot1Name);
+        return Optional.of(bot1Name.compareTo(bot2Name) > 0 ? bot1Name : bot2Name);
+    }
+
+    @Test
+    @DisplayName("Should play a logarithmic number of rounds")
+    void shouldPlayALogarithmicNumberOfRounds() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(SwissTournamentService.defaultRounds(1)).isZero();
+        softly.assertThat(SwissTournamentService.defaultRounds(2)).isEqualTo(1);
+        softly.assertThat(SwissTournamentService.defaultRounds(16)).isEqualTo(4);
+        softly.assertThat(SwissTournamentService.defaultRounds(90)).isEqualTo(7);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should rank the strongest bot first and the weakest last")
+    void shouldRankTheStrongestBotFirstAndTheWeakestLast() {
+        final var sut = new SwissTournamentService(botsByStrength(16), 4, 4, 42L, this::strongerWins);
+        final Map<String, Long> ranking = sut.play();
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(ranking).hasSize(16);
+        softly.assertThat(ranking.keySet()).first().isEqualTo("Bot15");
+        softly.assertThat(ranking.keySet()).last().isEqualTo("Bot00");
+        softly.assertThat(ranking.get("Bot15")).isEqualTo(4);
+        softly.assertThat(List.copyOf(ranking.values())).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should play far fewer matches than round robin without rematches")
+    void shouldPlayFarFewerMatchesThanRoundRobinWithoutRematches() {
+        final var sut = new SwissTournamentService(botsByStrength(32), 5, 4, 7L, this::strongerWins);
+        sut.play();
+        assertThat(matches).hasSize(5 * 16);
+    }
+
+    @Test
+    @DisplayName("Should fail the tournament instead of counting a failed match as a draw")
+    void shouldFailTheTournamentInsteadOfCountingAFailedMatchAsADraw() {
+        final var sut = new SwissTournamentService(botsByStrength(4), 2, 2, 42L, (bot1Name, bot2Name, seed) -> {
+            throw new IllegalArgumentException("No bot named " + bot1Name);
+        });
+        assertThatIllegalStateException().isThrownBy(sut::play)
+                .withMessageContaining("failed")
+                .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should give a bye to one bot per round when the number of bots is odd")
+    void shouldGiveAByeToOneBotPerRoundWhenTheNumberOfBotsIsOdd() {
+        final var sut = new SwissTournamentService(botsByStrength(5), 3, 2, 42L, this::strongerWins);
+        final Map<String, Long> ranking = sut.play();
+
+        assertThat(matches).hasSize(3 * 2);
+        assertThat(ranking.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(3 * 2 + 3);
+    }
+
+    @Test
+    @DisplayName("Should not accept invalid number of rounds or parallelism")
+    void shouldNotAcceptInvalidNumberOfRoundsOrParallelism() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SwissTournamentService(botsByStrength(4), -1, 1, 0L, this::strongerWins));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SwissTournamentService(botsByStrength(4), 1, 0, 0L, this::strongerWins));
+    }
+}
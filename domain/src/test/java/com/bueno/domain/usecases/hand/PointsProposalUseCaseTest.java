@@ -88,19 +88,19 @@ class PointsProposalUseCaseTest {
     @Test
     @DisplayName("Should throw if accept method parameter is null")
     void shouldThrowIfAcceptMethodParameterIsNull() {
-        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.accept(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.accept((UUID) null));
     }
 
     @Test
     @DisplayName("Should throw if quit method parameter is null")
     void shouldThrowIfQuitMethodParameterIsNull() {
-        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.quit(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.quit((UUID) null));
     }
 
     @Test
     @DisplayName("Should throw if raiseBet method parameter is null")
     void shouldThrowIfRaiseBetMethodParameterIsNull() {
-        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.raise(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.raise((UUID) null));
     }
 
     @Test
@@ -0,0 +1,167 @@
+package com.bueno.domain.usecases.hand.solver;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.service.SimulationExecutor;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static com.bueno.domain.entities.deck.Rank.*;
+import static com.bueno.domain.entities.deck.Suit.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class HandSolverTest {
+
+    private final HandSolver sut = new HandSolver();
+
+    @Test
+    @DisplayName("Should follow the hand rules along random playouts")
+    void shouldFollowTheHandRulesAlongRandomPlayouts() {
+        final SplittableRandom random = new SplittableRandom(7);
+        final SoftAssertions softly = new SoftAssertions();
+        for (int playout = 0; playout < 500; playout++) {
+            final Deal deal = randomDeal(random);
+            final Hand hand = handOf(deal);
+            long state = sut.initialState(deal);
+            softly.assertThat(sut.stateOf(deal, hand)).isEqualTo(state);
+
+            while (!HandSolver.isDone(state)) {
+                final List<SolverMove> moves = sut.movesOf(deal, state);
+                softly.assertThat(actionsOf(moves)).isEqualTo(List.copyOf(hand.getPossibleActions()));
+                final SolverMove move = moves.get(random.nextInt(moves.size()));
+                state = sut.apply(deal, state, move);
+                apply(move, deal, hand);
+                softly.assertThat(sut.stateOf(deal, hand)).as("%s after %s", deal, move).isEqualTo(state);
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should find the same value as a plain minimax search")
+    void shouldFindTheSameValueAsAPlainMinimaxSearch() {
+        final SplittableRandom random = new SplittableRandom(11);
+        for (int sample = 0; sample < 20; sample++) {
+            final Deal deal = randomDeal(random);
+            assertThat(sut.solve(deal)).as(deal.toString()).isEqualTo(minimax(deal, sut.initialState(deal)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should win one point with the three best manilhas")
+    void shouldWinOnePointWithTheThreeBestManilhas() {
+        final Deal deal = new Deal(Card.of(FOUR, DIAMONDS),
+                List.of(Card.of(FIVE, CLUBS), Card.of(FIVE, HEARTS), Card.of(FIVE, SPADES)),
+                List.of(Card.of(THREE, CLUBS), Card.of(THREE, HEARTS), Card.of(TWO, SPADES)), 0, 0);
+        assertThat(sut.solve(deal)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should play or quit mão de onze depending on the cards")
+    void shouldPlayOrQuitMaoDeOnzeDependingOnTheCards() {
+        final List<Card> manilhas = List.of(Card.of(FIVE, CLUBS), Card.of(FIVE, HEARTS), Card.of(FIVE, SPADES));
+        final List<Card> lowCards = List.of(Card.of(FOUR, CLUBS), Card.of(FOUR, HEARTS), Card.of(SIX, SPADES));
+        final Card vira = Card.of(FOUR, DIAMONDS);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.solve(new Deal(vira, manilhas, lowCards, 11, 4))).isEqualTo(3);
+        final Deal losingDeal = new Deal(vira, lowCards, manilhas, 11, 4);
+        softly.assertThat(sut.solve(losingDeal)).isEqualTo(-1);
+        softly.assertThat(sut.valuesOfMoves(losingDeal, sut.initialState(losingDeal)))
+                .containsEntry(SolverMove.QUIT, -1).containsEntry(SolverMove.ACCEPT, -3);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should solve many deals in parallel as one at a time")
+    void shouldSolveManyDealsInParallelAsOneAtATime() {
+        final SplittableRandom random = new SplittableRandom(13);
+        final List<Deal> deals = new ArrayList<>();
+        for (int i = 0; i < 64; i++) deals.add(randomDeal(random));
+
+        try (SimulationExecutor executor = new SimulationExecutor(4)) {
+            assertThat(HandSolver.solveAll(deals, executor)).containsExactly(deals.stream().mapToInt(sut::solve).toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not apply illegal moves")
+    void shouldNotApplyIllegalMoves() {
+        final Deal deal = randomDeal(new SplittableRandom(17));
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.apply(deal, sut.initialState(deal), SolverMove.DISCARD_FIRST_CARD));
+    }
+
+    @Test
+    @DisplayName("Should not accept repeated cards in deal")
+    void shouldNotAcceptRepeatedCardsInDeal() {
+        final List<Card> cards = List.of(Card.of(FIVE, CLUBS), Card.of(FIVE, HEARTS), Card.of(FIVE, SPADES));
+        assertThatIllegalArgumentException().isThrownBy(() -> new Deal(Card.of(FOUR, DIAMONDS), cards, cards, 0, 0));
+    }
+
+    private int minimax(Deal deal, long state) {
+        if (HandSolver.isDone(state)) return sut.solve(deal, state);
+        final boolean maximizing = HandSolver.playerToMove(state) == 0;
+        int best = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (SolverMove move : sut.movesOf(deal, state)) {
+            final int value = minimax(deal, sut.apply(deal, state, move));
+            best = maximizing ? Math.max(best, value) : Math.min(best, value);
+        }
+        return best;
+    }
+
+    private static Deal randomDeal(SplittableRandom random) {
+        final Deck deck = new Deck(random.nextLong());
+        deck.shuffle();
+        final int[] scores = {0, 3, 8, 9, 10, 11};
+        return Deal.of(deck, scores[random.nextInt(scores.length)], scores[random.nextInt(scores.length)]);
+    }
+
+    private static Hand handOf(Deal deal) {
+        final Player firstToPlay = playerOf(deal, 0);
+        final Player lastToPlay = playerOf(deal, 1);
+        return new Hand(firstToPlay, lastToPlay, deal.vira());
+    }
+
+    private static Player playerOf(Deal deal, int player) {
+        final Player bot = Player.ofBot(UUID.randomUUID(), "Bot" + player);
+        bot.setCards(deal.cardsOf(player));
+        for (int i = 0; i < deal.scoreOf(player); i++) bot.addScore(HandPoints.ONE);
+        return bot;
+    }
+
+    private static void apply(SolverMove move, Deal deal, Hand hand) {
+        final Player player = hand.getCurrentPlayer();
+        switch (move) {
+            case RAISE -> hand.raise(player);
+            case ACCEPT -> hand.accept(player);
+            case QUIT -> hand.quit(player);
+            default -> {
+                final int index = player.equals(DealRules.firstToPlayOf(hand)) ? 0 : 1;
+                final Card card = deal.cardsOf(index).get(move.slot());
+                final Card played = move.isDiscard() ? player.discard(card) : player.play(card);
+                if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, played);
+                else hand.playSecondCard(player, played);
+            }
+        }
+    }
+
+    private static List<PossibleAction> actionsOf(List<SolverMove> moves) {
+        final List<PossibleAction> actions = new ArrayList<>();
+        if (moves.stream().anyMatch(SolverMove::isCardMove)) actions.add(PossibleAction.PLAY);
+        if (moves.contains(SolverMove.RAISE)) actions.add(PossibleAction.RAISE);
+        if (moves.contains(SolverMove.ACCEPT)) actions.add(PossibleAction.ACCEPT);
+        if (moves.contains(SolverMove.QUIT)) actions.add(PossibleAction.QUIT);
+        return actions;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.HandEntity;
+import com.bueno.persistence.dto.IntelEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import com.bueno.persistence.dto.RoundEntity;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * <p>Compact document format of a {@link GameEntity}. The top-level fields keep their names and types, so queries
+ * and indexes on them are not affected, and a version field tells the format of the document. Hands, rounds, intel
+ * and players use short keys, cards are stored as one byte each, references to the players of the game as their
+ * index and possible actions as a bit field. Null fields and false flags are left out of the document.</p>
+ *
+ * <p>Dates are converted with the default time zone, like the converters of Spring Data do.</p>
+ */
+public final class GameDocumentCodec {
+    public static final int VERSION = 1;
+    public static final String VERSION_KEY = "v";
+    public static final String HISTORY_KEY = "h";
+
+    private static final String RANKS = "X4567QJKA23";
+    private static final String SUITS = "XDSHC";
+    private static final List<String> ACTIONS = List.of("PLAY", "RAISE", "ACCEPT", "QUIT");
+
+    private GameDocumentCodec() {
+    }
+
+    public static Document encode(GameEntity game) {
+        final Document document = encodeHeader(game);
+        final PlayerRefs refs = PlayerRefs.of(game);
+        put(document, "hands", map(game.getHands(), hand -> encodeHand(hand, refs)));
+        return document;
+    }
+
+    /**
+     * @return the top-level fields of the game, except its hands.
+     */
+    public static Document encodeHeader(GameEntity game) {
+        Objects.requireNonNull(game, "Game must not be null!");
+        final PlayerRefs refs = PlayerRefs.of(game);
+        final Document document = new Document("_id", game.getId()).append(VERSION_KEY, VERSION);
+        put(document, "timestamp", toDate(game.getTimestamp()));
+        put(document, "player1", game.getPlayer1());
+        put(document, "player2", game.getPlayer2());
+        put(document, "firstToPlay", game.getFirstToPlay());
+        put(document, "lastToPlay", game.getLastToPlay());
+        put(document, "lastActivity", toDate(game.getLastActivity()));
+        put(document, "currentPlayer", game.getCurrentPlayer());
+        put(document, "players", map(game.getPlayers(), player -> encodePlayer(player, refs, true)));
+        return document;
+    }
+
+    public static Document encodeHand(HandEntity hand, PlayerRefs refs) {
+        final Document document = encodeHandFields(hand, refs);
+        put(document, HISTORY_KEY, map(hand.getHistory(), intel -> encodeIntel(intel, refs)));
+        return document;
+    }
+
+    /**
+     * @return the fields of the hand, except its history.
+     */
+    public static Document encodeHandFields(HandEntity hand, PlayerRefs refs) {
+        final Document document = new Document();
+        put(document, "v", card(hand.getVira()));
+        put(document, "dc", cards(hand.getDealtCard()));
+        put(document, "oc", cards(hand.getOpenCards()));
+        put(document, "rp", map(hand.getRoundsPlayed(), round -> encodeRound(round, refs)));
+        put(document, "a", actions(hand.getPossibleActions()));
+        put(document, "f", refs.ref(hand.getFirstToPlay()));
+        put(document, "l", refs.ref(hand.getLastToPlay()));
+        put(document, "c", refs.ref(hand.getCurrentPlayer()));
+        put(document, "r", refs.ref(hand.getLastBetRaiser()));
+        put(document, "e", refs.ref(hand.getEventPlayer()));
+        put(document, "ca", card(hand.getCartToPlayAgainst()));
+        document.append("p", hand.getPoints()).append("pp", hand.getPointsProposal());
+        put(document, "w", refs.ref(hand.getWinner()));
+        put(document, "s", hand.getState());
+        return document;
+    }
+
+    public static Document encodeIntel(IntelEntity intel, PlayerRefs refs) {
+        final Document document = new Document();
+        put(document, "t", toDate(intel.getTimestamp()));
+        if (intel.isGameDone()) document.append("d", true);
+        put(document, "gw", refs.ref(intel.getGameWinner()));
+        if (intel.isMaoDeOnze()) document.append("m", true);
+        put(document, "hp", intel.getHandPoints());
+        put(document, "pp", intel.getHandPointsProposal());
+        put(document, "rn", map(intel.getRoundWinnersUsernames(), refs::usernameRef));
+        put(document, "ru", map(intel.getRoundWinnersUuid(), refs::ref));
+        document.append("r", intel.getRoundsPlayed());
+        put(document, "v", card(intel.getVira()));
+        put(document, "oc", cards(intel.getOpenCards()));
+        put(document, "hw", refs.usernameRef(intel.getHandWinner()));
+        put(document, "cp", refs.ref(intel.getCurrentPlayerUuid()));
+        document.append("cs", intel.getCurrentPlayerScore());
+        put(document, "cn", refs.usernameRef(intel.getCurrentPlayerUsername()));
+        document.append("os", intel.getCurrentOpponentScore());
+        put(document, "on", refs.usernameRef(intel.getCurrentOpponentUsername()));
+        put(document, "ca", card(intel.getCardToPlayAgainst()));
+        put(document, "pl", map(intel.getPlayers(), player -> encodePlayer(player, refs, false)));
+        put(document, "e", intel.getEvent());
+        put(document, "ep", refs.ref(intel.getEventPlayerUUID()));
+        put(document, "en", refs.usernameRef(intel.getEventPlayerUsername()));
+        put(document, "a", actions(intel.getPossibleActions()));
+        return document;
+    }
+
+    private static Document encodeRound(RoundEntity round, PlayerRefs refs) {
+        final Document document = new Document();
+        put(document, "f", refs.ref(round.getFirstToPlay()));
+        put(document, "l", refs.ref(round.getLastToPlay()));
+        put(document, "w", refs.ref(round.getWinner()));
+        put(document, "v", card(round.getVira()));
+        put(document, "fc", card(round.getFirstCard()));
+        put(document, "lc", card(round.getLastCard()));
+        return document;
+    }
+
+    private static Document encodePlayer(PlayerEntity player, PlayerRefs refs, boolean withIdentity) {
+        final Object ref = refs.ref(player.getId());
+        final Document document = new Document();
+        put(document, "p", ref);
+        if (withIdentity || !isKnown(player, ref, refs)) {
+            put(document, "n", player.getUsername());
+            if (player.isBot()) document.append("b", true);
+        }
+        document.append("s", player.getScore());
+        put(document, "c", cards(player.getCards()));
+        return document;
+    }
+
+    private static boolean isKnown(PlayerEntity player, Object ref, PlayerRefs refs) {
+        if (!(ref instanceof Integer index) || refs.player(index) == null) return false;
+        final PlayerEntity known = refs.player(index);
+        return Objects.equals(known.getUsername(), player.getUsername()) && known.isBot() == player.isBot();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the document is not in the current format.
+     */
+    public static GameEntity decode(Document document) {
+        Objects.requireNonNull(document, "Document must not be null!");
+        final int version = document.getInteger(VERSION_KEY, 0);
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported game document version: " + version);
+
+        final UUID player1 = (UUID) document.get("player1");
+        final UUID player2 = (UUID) document.get("player2");
+        final PlayerRefs idRefs = new PlayerRefs(player1, player2, null);
+        final List<PlayerEntity> players = map(documents(document, "players"),
+                player -> decodePlayer(player, idRefs));
+        final PlayerRefs refs = new PlayerRefs(player1, player2, players);
+
+        return GameEntity.builder()
+                .id((UUID) document.get("_id"))
+                .timestamp(toLocalDateTime(document.getDate("timestamp")))
+                .player1(player1)
+                .player2(player2)
+                .firstToPlay((UUID) document.get("firstToPlay"))
+                .lastToPlay((UUID) document.get("lastToPlay"))
+                .hands(map(documents(document, "hands"), hand -> decodeHand(hand, refs)))
+                .lastActivity(toInstant(document.getDate("lastActivity")))
+                .currentPlayer((UUID) document.get("currentPlayer"))
+                .players(players)
+                .version(VERSION)
+                .build();
+    }
+
+    private static HandEntity decodeHand(Document document, PlayerRefs refs) {
+        return HandEntity.builder()
+                .vira(card(document.getInteger("v")))
+                .dealtCard(cards(document.get("dc")))
+                .openCards(cards(document.get("oc")))
+                .roundsPlayed(map(documents(document, "rp"), round -> decodeRound(round, refs)))
+                .history(map(documents(document, HISTORY_KEY), intel -> decodeIntel(intel, refs)))
+                .possibleActions(actions(document.getInteger("a")))
+                .firstToPlay(refs.uuid(document.get("f")))
+                .lastToPlay(refs.uuid(document.get("l")))
+                .currentPlayer(refs.uuid(document.get("c")))
+                .lastBetRaiser(refs.uuid(document.get("r")))
+                .eventPlayer(refs.uuid(document.get("e")))
+                .cartToPlayAgainst(card(document.getInteger("ca")))
+                .points(document.getInteger("p", 0))
+                .pointsProposal(document.getInteger("pp", 0))
+                .winner(refs.uuid(document.get("w")))
+                .state(document.getString("s"))
+                .build();
+    }
+
+    private static IntelEntity decodeIntel(Document document, PlayerRefs refs) {
+        return IntelEntity.builder()
+                .timestamp(toInstant(document.getDate("t")))
+                .isGameDone(document.getBoolean("d", false))
+                .gameWinner(refs.uuid(document.get("gw")))
+                .isMaoDeOnze(document.getBoolean("m", false))
+                .handPoints(document.getInteger("hp"))
+                .handPointsProposal(document.getInteger("pp"))
+                .roundWinnersUsernames(map(list(document, "rn"), refs::username))
+                .roundWinnersUuid(map(list(document, "ru"), refs::uuid))
+                .roundsPlayed(document.getInteger("r", 0))
+                .vira(card(document.getInteger("v")))
+                .openCards(cards(document.get("oc")))
+                .handWinner(refs.username(document.get("hw")))
+                .currentPlayerUuid(refs.uuid(document.get("cp")))
+                .currentPlayerScore(document.getInteger("cs", 0))
+                .currentPlayerUsername(refs.username(document.get("cn")))
+                .currentOpponentScore(document.getInteger("os", 0))
+                .currentOpponentUsername(refs.username(document.get("on")))
+                .cardToPlayAgainst(card(document.getInteger("ca")))
+                .players(map(documents(document, "pl"), player -> decodePlayer(player, refs)))
+                .event(document.getString("e"))
+                .eventPlayerUUID(refs.uuid(document.get("ep")))
+                .eventPlayerUsername(refs.username(document.get("en")))
+                .possibleActions(actions(document.getInteger("a")))
+                .build();
+    }
+
+    private static RoundEntity decodeRound(Document document, PlayerRefs refs) {
+        return RoundEntity.builder()
+                .firstToPlay(refs.uuid(document.get("f")))
+                .lastToPlay(refs.uuid(document.get("l")))
+                .winner(refs.uuid(document.get("w")))
+                .vira(card(document.getInteger("v")))
+                .firstCard(card(document.getInteger("fc")))
+                .lastCard(card(document.getInteger("lc")))
+                .build();
+    }
+
+    private static PlayerEntity decodePlayer(Document document, PlayerRefs refs) {
+        final Object ref = document.get("p");
+        final boolean hasIdentity = document.containsKey("n") || !(ref instanceof Integer);
+        final PlayerEntity known = hasIdentity ? null : refs.player((Integer) ref);
+        return PlayerEntity.builder()
+                .id(refs.uuid(ref))
+                .username(known != null ? known.getUsername() : document.getString("n"))
+                .isBot(known != null ? known.isBot() : document.getBoolean("b", false))
+                .score(document.getInteger("s", 0))
+                .cards(cards(document.get("c")))
+                .build();
+    }
+
+    static Integer card(String card) {
+        if (card == null) return null;
+        final int rank = card.length() == 2 ? RANKS.indexOf(card.charAt(0)) : -1;
+        final int suit = card.length() == 2 ? SUITS.indexOf(card.charAt(1)) : -1;
+        if (rank < 0 || suit < 0) throw new IllegalArgumentException("Can not encode card: " + card);
+        return rank * SUITS.length() + suit;
+    }
+
+    static String card(Integer code) {
+        if (code == null) return null;
+        return new String(new char[]{RANKS.charAt(code / SUITS.length()), SUITS.charAt(code % SUITS.length())});
+    }
+
+    static Binary cards(List<String> cards) {
+        if (cards == null) return null;
+        final byte[] codes = new byte[cards.size()];
+        for (int i = 0; i < codes.length; i++) codes[i] = card(cards.get(i)).byteValue();
+        return new Binary(codes);
+    }
+
+    static List<String> cards(Object value) {
+        if (value == null) return null;
+        final byte[] codes = value instanceof Binary binary ? binary.getData() : (byte[]) value;
+        final List<String> cards = new ArrayList<>(codes.length);
+        for (byte code : codes) cards.add(card((int) code));
+        return cards;
+    }
+
+    static Integer actions(Set<String> actions) {
+        if (actions == null) return null;
+        int bits = 0;
+        for (String action : actions) {
+            final int index = ACTIONS.indexOf(action);
+            if (index < 0) throw new IllegalArgumentException("Can not encode possible action: " + action);
+            bits |= 1 << index;
+        }
+        return bits;
+    }
+
+    static Set<String> actions(Integer bits) {
+        if (bits == null) return null;
+        final Set<String> actions = new HashSet<>();
+        for (int i = 0; i < ACTIONS.size(); i++)
+            if ((bits & 1 << i) != 0) actions.add(ACTIONS.get(i));
+        return actions;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static Date toDate(Instant instant) {
+        return instant == null ? null : Date.from(instant);
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    private static List<Document> documents(Document document, String key) {
+        return document.getList(key, Document.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Document document, String key) {
+        return (List<Object>) document.get(key);
+    }
+
+    private static <T, R> List<R> map(List<T> values, Function<T, R> mapper) {
+        if (values == null) return null;
+        final List<R> mapped = new ArrayList<>(values.size());
+        for (T value : values) mapped.add(mapper.apply(value));
+        return mapped;
+    }
+
+    private static void put(Document document, String key, Object value) {
+        if (value != null) document.append(key, value);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.persistence.dto.GameEntity;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+/**
+ * <p>Spring Data converters that store games in the format of the {@link GameDocumentCodec}. Documents written
+ * before it, which have no version field, are still read by the default mapping, and are rewritten in the current
+ * format the next time they are saved.</p>
+ */
+public final class GameEntityConverters {
+
+    private GameEntityConverters() {
+    }
+
+    public static List<Converter<?, ?>> all() {
+        return List.of(new GameEntityWriter(), new GameEntityReader());
+    }
+
+    @WritingConverter
+    public static class GameEntityWriter implements Converter<GameEntity, Document> {
+
+        @Override
+        public Document convert(GameEntity game) {
+            return GameDocumentCodec.encode(game);
+        }
+    }
+
+    @ReadingConverter
+    public static class GameEntityReader implements Converter<Document, GameEntity> {
+
+        private final MappingMongoConverter legacyConverter = legacyConverter();
+
+        @Override
+        public GameEntity convert(Document document) {
+            if (document.containsKey(GameDocumentCodec.VERSION_KEY)) return GameDocumentCodec.decode(document);
+            return legacyConverter.read(GameEntity.class, document);
+        }
+
+        private static MappingMongoConverter legacyConverter() {
+            final MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+            final MongoMappingContext mappingContext = new MongoMappingContext();
+            mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+            mappingContext.afterPropertiesSet();
+            final MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+            converter.setCustomConversions(conversions);
+            converter.afterPropertiesSet();
+            return converter;
+        }
+    }
+}
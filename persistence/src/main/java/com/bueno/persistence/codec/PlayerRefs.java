@@ -0,0 +1,87 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * <p>Replaces references to the two players of a game by their index, {@code 0} for {@code player1} and {@code 1}
+ * for {@code player2}. Values that do not belong to a player of the game are kept as they are, so references to
+ * unknown players are still stored without loss.</p>
+ */
+public final class PlayerRefs {
+
+    private final UUID[] uuids;
+    private final PlayerEntity[] players = new PlayerEntity[2];
+
+    PlayerRefs(UUID player1, UUID player2, List<PlayerEntity> players) {
+        this.uuids = new UUID[]{player1, player2};
+        if (players == null) return;
+        for (PlayerEntity player : players) {
+            final int index = indexOf(player.getId());
+            if (index >= 0 && this.players[index] == null) this.players[index] = player;
+        }
+    }
+
+    public static PlayerRefs of(GameEntity game) {
+        Objects.requireNonNull(game, "Game must not be null!");
+        return new PlayerRefs(game.getPlayer1(), game.getPlayer2(), game.getPlayers());
+    }
+
+    Object ref(UUID uuid) {
+        if (uuid == null) return null;
+        final int index = indexOf(uuid);
+        return index >= 0 ? index : uuid;
+    }
+
+    UUID uuid(Object ref) {
+        if (ref instanceof Integer index) return uuids[index];
+        return (UUID) ref;
+    }
+
+    Object usernameRef(String username) {
+        if (username == null) return null;
+        for (int i = 0; i < players.length; i++)
+            if (players[i] != null && username.equals(players[i].getUsername())) return i;
+        return username;
+    }
+
+    String username(Object ref) {
+        if (ref instanceof Integer index) return players[index].getUsername();
+        return (String) ref;
+    }
+
+    PlayerEntity player(int index) {
+        return players[index];
+    }
+
+    private int indexOf(UUID uuid) {
+        if (uuid == null) return -1;
+        if (uuid.equals(uuids[0])) return 0;
+        if (uuid.equals(uuids[1])) return 1;
+        return -1;
+    }
+}
@@ -21,11 +21,22 @@
 package com.bueno.persistence.dao;
 
 import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.InactiveGameQR;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface GameDao extends MongoRepository<GameEntity, UUID> {
+public interface GameDao extends MongoRepository<GameEntity, UUID>, GameUpdateDao {
     Optional<GameEntity> findByPlayer1OrPlayer2(UUID player1, UUID player2);
+
+    List<InactiveGameQR> findByLastActivityBeforeAndCurrentPlayerNotNull(Instant lastActivity, Pageable pageable);
+
+    List<InactiveGameQR> findByLastActivityBeforeAndCurrentPlayerNotNullAndIdGreaterThan(Instant lastActivity, UUID id,
+                                                                                        Pageable pageable);
+
+    List<GameEntity> findByLastActivityIsNull(Pageable pageable);
 }
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.dto.GameEntity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * <p>Custom fragment of {@link GameDao} that writes only what changed in a game since it was read, instead of
+ * replacing the whole document. Games stored in an older document format are saved as a whole, which rewrites them
+ * in the current one. The activity of a game can also be set alone, for games stored before it was kept.</p>
+ */
+public interface GameUpdateDao {
+    void updateChanges(GameEntity storedGame, GameEntity game);
+
+    void updateActivity(UUID gameUuid, Instant lastActivity, UUID currentPlayer);
+}
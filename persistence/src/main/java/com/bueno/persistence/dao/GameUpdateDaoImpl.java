@@ -0,0 +1,57 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.codec.GameDocumentCodec;
+import com.bueno.persistence.dto.GameEntity;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public class GameUpdateDaoImpl implements GameUpdateDao {
+
+    private final MongoOperations mongoOperations;
+
+    public GameUpdateDaoImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = Objects.requireNonNull(mongoOperations, "Mongo operations must not be null!");
+    }
+
+    @Override
+    public void updateChanges(GameEntity storedGame, GameEntity game) {
+        if (storedGame.getVersion() < GameDocumentCodec.VERSION) {
+            mongoOperations.save(game);
+            return;
+        }
+        GameUpdates.between(storedGame, game).ifPresent(update -> mongoOperations.updateFirst(
+                Query.query(Criteria.where("id").is(game.getId())), update, GameEntity.class));
+    }
+
+    @Override
+    public void updateActivity(UUID gameUuid, Instant lastActivity, UUID currentPlayer) {
+        final Update update = new Update().set("lastActivity", lastActivity).set("currentPlayer", currentPlayer);
+        mongoOperations.updateFirst(Query.query(Criteria.where("id").is(gameUuid)), update, GameEntity.class);
+    }
+}
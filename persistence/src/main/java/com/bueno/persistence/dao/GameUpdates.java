@@ -0,0 +1,129 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.codec.GameDocumentCodec;
+import com.bueno.persistence.codec.PlayerRefs;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.HandEntity;
+import com.bueno.persistence.dto.IntelEntity;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>Builds the Mongo update that turns a stored {@link GameEntity} into its current version. Hands and intel
+ * histories only grow during a game, so the new intel of a hand is pushed onto its history and a new hand is set at
+ * the next index of the hands array, which appends it. The other hand and game fields are set only if they changed,
+ * and unset if they were left out of the current document. Histories that do not extend the stored one are replaced
+ * as a whole.</p>
+ *
+ * <p>Fields are compared and written as encoded by the {@link GameDocumentCodec}, so the update has the keys and
+ * values of the compact format, and timestamps are compared at the millisecond precision Mongo stores them with.
+ * The stored document must already be in that format.</p>
+ */
+public final class GameUpdates {
+
+    private GameUpdates() {
+    }
+
+    /**
+     * @return the update to apply on the stored game, or empty if nothing changed.
+     */
+    public static Optional<Update> between(GameEntity storedGame, GameEntity game) {
+        Objects.requireNonNull(storedGame, "Stored game must not be null!");
+        Objects.requireNonNull(game, "Game must not be null!");
+        if (!Objects.equals(storedGame.getId(), game.getId()))
+            throw new IllegalArgumentException("Can not update game " + storedGame.getId() + " to " + game.getId());
+
+        final Update update = new Update();
+        final PlayerRefs storedRefs = PlayerRefs.of(storedGame);
+        final PlayerRefs refs = PlayerRefs.of(game);
+        boolean changed = setChangedFields(update, "",
+                GameDocumentCodec.encodeHeader(storedGame), GameDocumentCodec.encodeHeader(game));
+
+        final List<HandEntity> storedHands = listOrEmpty(storedGame.getHands());
+        final List<HandEntity> hands = listOrEmpty(game.getHands());
+        if (hands.size() < storedHands.size()) {
+            update.set("hands", hands.stream().map(hand -> GameDocumentCodec.encodeHand(hand, refs)).toList());
+            return Optional.of(update);
+        }
+        for (int i = 0; i < storedHands.size(); i++)
+            changed |= addHandChanges(update, "hands." + i + ".", storedHands.get(i), storedRefs, hands.get(i), refs);
+        for (int i = storedHands.size(); i < hands.size(); i++) {
+            update.set("hands." + i, GameDocumentCodec.encodeHand(hands.get(i), refs));
+            changed = true;
+        }
+        return changed ? Optional.of(update) : Optional.empty();
+    }
+
+    private static boolean addHandChanges(Update update, String path, HandEntity storedHand, PlayerRefs storedRefs,
+                                          HandEntity hand, PlayerRefs refs) {
+        final boolean changed = setChangedFields(update, path,
+                GameDocumentCodec.encodeHandFields(storedHand, storedRefs), GameDocumentCodec.encodeHandFields(hand, refs));
+
+        final List<IntelEntity> storedHistory = listOrEmpty(storedHand.getHistory());
+        final List<IntelEntity> history = listOrEmpty(hand.getHistory());
+        final String historyPath = path + GameDocumentCodec.HISTORY_KEY;
+        if (!extendsHistory(storedHistory, storedRefs, history, refs))
+            update.set(historyPath, history.stream().map(intel -> GameDocumentCodec.encodeIntel(intel, refs)).toList());
+        else if (history.size() > storedHistory.size())
+            update.push(historyPath).each(history.subList(storedHistory.size(), history.size()).stream()
+                    .map(intel -> GameDocumentCodec.encodeIntel(intel, refs)).toArray());
+        else return changed;
+        return true;
+    }
+
+    private static boolean setChangedFields(Update update, String path, Document stored, Document current) {
+        boolean changed = false;
+        for (Map.Entry<String, Object> field : current.entrySet()) {
+            if (Objects.equals(stored.get(field.getKey()), field.getValue())) continue;
+            update.set(path + field.getKey(), field.getValue());
+            changed = true;
+        }
+        final Set<String> removedKeys = new HashSet<>(stored.keySet());
+        removedKeys.removeAll(current.keySet());
+        for (String key : removedKeys) {
+            update.unset(path + key);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean extendsHistory(List<IntelEntity> storedHistory, PlayerRefs storedRefs,
+                                          List<IntelEntity> history, PlayerRefs refs) {
+        if (history.size() < storedHistory.size()) return false;
+        if (storedHistory.isEmpty()) return true;
+        final int last = storedHistory.size() - 1;
+        return GameDocumentCodec.encodeIntel(storedHistory.get(last), storedRefs)
+                .equals(GameDocumentCodec.encodeIntel(history.get(last), refs));
+    }
+
+    private static <T> List<T> listOrEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
@@ -22,17 +22,22 @@ package com.bueno.persistence.dto;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.Id;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor
@@ -43,11 +48,19 @@ public class GameEntity {
     @Id
     private UUID id;
     private LocalDateTime timestamp;
+    @Indexed
     private UUID player1;
+    @Indexed
     private UUID player2;
     private UUID firstToPlay;
     private UUID lastToPlay;
     private List<HandEntity> hands;
+    @Indexed
+    private Instant lastActivity;
+    private UUID currentPlayer;
+    private List<PlayerEntity> players;
+    @Transient
+    private int version;
 
     public static GameEntity from(GameDto dto){
         return GameEntity.builder()
@@ -58,9 +71,28 @@ public class GameEntity {
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
                 .hands(dto.hands().stream().map(HandEntity::from).toList())
+                .lastActivity(lastActivityOf(dto))
+                .currentPlayer(currentPlayerOf(dto))
+                .players(List.of(PlayerEntity.from(dto.player1()), PlayerEntity.from(dto.player2())))
                 .build();
     }
 
+    private static Instant lastActivityOf(GameDto dto) {
+        if (dto.hands().isEmpty()) return null;
+        final List<IntelDto> history = dto.hands().get(dto.hands().size() - 1).history();
+        return history.isEmpty() ? null : history.get(history.size() - 1).timestamp();
+    }
+
+    private static UUID currentPlayerOf(GameDto dto) {
+        if (dto.hands().isEmpty()) return null;
+        final PlayerDto currentPlayer = dto.hands().get(dto.hands().size() - 1).currentPlayer();
+        return currentPlayer != null ? currentPlayer.uuid() : null;
+    }
+
+    public GameDto toDto(){
+        return toDto(players.stream().map(PlayerEntity::toDto).collect(Collectors.toMap(PlayerDto::uuid, player -> player)));
+    }
+
     public GameDto toDto(Map<UUID, PlayerDto> players){
         return new GameDto(
                 id,
@@ -21,6 +21,7 @@
 package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
@@ -28,19 +29,28 @@ import com.bueno.persistence.dao.GameDao;
 import com.bueno.persistence.dao.PlayerDao;
 import com.bueno.persistence.dto.GameEntity;
 import com.bueno.persistence.dto.HandEntity;
+import com.bueno.persistence.dto.InactiveGameQR;
 import com.bueno.persistence.dto.IntelEntity;
-import com.bueno.persistence.dto.PlayerEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
+/**
+ * <p>Stores each game as a single document, which embeds its players, so one query reads everything a game needs.
+ * Players are found by the indexed {@code player1} and {@code player2} fields, and the game of a player is cached to
+ * be read by id next time. Games stored before the players were embedded still read them from the player
+ * collection.</p>
+ */
 @Repository
 public class GameRepositoryImpl implements GameRepository {
+    public static final int PLAYER_CACHE_CAPACITY = 1 << 14;
 
     private final GameDao gameDao;
     private final PlayerDao playerDao;
+    private final PlayerGameCache gamesByPlayer = new PlayerGameCache(PLAYER_CACHE_CAPACITY);
 
     public GameRepositoryImpl(GameDao dao, PlayerDao playerDao) {
         this.gameDao = dao;
@@ -51,24 +61,24 @@ public class GameRepositoryImpl implements GameRepository {
     public void save(GameDto dto) {
         gameDao.findById(dto.gameUuid())
                 .ifPresent(game -> {throw new EntityNotFoundException("Game already exists: " + game.getId());});
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
         gameDao.save(GameEntity.from(dto));
+        gamesByPlayer.put(dto.player1().uuid(), dto.gameUuid());
+        gamesByPlayer.put(dto.player2().uuid(), dto.gameUuid());
     }
 
     @Override
     public void update(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
+        final GameEntity storedGame = gameDao.findById(dto.gameUuid())
                 .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        gameDao.updateChanges(storedGame, GameEntity.from(dto));
     }
 
     @Override
     public void delete(UUID uuid) {
         final GameEntity game = gameDao.findById(uuid)
                 .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + uuid));
+        gamesByPlayer.remove(game.getPlayer1());
+        gamesByPlayer.remove(game.getPlayer2());
         playerDao.deleteById(game.getPlayer1());
         playerDao.deleteById(game.getPlayer2());
         gameDao.delete(game);
@@ -77,36 +87,65 @@ public class GameRepositoryImpl implements GameRepository {
     @Override
     public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
         final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        final UUID cachedGameUuid = gamesByPlayer.get(uuid);
+        if (cachedGameUuid != null) {
+            final Optional<GameEntity> cachedGame = gameDao.findById(cachedGameUuid).filter(game -> hasPlayer(game, uuid));
+            if (cachedGame.isPresent()) return getGameDto(cachedGame.get());
+            gamesByPlayer.remove(uuid);
+        }
         final Optional<GameEntity> possibleGame = gameDao.findByPlayer1OrPlayer2(uuid, uuid);
+        possibleGame.ifPresent(game -> gamesByPlayer.put(uuid, game.getId()));
         return getGameDto(possibleGame.orElse(null));
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return gameDao.findAll().stream()
-                .filter(game -> isInactive(game, minutes))
-                .map(this::getGameDto)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
+    public List<InactiveGameDto> findInactiveSince(Instant inactiveSince, UUID afterGameUuid, int pageSize) {
+        final PageRequest page = PageRequest.of(0, pageSize, Sort.by("id"));
+        final List<InactiveGameQR> games = afterGameUuid == null
+                ? gameDao.findByLastActivityBeforeAndCurrentPlayerNotNull(inactiveSince, page)
+                : gameDao.findByLastActivityBeforeAndCurrentPlayerNotNullAndIdGreaterThan(inactiveSince, afterGameUuid, page);
+        return games.stream().map(game -> new InactiveGameDto(game.getId(), game.getCurrentPlayer())).toList();
     }
 
-    public boolean isInactive(GameEntity game, int minutes){
-        if(game.getHands().isEmpty()) return false;
-        final int index = game.getHands().size() - 1;
-        final HandEntity hand = game.getHands().get(index);
-        final IntelEntity intel = hand.getHistory().get(hand.getHistory().size() - 1);
-        final Instant lastInteraction = intel.getTimestamp();
-        final Instant now = Instant.now();
-        final long inactivityInMinutes = Duration.between(lastInteraction, now).toMinutes();
-        System.out.println("Inactive during (minutes): " + inactivityInMinutes);
-        return inactivityInMinutes >= minutes;
+    /**
+     * <p>Sets the activity of the games stored before it was kept in the document, so the inactivity sweep also finds
+     * them. It is taken from the last hand of each game, and games without any recorded move count as active since
+     * {@code now}.</p>
+     *
+     * @return the number of updated games.
+     */
+    public int backfillActivity(Instant now, int pageSize) {
+        final PageRequest page = PageRequest.of(0, pageSize, Sort.by("id"));
+        int updatedGames = 0;
+        List<GameEntity> games;
+        do {
+            games = gameDao.findByLastActivityIsNull(page);
+            for (GameEntity game : games) {
+                final HandEntity lastHand = last(game.getHands());
+                final IntelEntity lastIntel = lastHand != null ? last(lastHand.getHistory()) : null;
+                final Instant lastActivity = lastIntel != null && lastIntel.getTimestamp() != null
+                        ? lastIntel.getTimestamp() : now;
+                final UUID currentPlayer = lastHand != null ? lastHand.getCurrentPlayer() : null;
+                gameDao.updateActivity(game.getId(), lastActivity, currentPlayer);
+            }
+            updatedGames += games.size();
+        } while (games.size() == pageSize);
+        return updatedGames;
+    }
+
+    private static <T> T last(List<T> elements) {
+        return elements == null || elements.isEmpty() ? null : elements.get(elements.size() - 1);
     }
 
     private Optional<GameDto> getGameDto(GameEntity game) {
         if(game == null) return Optional.empty();
+        if (game.getPlayers() != null) return Optional.of(game.toDto());
         final PlayerDto player1 = playerDao.findById(game.getPlayer1()).orElseThrow().toDto();
         final PlayerDto player2 = playerDao.findById(game.getPlayer2()).orElseThrow().toDto();
         return Optional.of(game.toDto(Map.of(player1.uuid(), player1, player2.uuid(), player2)));
     }
+
+    private static boolean hasPlayer(GameEntity game, UUID playerUuid) {
+        return playerUuid.equals(game.getPlayer1()) || playerUuid.equals(game.getPlayer2());
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Bounded map from player UUID to the UUID of the game the player is in. It keeps two generations: new entries go
+ * to the young one and, when it is full, the old generation is dropped and the young one takes its place. Entries
+ * found in the old generation are copied back to the young one, so active players stay cached.</p>
+ */
+final class PlayerGameCache {
+
+    private final int generationSize;
+    private volatile Map<UUID, UUID> young = new ConcurrentHashMap<>();
+    private volatile Map<UUID, UUID> old = new ConcurrentHashMap<>();
+
+    PlayerGameCache(int capacity) {
+        if (capacity < 2) throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        this.generationSize = capacity / 2;
+    }
+
+    UUID get(UUID playerUuid) {
+        final UUID gameUuid = young.get(playerUuid);
+        if (gameUuid != null) return gameUuid;
+        final UUID oldGameUuid = old.get(playerUuid);
+        if (oldGameUuid != null) put(playerUuid, oldGameUuid);
+        return oldGameUuid;
+    }
+
+    void put(UUID playerUuid, UUID gameUuid) {
+        final Map<UUID, UUID> current = young;
+        current.put(playerUuid, gameUuid);
+        if (current.size() >= generationSize) rotate(current);
+    }
+
+    void remove(UUID playerUuid) {
+        young.remove(playerUuid);
+        old.remove(playerUuid);
+    }
+
+    private synchronized void rotate(Map<UUID, UUID> full) {
+        if (young != full) return;
+        old = full;
+        young = new ConcurrentHashMap<>();
+    }
+}
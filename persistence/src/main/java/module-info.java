@@ -7,7 +7,10 @@ module application.persistence {
     requires spring.beans;
     requires spring.data.mongodb;
     requires spring.data.commons;
+    requires spring.core;
+    requires org.mongodb.bson;
     exports com.bueno.persistence.repositories;
     exports com.bueno.persistence.dao;
     exports com.bueno.persistence.dto;
+    exports com.bueno.persistence.codec;
 }
\ No newline at end of file
@@ -20,6 +20,8 @@
 
 package com.bueno.controllers;
 
+import com.bueno.domain.usecases.bot.dtos.BotDecisionMetricsDto;
+import com.bueno.domain.usecases.bot.metrics.BotMetricsUseCase;
 import com.bueno.domain.usecases.game.usecase.ReportTopWinnersUseCase;
 import com.bueno.domain.usecases.game.dtos.TopWinnersDto;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,18 +29,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping(path = "/api/v1/reports")
 public class ReportController {
 
     private final ReportTopWinnersUseCase reportTopWinnersUseCase;
+    private final BotMetricsUseCase botMetricsUseCase;
 
-    public ReportController(ReportTopWinnersUseCase reportTopWinnersUseCase) {
+    public ReportController(ReportTopWinnersUseCase reportTopWinnersUseCase, BotMetricsUseCase botMetricsUseCase) {
         this.reportTopWinnersUseCase = reportTopWinnersUseCase;
+        this.botMetricsUseCase = botMetricsUseCase;
     }
 
     @GetMapping(path = "/top-winners/{numberOfTopWinners}")
     public TopWinnersDto topWinners(@PathVariable int numberOfTopWinners){
         return reportTopWinnersUseCase.create(numberOfTopWinners);
     }
+
+    @GetMapping(path = "/bot-metrics")
+    public List<BotDecisionMetricsDto> botMetrics(){
+        return botMetricsUseCase.getMetrics();
+    }
 }
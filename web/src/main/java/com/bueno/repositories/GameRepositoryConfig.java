@@ -0,0 +1,78 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.repositories;
+
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.persistence.codec.GameEntityConverters;
+import com.bueno.persistence.repositories.GameRepositoryImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.time.Instant;
+
+@Configuration
+public class GameRepositoryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(GameRepositoryConfig.class);
+    private static final int BACKFILL_PAGE_SIZE = 100;
+
+    @Bean
+    @Primary
+    public GameRepository activeGameRepository(GameRepositoryImpl mongoRepository, WriteBehindProperties properties) {
+        if (!properties.isEnabled()) return mongoRepository;
+        return new WriteBehindGameRepository(mongoRepository, properties.getFlushInterval(),
+                properties.getMaxPendingGames(), properties.isFlushFinishedGames(), properties.getMaxIdle());
+    }
+
+    @Bean
+    public ApplicationRunner gameActivityBackfill(GameRepositoryImpl mongoRepository) {
+        return args -> {
+            final int updatedGames = mongoRepository.backfillActivity(Instant.now(), BACKFILL_PAGE_SIZE);
+            if (updatedGames > 0) log.info("Backfilled the last activity of {} stored games.", updatedGames);
+        };
+    }
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(GameEntityConverters.all());
+    }
+
+    @Bean
+    public MongoCommandCounter mongoCommandCounter() {
+        return new MongoCommandCounter();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandCounterCustomizer(MongoCommandCounter counter) {
+        return settings -> settings.addCommandListener(counter);
+    }
+
+    @Bean
+    public MongoCommandCountFilter mongoCommandCountFilter(MongoCommandCounter counter) {
+        return new MongoCommandCountFilter(counter);
+    }
+}
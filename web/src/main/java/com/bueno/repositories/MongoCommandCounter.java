@@ -0,0 +1,58 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.repositories;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * <p>Counts the commands sent to MongoDB by the current thread between {@link #start()} and {@link #stop()}. The
+ * synchronous driver notifies command listeners on the thread that runs the command, so the count of a request
+ * thread covers all database round trips made to answer that request.</p>
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    private final ThreadLocal<int[]> commands = new ThreadLocal<>();
+
+    public void start() {
+        commands.set(new int[1]);
+    }
+
+    /**
+     * @return number of commands sent by the current thread since {@link #start()}, or zero if it was not started.
+     */
+    public int stop() {
+        final int count = count();
+        commands.remove();
+        return count;
+    }
+
+    public int count() {
+        final int[] count = commands.get();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        final int[] count = commands.get();
+        if (count != null) count[0]++;
+    }
+}
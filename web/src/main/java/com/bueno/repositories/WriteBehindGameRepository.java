@@ -0,0 +1,293 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.repositories;
+
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.utils.exceptions.EntityAlreadyExistsException;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Keeps the active games in memory, indexed by game and player UUID, in front of a persistent
+ * {@link GameRepository}. Reads are answered from memory and updates only mark the game as dirty. Dirty games are
+ * written to the persistent repository by a background thread every {@code flushInterval}, so several moves made
+ * in the same interval cost a single write. Finished games are written right away if {@code flushFinishedGames} is
+ * set, and a flush is started early when more than {@code maxPendingGames} games are waiting to be written.</p>
+ *
+ * <p>Games missing in memory are looked up in the persistent repository and kept from then on, so the store also
+ * works after a restart. Games leave the memory once they are finished and written, or once they are written and
+ * have not been read or updated for {@code maxIdle}; they are looked up in the persistent repository again if
+ * needed. Moves that have not been flushed yet are lost if the process dies; {@link #close()} flushes them on a
+ * regular shutdown.</p>
+ */
+public class WriteBehindGameRepository implements GameRepository, AutoCloseable {
+    public static final Duration DEFAULT_MAX_IDLE = Duration.ofMinutes(30);
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindGameRepository.class);
+
+    private final GameRepository delegate;
+    private final int maxPendingGames;
+    private final boolean flushFinishedGames;
+    private final long maxIdleNanos;
+    private final Map<UUID, ActiveGame> games = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> gamesByPlayer = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyGames = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher;
+
+    public WriteBehindGameRepository(GameRepository delegate, Duration flushInterval, int maxPendingGames,
+                                     boolean flushFinishedGames) {
+        this(delegate, flushInterval, maxPendingGames, flushFinishedGames, DEFAULT_MAX_IDLE);
+    }
+
+    public WriteBehindGameRepository(GameRepository delegate, Duration flushInterval, int maxPendingGames,
+                                     boolean flushFinishedGames, Duration maxIdle) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null!");
+        Objects.requireNonNull(flushInterval, "Flush interval must not be null!");
+        if (flushInterval.isNegative() || flushInterval.isZero())
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushInterval);
+        if (maxPendingGames < 1)
+            throw new IllegalArgumentException("Maximum of pending games must be positive: " + maxPendingGames);
+        Objects.requireNonNull(maxIdle, "Maximum idle time must not be null!");
+        if (maxIdle.isNegative() || maxIdle.isZero())
+            throw new IllegalArgumentException("Maximum idle time must be positive: " + maxIdle);
+        this.maxPendingGames = maxPendingGames;
+        this.flushFinishedGames = flushFinishedGames;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(() -> {
+            flush();
+            evictIdleGames();
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(GameDto gameDto) {
+        Objects.requireNonNull(gameDto, "Game must not be null!");
+        if (games.putIfAbsent(gameDto.gameUuid(), new ActiveGame(gameDto, false)) != null)
+            throw new EntityAlreadyExistsException("Game already exists: " + gameDto.gameUuid());
+        index(gameDto);
+        dirtyGames.add(gameDto.gameUuid());
+        flushIfNeeded(gameDto);
+    }
+
+    @Override
+    public void update(GameDto gameDto) {
+        Objects.requireNonNull(gameDto, "Game must not be null!");
+        final ActiveGame activeGame = games.get(gameDto.gameUuid());
+        if (activeGame != null) {
+            final boolean updated;
+            synchronized (activeGame) {
+                if (activeGame.removed)
+                    throw new EntityNotFoundException("Can not update non-existing game: " + gameDto.gameUuid());
+                updated = !activeGame.evicted;
+                if (updated) {
+                    activeGame.game = gameDto;
+                    activeGame.touch();
+                    dirtyGames.add(gameDto.gameUuid());
+                }
+            }
+            if (updated) {
+                flushIfNeeded(gameDto);
+                return;
+            }
+        }
+        delegate.update(gameDto);
+        cache(gameDto);
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        Objects.requireNonNull(uuid, "Game UUID must not be null!");
+        final ActiveGame activeGame = games.remove(uuid);
+        if (activeGame == null) {
+            delegate.delete(uuid);
+            return;
+        }
+        synchronized (activeGame) {
+            activeGame.removed = true;
+            dirtyGames.remove(uuid);
+            gamesByPlayer.remove(activeGame.game.player1().uuid(), uuid);
+            gamesByPlayer.remove(activeGame.game.player2().uuid(), uuid);
+            if (activeGame.persisted) delegate.delete(uuid);
+        }
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        final UUID gameUuid = gamesByPlayer.get(uuid);
+        final ActiveGame activeGame = gameUuid == null ? null : games.get(gameUuid);
+        if (activeGame != null) {
+            synchronized (activeGame) {
+                if (!activeGame.removed && !activeGame.evicted) {
+                    activeGame.touch();
+                    return Optional.of(activeGame.game);
+                }
+            }
+        }
+        final Optional<GameDto> storedGame = delegate.findByPlayerUuid(uuid);
+        storedGame.ifPresent(this::cache);
+        return storedGame;
+    }
+
+    /**
+     * <p>Flushes the pending games before reading the first page, so the persistent repository sees the last move of
+     * every game.</p>
+     */
+    @Override
+    public List<InactiveGameDto> findInactiveSince(Instant inactiveSince, UUID afterGameUuid, int pageSize) {
+        if (afterGameUuid == null) flush();
+        return delegate.findInactiveSince(inactiveSince, afterGameUuid, pageSize);
+    }
+
+    /**
+     * <p>Writes all dirty games to the persistent repository. Games that fail to be written are logged and kept dirty
+     * to be retried in the next flush.</p>
+     */
+    public void flush() {
+        for (UUID gameUuid : List.copyOf(dirtyGames)) flush(gameUuid);
+    }
+
+    private void flush(UUID gameUuid) {
+        final ActiveGame activeGame = games.get(gameUuid);
+        if (activeGame == null) return;
+        synchronized (activeGame) {
+            if (activeGame.removed || !dirtyGames.remove(gameUuid)) return;
+            try {
+                if (activeGame.persisted) delegate.update(activeGame.game);
+                else delegate.save(activeGame.game);
+                activeGame.persisted = true;
+                if (isFinished(activeGame.game)) evict(gameUuid, activeGame);
+            } catch (EntityNotFoundException | EntityAlreadyExistsException e) {
+                // GameRepositoryImpl reports an insert of an existing game with EntityNotFoundException.
+                activeGame.persisted = !activeGame.persisted;
+                dirtyGames.add(gameUuid);
+                log.warn("Could not write game {}, retrying as {}: {}", gameUuid,
+                        activeGame.persisted ? "update" : "insert", e.getMessage());
+            } catch (RuntimeException e) {
+                dirtyGames.add(gameUuid);
+                log.error("Could not write game {}, retrying in the next flush.", gameUuid, e);
+            }
+        }
+    }
+
+    /**
+     * <p>Removes from memory the written games that are finished or have not been read or updated for
+     * {@code maxIdle}. Called after each background flush.</p>
+     */
+    public void evictIdleGames() {
+        final long now = System.nanoTime();
+        games.forEach((gameUuid, activeGame) -> {
+            synchronized (activeGame) {
+                if (activeGame.removed || activeGame.evicted || !activeGame.persisted) return;
+                if (dirtyGames.contains(gameUuid)) return;
+                if (isFinished(activeGame.game) || now - activeGame.lastAccess > maxIdleNanos)
+                    evict(gameUuid, activeGame);
+            }
+        });
+    }
+
+    private void evict(UUID gameUuid, ActiveGame activeGame) {
+        activeGame.evicted = true;
+        games.remove(gameUuid, activeGame);
+        gamesByPlayer.remove(activeGame.game.player1().uuid(), gameUuid);
+        gamesByPlayer.remove(activeGame.game.player2().uuid(), gameUuid);
+    }
+
+    public int pendingGames() {
+        return dirtyGames.size();
+    }
+
+    public int cachedGames() {
+        return games.size();
+    }
+
+    /**
+     * <p>Stops the background flushes and writes the pending games.</p>
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) log.warn("Timed out waiting for the game flusher.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushIfNeeded(GameDto gameDto) {
+        if (flushFinishedGames && isFinished(gameDto)) flush(gameDto.gameUuid());
+        else if (dirtyGames.size() > maxPendingGames && !flusher.isShutdown()) flusher.execute(this::flush);
+    }
+
+    private void cache(GameDto gameDto) {
+        if (games.putIfAbsent(gameDto.gameUuid(), new ActiveGame(gameDto, true)) == null) index(gameDto);
+    }
+
+    private void index(GameDto gameDto) {
+        gamesByPlayer.put(gameDto.player1().uuid(), gameDto.gameUuid());
+        gamesByPlayer.put(gameDto.player2().uuid(), gameDto.gameUuid());
+    }
+
+    private static boolean isFinished(GameDto gameDto) {
+        return gameDto.player1().score() >= Player.MAX_SCORE || gameDto.player2().score() >= Player.MAX_SCORE;
+    }
+
+    private static final class ActiveGame {
+        private GameDto game;
+        private boolean persisted;
+        private boolean removed;
+        private volatile boolean evicted;
+        private volatile long lastAccess = System.nanoTime();
+
+        private ActiveGame(GameDto game, boolean persisted) {
+            this.game = game;
+            this.persisted = persisted;
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
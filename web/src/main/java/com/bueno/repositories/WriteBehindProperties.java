@@ -0,0 +1,80 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.repositories;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "application.games.write-behind")
+public class WriteBehindProperties {
+
+    private boolean enabled = true;
+    private Duration flushInterval = Duration.ofSeconds(5);
+    private int maxPendingGames = 1000;
+    private boolean flushFinishedGames = true;
+    private Duration maxIdle = WriteBehindGameRepository.DEFAULT_MAX_IDLE;
+
+    public WriteBehindProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxPendingGames() {
+        return maxPendingGames;
+    }
+
+    public void setMaxPendingGames(int maxPendingGames) {
+        this.maxPendingGames = maxPendingGames;
+    }
+
+    public boolean isFlushFinishedGames() {
+        return flushFinishedGames;
+    }
+
+    public void setFlushFinishedGames(boolean flushFinishedGames) {
+        this.flushFinishedGames = flushFinishedGames;
+    }
+
+    public Duration getMaxIdle() {
+        return maxIdle;
+    }
+
+    public void setMaxIdle(Duration maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+}
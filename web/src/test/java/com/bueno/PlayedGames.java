@@ -0,0 +1,48 @@
+package com.bueno;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.persistence.dto.GameEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <p>Plays games without bots for the persistence tests: the current player plays its first card when it can and
+ * accepts any bet otherwise, so every game ends after a few dozen moves.</p>
+ */
+public final class PlayedGames {
+
+    private PlayedGames() {
+    }
+
+    public static List<GameEntity> playGame() {
+        final Game game = new Game(Player.of(UUID.randomUUID(), "User"), Player.of(UUID.randomUUID(), "Opponent"));
+        final List<GameEntity> versions = new ArrayList<>();
+        versions.add(GameEntity.from(GameConverter.toDto(game)));
+        while (!game.isDone()) {
+            playNextMove(game);
+            versions.add(GameEntity.from(GameConverter.toDto(game)));
+        }
+        return versions;
+    }
+
+    public static void playNextMove(Game game) {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        if (hand.getPossibleActions().contains(PossibleAction.PLAY)) {
+            final var card = player.play(player.getCards().get(0));
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, card);
+            else hand.playSecondCard(player, card);
+        } else {
+            hand.accept(player);
+        }
+        if (hand.getResult().isEmpty()) return;
+        game.updateScores();
+        if (!game.isDone()) game.prepareNewHand();
+    }
+}
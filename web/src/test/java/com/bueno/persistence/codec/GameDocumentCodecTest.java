@@ -0,0 +1,237 @@
+package com.bueno.persistence.codec;
+
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import com.mongodb.MongoClientSettings;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.OverridableUuidRepresentationCodec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static com.bueno.PlayedGames.playGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * <p>Writes and reads games through the converters as the Mongo repository would, without a database. Games written
+ * by the default mapping stand for the documents stored before the compact format. The size and timing comparison
+ * over many games is tagged as a benchmark and excluded from the default build.</p>
+ */
+class GameDocumentCodecTest {
+
+    private MappingMongoConverter legacyConverter;
+    private MappingMongoConverter converter;
+    private Codec<Document> codec;
+
+    @BeforeEach
+    void setUp() {
+        legacyConverter = converterOf(new MongoCustomConversions(List.of()));
+        converter = converterOf(new MongoCustomConversions(GameEntityConverters.all()));
+        codec = CodecRegistries.fromProviders(withStandardUuids(MongoClientSettings.getDefaultCodecRegistry()))
+                .get(Document.class);
+    }
+
+    @Test
+    @DisplayName("Should read the same game from the compact document as from the legacy document")
+    void shouldReadTheSameGameFromTheCompactDocumentAsFromTheLegacyDocument() {
+        SoftAssertions softly = new SoftAssertions();
+        for (GameEntity game : playGame()) {
+            final GameEntity expected = roundTrip(game, legacyConverter);
+            expected.setVersion(GameDocumentCodec.VERSION);
+            softly.assertThat(roundTrip(game, converter)).isEqualTo(expected);
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should read legacy documents with the default mapping")
+    void shouldReadLegacyDocumentsWithTheDefaultMapping() {
+        final GameEntity game = playGame().get(10);
+        final Document legacyDocument = bsonOf(write(game, legacyConverter));
+
+        final GameEntity read = converter.read(GameEntity.class, legacyDocument);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(read).isEqualTo(legacyConverter.read(GameEntity.class, legacyDocument));
+        softly.assertThat(read.getVersion()).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should write the version and keep the top-level fields used by queries")
+    void shouldWriteTheVersionAndKeepTheTopLevelFieldsUsedByQueries() {
+        final GameEntity game = playGame().get(1);
+        final Document document = write(game, converter);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(document.getInteger(GameDocumentCodec.VERSION_KEY)).isEqualTo(GameDocumentCodec.VERSION);
+        softly.assertThat(document.get("_id")).isEqualTo(game.getId());
+        softly.assertThat(document.get("player1")).isEqualTo(game.getPlayer1());
+        softly.assertThat(document.get("player2")).isEqualTo(game.getPlayer2());
+        softly.assertThat(document.get("currentPlayer")).isEqualTo(game.getCurrentPlayer());
+        softly.assertThat(document.getDate("lastActivity").toInstant())
+                .isEqualTo(game.getLastActivity().truncatedTo(ChronoUnit.MILLIS));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should encode every card in one byte and read it back")
+    void shouldEncodeEveryCardInOneByteAndReadItBack() {
+        final List<String> cards = new ArrayList<>();
+        for (char rank : "A234567QJKX".toCharArray()) for (char suit : "DCHSX".toCharArray()) cards.add("" + rank + suit);
+
+        assertThat(GameDocumentCodec.cards(GameDocumentCodec.cards(cards))).isEqualTo(cards);
+        assertThat(GameDocumentCodec.cards(cards).length()).isEqualTo(cards.size());
+        assertThat(GameDocumentCodec.card("XX")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not accept cards it can not encode")
+    void shouldNotAcceptCardsItCanNotEncode() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GameDocumentCodec.card("1D"));
+        assertThatIllegalArgumentException().isThrownBy(() -> GameDocumentCodec.card("AD4"));
+    }
+
+    @Test
+    @DisplayName("Should store possible actions as a bit field")
+    void shouldStorePossibleActionsAsABitField() {
+        final Set<String> actions = Set.of("PLAY", "RAISE", "QUIT");
+        final Integer bits = GameDocumentCodec.actions(actions);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(bits).isEqualTo(0b1011);
+        softly.assertThat(GameDocumentCodec.actions(bits)).isEqualTo(actions);
+        softly.assertThat(GameDocumentCodec.actions(0)).isEmpty();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should keep references to players that are not in the game")
+    void shouldKeepReferencesToPlayersThatAreNotInTheGame() {
+        final GameEntity game = playGame().get(1);
+        final UUID stranger = UUID.randomUUID();
+        game.getHands().get(0).setLastBetRaiser(stranger);
+        game.getHands().get(0).getHistory().get(0).setHandWinner("Stranger");
+        game.getHands().get(0).getHistory().get(0).setPlayers(
+                List.of(new PlayerEntity(stranger, "Stranger", 3, true, List.of("XX"))));
+
+        final GameEntity read = roundTrip(game, converter);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(read.getHands().get(0).getLastBetRaiser()).isEqualTo(stranger);
+        softly.assertThat(read.getHands().get(0).getHistory().get(0).getHandWinner()).isEqualTo("Stranger");
+        softly.assertThat(read.getHands().get(0).getHistory().get(0).getPlayers())
+                .containsExactly(new PlayerEntity(stranger, "Stranger", 3, true, List.of("XX")));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should store recorded games in smaller documents")
+    void shouldStoreRecordedGamesInSmallerDocuments() {
+        final List<GameEntity> corpus = playGame();
+        assertThat(measureOnce(corpus, converter).bytes()).isLessThan(measureOnce(corpus, legacyConverter).bytes() / 2);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should store recorded games in much smaller documents")
+    void shouldStoreRecordedGamesInMuchSmallerDocuments(TestReporter reporter) {
+        final List<GameEntity> corpus = new ArrayList<>();
+        for (int game = 0; game < 10; game++) corpus.addAll(playGame());
+
+        final Stats legacy = measure(corpus, legacyConverter);
+        final Stats compact = measure(corpus, converter);
+        reporter.publishEntry(Map.of(
+                "documents", String.valueOf(corpus.size()),
+                "legacy", legacy.toString(),
+                "compact", compact.toString()));
+
+        assertThat(compact.bytes()).isLessThan(legacy.bytes() / 2);
+    }
+
+    private Stats measure(List<GameEntity> corpus, MappingMongoConverter converter) {
+        measureOnce(corpus, converter);
+        return measureOnce(corpus, converter);
+    }
+
+    private Stats measureOnce(List<GameEntity> corpus, MappingMongoConverter converter) {
+        long bytes = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (GameEntity game : corpus) {
+            long start = System.nanoTime();
+            final RawBsonDocument raw = new RawBsonDocument(write(game, converter), codec);
+            encodeNanos += System.nanoTime() - start;
+            bytes += raw.getByteBuffer().remaining();
+
+            start = System.nanoTime();
+            converter.read(GameEntity.class, raw.decode(codec));
+            decodeNanos += System.nanoTime() - start;
+        }
+        final Function<Long, Long> average = total -> total / corpus.size();
+        return new Stats(average.apply(bytes), average.apply(encodeNanos) / 1000, average.apply(decodeNanos) / 1000);
+    }
+
+    private GameEntity roundTrip(GameEntity game, MappingMongoConverter converter) {
+        return converter.read(GameEntity.class, bsonOf(write(game, converter)));
+    }
+
+    private static Document write(GameEntity game, MappingMongoConverter converter) {
+        final Document document = new Document();
+        converter.write(game, document);
+        return document;
+    }
+
+    private Document bsonOf(Document document) {
+        return codec.decode(new RawBsonDocument(document, codec).asBsonReader(), DecoderContext.builder().build());
+    }
+
+    private static CodecProvider withStandardUuids(CodecRegistry registry) {
+        return new CodecProvider() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> Codec<T> get(Class<T> clazz, CodecRegistry outerRegistry) {
+                final Codec<T> codec = registry.get(clazz, outerRegistry);
+                if (codec instanceof OverridableUuidRepresentationCodec<?> overridable)
+                    return (Codec<T>) overridable.withUuidRepresentation(UuidRepresentation.STANDARD);
+                return codec;
+            }
+        };
+    }
+
+    private static MappingMongoConverter converterOf(MongoCustomConversions conversions) {
+        final MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        final MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private record Stats(long bytes, long encodeMicros, long decodeMicros) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.codec.GameDocumentCodec;
+import com.bueno.persistence.dto.GameEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GameUpdateDaoImplTest {
+
+    @Mock private MongoOperations mongoOperations;
+
+    private GameUpdateDaoImpl sut;
+    private GameEntity storedGame;
+    private GameEntity game;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GameUpdateDaoImpl(mongoOperations);
+        final UUID gameUuid = UUID.randomUUID();
+        storedGame = GameEntity.builder().id(gameUuid).lastActivity(Instant.now()).build();
+        game = GameEntity.builder().id(gameUuid).lastActivity(Instant.now().plusSeconds(1)).build();
+    }
+
+    @Test
+    @DisplayName("Should update only the changes of games stored in the current format")
+    void shouldUpdateOnlyTheChangesOfGamesStoredInTheCurrentFormat() {
+        storedGame.setVersion(GameDocumentCodec.VERSION);
+        sut.updateChanges(storedGame, game);
+
+        verify(mongoOperations).updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class));
+        verify(mongoOperations, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should save the whole game if it is stored in a legacy format")
+    void shouldSaveTheWholeGameIfItIsStoredInALegacyFormat() {
+        sut.updateChanges(storedGame, game);
+
+        verify(mongoOperations).save(game);
+        verify(mongoOperations, never()).updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class));
+    }
+}
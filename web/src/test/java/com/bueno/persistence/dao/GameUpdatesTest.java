@@ -0,0 +1,208 @@
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.codec.GameEntityConverters;
+import com.bueno.persistence.dto.GameEntity;
+import com.mongodb.MongoClientSettings;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.UuidCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.bueno.PlayedGames.playGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * <p>Converts the game entities and updates as the Mongo repository would, without a database, to check that the
+ * update turns the stored document into the current one and to compare the bytes written per move. The comparison
+ * over many games is tagged as a benchmark and excluded from the default build.</p>
+ */
+class GameUpdatesTest {
+
+    private MongoMappingContext mappingContext;
+    private MappingMongoConverter converter;
+    private UpdateMapper updateMapper;
+    private Codec<Document> codec;
+
+    @BeforeEach
+    void setUp() {
+        final MongoCustomConversions conversions = new MongoCustomConversions(GameEntityConverters.all());
+        mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        updateMapper = new UpdateMapper(converter);
+        codec = CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(new UuidCodec(UuidRepresentation.STANDARD)),
+                MongoClientSettings.getDefaultCodecRegistry()).get(Document.class);
+    }
+
+    @Test
+    @DisplayName("Should turn the stored game into the current one at every move")
+    void shouldTurnTheStoredGameIntoTheCurrentOneAtEveryMove() {
+        final List<GameEntity> versions = playGame();
+        for (int i = 1; i < versions.size(); i++) {
+            final Document stored = documentOf(versions.get(i - 1));
+            final Document update = mappedUpdateOf(versions.get(i - 1), versions.get(i));
+            apply(update, stored);
+            assertThat(stored).as("Version %d", i).isEqualTo(documentOf(versions.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should push the new intel instead of rewriting the hands")
+    void shouldPushTheNewIntelInsteadOfRewritingTheHands() {
+        final List<GameEntity> versions = playGame();
+        final Document update = mappedUpdateOf(versions.get(0), versions.get(1));
+
+        assertThat(update.get("$push", Document.class)).containsOnlyKeys("hands.0.h");
+        assertThat(update.get("$set", new Document()).keySet())
+                .allMatch(key -> key.startsWith("hands.0.") || List.of("lastActivity", "currentPlayer", "players").contains(key));
+    }
+
+    @Test
+    @DisplayName("Should set a new hand at the next index when it starts")
+    void shouldSetANewHandAtTheNextIndexWhenItStarts() {
+        final List<GameEntity> versions = playGame();
+        final int firstHandEnd = indexOfFirstVersionWithHands(versions, 2);
+        final Document update = mappedUpdateOf(versions.get(firstHandEnd - 1), versions.get(firstHandEnd));
+
+        assertThat(update.get("$set", Document.class)).containsKey("hands.1").doesNotContainKey("hands");
+    }
+
+    @Test
+    @DisplayName("Should return no update if the game has not changed")
+    void shouldReturnNoUpdateIfTheGameHasNotChanged() {
+        final GameEntity game = playGame().get(3);
+        assertThat(GameUpdates.between(game, game)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not accept updating a game to another game")
+    void shouldNotAcceptUpdatingAGameToAnotherGame() {
+        final GameEntity game = playGame().get(0);
+        final GameEntity otherGame = playGame().get(0);
+        assertThatIllegalArgumentException().isThrownBy(() -> GameUpdates.between(game, otherGame));
+    }
+
+    @Test
+    @DisplayName("Should write fewer bytes per move than replacing the game document")
+    void shouldWriteFewerBytesPerMoveThanReplacingTheGameDocument() {
+        final ByteCount count = countBytes(1);
+        assertThat(count.updateBytes()).isLessThan(count.documentBytes() / 10);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should write much fewer bytes per move than replacing the game document")
+    void shouldWriteMuchFewerBytesPerMoveThanReplacingTheGameDocument(TestReporter reporter) {
+        final ByteCount count = countBytes(10);
+        reporter.publishEntry(Map.of(
+                "moves", String.valueOf(count.moves()),
+                "replacingBytesPerMove", String.valueOf(count.documentBytes() / count.moves()),
+                "updatingBytesPerMove", String.valueOf(count.updateBytes() / count.moves())));
+
+        assertThat(count.updateBytes()).isLessThan(count.documentBytes() / 10);
+    }
+
+    private ByteCount countBytes(int games) {
+        long documentBytes = 0;
+        long updateBytes = 0;
+        int moves = 0;
+        for (int game = 0; game < games; game++) {
+            final List<GameEntity> versions = playGame();
+            for (int i = 1; i < versions.size(); i++) {
+                documentBytes += sizeOf(documentOf(versions.get(i)));
+                updateBytes += sizeOf(mappedUpdateOf(versions.get(i - 1), versions.get(i)));
+                moves++;
+            }
+        }
+        return new ByteCount(moves, documentBytes, updateBytes);
+    }
+
+    private static int indexOfFirstVersionWithHands(List<GameEntity> versions, int hands) {
+        for (int i = 0; i < versions.size(); i++) if (versions.get(i).getHands().size() == hands) return i;
+        throw new IllegalStateException("No version with " + hands + " hands.");
+    }
+
+    private Document documentOf(GameEntity game) {
+        final Document document = new Document();
+        converter.write(game, document);
+        return withoutTypeHints(document);
+    }
+
+    private Document mappedUpdateOf(GameEntity storedGame, GameEntity game) {
+        final Update update = GameUpdates.between(storedGame, game).orElseThrow();
+        return withoutTypeHints(updateMapper.getMappedObject(update.getUpdateObject(),
+                mappingContext.getPersistentEntity(GameEntity.class)));
+    }
+
+    private int sizeOf(Document document) {
+        return new RawBsonDocument(document, codec).getByteBuffer().remaining();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Document withoutTypeHints(Document document) {
+        document.remove("_class");
+        for (Object value : document.values()) {
+            if (value instanceof Document nested) withoutTypeHints(nested);
+            if (value instanceof List<?> list) list.stream().filter(Document.class::isInstance)
+                    .forEach(nested -> withoutTypeHints((Document) nested));
+        }
+        return document;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void apply(Document update, Document document) {
+        for (Map.Entry<String, Object> set : update.get("$set", new Document()).entrySet()) {
+            final String[] path = set.getKey().split("\\.");
+            final Object parent = navigate(document, path);
+            final String last = path[path.length - 1];
+            if (parent instanceof Document parentDocument) parentDocument.put(last, set.getValue());
+            else {
+                final List<Object> list = (List<Object>) parent;
+                final int index = Integer.parseInt(last);
+                if (index == list.size()) list.add(set.getValue());
+                else list.set(index, set.getValue());
+            }
+        }
+        for (String unset : update.get("$unset", new Document()).keySet()) {
+            final String[] path = unset.split("\\.");
+            ((Document) navigate(document, path)).remove(path[path.length - 1]);
+        }
+        for (Map.Entry<String, Object> push : update.get("$push", new Document()).entrySet()) {
+            final String[] path = push.getKey().split("\\.");
+            final List<Object> list = (List<Object>) ((Document) navigate(document, path)).get(path[path.length - 1]);
+            list.addAll(((Document) push.getValue()).getList("$each", Object.class));
+        }
+    }
+
+    private static Object navigate(Document document, String[] path) {
+        Object current = document;
+        for (int i = 0; i < path.length - 1; i++) {
+            current = current instanceof Document parent ? parent.get(path[i])
+                    : ((List<?>) current).get(Integer.parseInt(path[i]));
+        }
+        return current;
+    }
+
+    private record ByteCount(int moves, long documentBytes, long updateBytes) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dao.PlayerDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameRepositoryImplTest {
+
+    @Mock private GameDao gameDao;
+    @Mock private PlayerDao playerDao;
+
+    @InjectMocks
+    private GameRepositoryImpl sut;
+
+    private GameDto game;
+    private GameEntity entity;
+    private UUID userUuid;
+
+    @BeforeEach
+    void setUp() {
+        userUuid = UUID.randomUUID();
+        game = GameConverter.toDto(new Game(Player.of(userUuid, "User"), Player.ofBot("DummyBot")));
+        entity = GameEntity.from(game);
+    }
+
+    @Test
+    @DisplayName("Should read a game and its players with a single query")
+    void shouldReadAGameAndItsPlayersWithASingleQuery() {
+        when(gameDao.findByPlayer1OrPlayer2(userUuid, userUuid)).thenReturn(Optional.of(entity));
+
+        final Optional<GameDto> result = sut.findByPlayerUuid(userUuid);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result).contains(game);
+        softly.assertThat(mockingDetails(gameDao).getInvocations()).hasSize(1);
+        softly.assertAll();
+        verifyNoInteractions(playerDao);
+    }
+
+    @Test
+    @DisplayName("Should read the cached game of a player by id")
+    void shouldReadTheCachedGameOfAPlayerById() {
+        when(gameDao.findByPlayer1OrPlayer2(userUuid, userUuid)).thenReturn(Optional.of(entity));
+        when(gameDao.findById(game.gameUuid())).thenReturn(Optional.of(entity));
+
+        sut.findByPlayerUuid(userUuid);
+        final Optional<GameDto> result = sut.findByPlayerUuid(userUuid);
+
+        assertThat(result).contains(game);
+        verify(gameDao).findByPlayer1OrPlayer2(any(), any());
+        verify(gameDao).findById(game.gameUuid());
+    }
+
+    @Test
+    @DisplayName("Should cache the game of both players when it is saved")
+    void shouldCacheTheGameOfBothPlayersWhenItIsSaved() {
+        when(gameDao.findById(game.gameUuid())).thenReturn(Optional.empty(), Optional.of(entity));
+
+        sut.save(game);
+        final Optional<GameDto> result = sut.findByPlayerUuid(userUuid);
+
+        assertThat(result).contains(game);
+        verify(gameDao, never()).findByPlayer1OrPlayer2(any(), any());
+        verifyNoInteractions(playerDao);
+    }
+
+    @Test
+    @DisplayName("Should look for the game again if the cached one is gone")
+    void shouldLookForTheGameAgainIfTheCachedOneIsGone() {
+        final GameEntity newGame = GameEntity.from(
+                GameConverter.toDto(new Game(Player.of(userUuid, "User"), Player.ofBot("DummyBot"))));
+        when(gameDao.findByPlayer1OrPlayer2(userUuid, userUuid)).thenReturn(Optional.of(entity), Optional.of(newGame));
+        when(gameDao.findById(game.gameUuid())).thenReturn(Optional.empty());
+
+        sut.findByPlayerUuid(userUuid);
+        final Optional<GameDto> result = sut.findByPlayerUuid(userUuid);
+
+        assertThat(result.map(GameDto::gameUuid)).contains(newGame.getId());
+        verify(gameDao, times(2)).findByPlayer1OrPlayer2(userUuid, userUuid);
+    }
+
+    @Test
+    @DisplayName("Should forget the cached game of the players when it is deleted")
+    void shouldForgetTheCachedGameOfThePlayersWhenItIsDeleted() {
+        when(gameDao.findById(game.gameUuid())).thenReturn(Optional.empty(), Optional.of(entity));
+        when(gameDao.findByPlayer1OrPlayer2(userUuid, userUuid)).thenReturn(Optional.empty());
+        sut.save(game);
+
+        sut.delete(game.gameUuid());
+
+        assertThat(sut.findByPlayerUuid(userUuid)).isEmpty();
+        verify(gameDao).delete(entity);
+    }
+
+    @Test
+    @DisplayName("Should read the players of games stored before they were embedded")
+    void shouldReadThePlayersOfGamesStoredBeforeTheyWereEmbedded() {
+        entity.setPlayers(null);
+        when(gameDao.findByPlayer1OrPlayer2(userUuid, userUuid)).thenReturn(Optional.of(entity));
+        when(playerDao.findById(game.player1().uuid())).thenReturn(Optional.of(PlayerEntity.from(game.player1())));
+        when(playerDao.findById(game.player2().uuid())).thenReturn(Optional.of(PlayerEntity.from(game.player2())));
+
+        assertThat(sut.findByPlayerUuid(userUuid)).contains(game);
+    }
+
+    @Test
+    @DisplayName("Should write a move with one read and one update of the game document")
+    void shouldWriteAMoveWithOneReadAndOneUpdateOfTheGameDocument() {
+        when(gameDao.findById(game.gameUuid())).thenReturn(Optional.of(entity));
+
+        sut.update(game);
+
+        verify(gameDao).updateChanges(any(), any());
+        assertThat(mockingDetails(gameDao).getInvocations()).hasSize(2);
+        verifyNoInteractions(playerDao);
+    }
+
+    @Test
+    @DisplayName("Should backfill the activity of games stored before it was kept")
+    void shouldBackfillTheActivityOfGamesStoredBeforeItWasKept() {
+        final Instant lastActivity = entity.getLastActivity();
+        final UUID currentPlayer = entity.getCurrentPlayer();
+        entity.setLastActivity(null);
+        entity.setCurrentPlayer(null);
+        when(gameDao.findByLastActivityIsNull(any())).thenReturn(List.of(entity));
+
+        final int updatedGames = sut.backfillActivity(Instant.now(), 10);
+
+        assertThat(updatedGames).isEqualTo(1);
+        verify(gameDao).updateActivity(game.gameUuid(), lastActivity, currentPlayer);
+    }
+
+    @Test
+    @DisplayName("Should count stored games without any move as active since the backfill")
+    void shouldCountStoredGamesWithoutAnyMoveAsActiveSinceTheBackfill() {
+        final Instant now = Instant.now();
+        entity.setLastActivity(null);
+        entity.setHands(List.of());
+        when(gameDao.findByLastActivityIsNull(any())).thenReturn(List.of(entity));
+
+        sut.backfillActivity(now, 10);
+
+        verify(gameDao).updateActivity(game.gameUuid(), now, null);
+    }
+
+    @Test
+    @DisplayName("Should backfill the activity of stored games page by page")
+    void shouldBackfillTheActivityOfStoredGamesPageByPage() {
+        final GameEntity otherEntity = GameEntity.from(GameConverter.toDto(
+                new Game(Player.of(UUID.randomUUID(), "Other"), Player.ofBot("DummyBot"))));
+        when(gameDao.findByLastActivityIsNull(any()))
+                .thenReturn(List.of(entity))
+                .thenReturn(List.of(otherEntity))
+                .thenReturn(List.of());
+
+        final int updatedGames = sut.backfillActivity(Instant.now(), 1);
+
+        assertThat(updatedGames).isEqualTo(2);
+        verify(gameDao, times(3)).findByLastActivityIsNull(any());
+        verify(gameDao, times(2)).updateActivity(any(), any(), any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.bueno.repositories;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoCommandCounterTest {
+
+    private MongoCommandCounter sut;
+    private CommandStartedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        sut = new MongoCommandCounter();
+        final var connection = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+        event = new CommandStartedEvent(1, connection, "ctruco", "find", new BsonDocument());
+    }
+
+    @Test
+    @DisplayName("Should count the commands sent after being started")
+    void shouldCountTheCommandsSentAfterBeingStarted() {
+        sut.commandStarted(event);
+        sut.start();
+        sut.commandStarted(event);
+        sut.commandStarted(event);
+        assertThat(sut.stop()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not count commands after being stopped")
+    void shouldNotCountCommandsAfterBeingStopped() {
+        sut.start();
+        sut.commandStarted(event);
+        sut.stop();
+        sut.commandStarted(event);
+        assertThat(sut.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not count the commands sent by other threads")
+    void shouldNotCountTheCommandsSentByOtherThreads() {
+        sut.start();
+        CompletableFuture.runAsync(() -> {
+            sut.start();
+            sut.commandStarted(event);
+        }).join();
+        sut.commandStarted(event);
+        assertThat(sut.stop()).isOne();
+    }
+}
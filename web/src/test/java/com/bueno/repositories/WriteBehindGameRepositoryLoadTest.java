@@ -0,0 +1,174 @@
+package com.bueno.repositories;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dao.PlayerDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import com.bueno.persistence.repositories.GameRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.mockito.invocation.Invocation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.bueno.PlayedGames.playNextMove;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * <p>Plays the same games move by move through the Mongo repository alone and through the write-behind store in
+ * front of it, over DAOs backed by maps, and compares how many Mongo operations each move costs. The games are
+ * played round-robin and the store is flushed after every {@link #MOVES_PER_FLUSH} rounds, as the scheduled flush
+ * would do while players think about their next move. The measurement over many games is tagged as a benchmark and
+ * excluded from the default build.</p>
+ */
+class WriteBehindGameRepositoryLoadTest {
+
+    private static final int GAMES = 2;
+    private static final int BENCHMARK_GAMES = 20;
+    private static final int MOVES_PER_FLUSH = 4;
+    private static final Set<String> WRITES = Set.of("save", "updateChanges", "delete", "deleteById");
+
+    private GameDao gameDao;
+    private PlayerDao playerDao;
+
+    @BeforeEach
+    void setUp() {
+        final Map<UUID, GameEntity> games = new HashMap<>();
+        final Map<UUID, PlayerEntity> players = new HashMap<>();
+        gameDao = mock(GameDao.class);
+        playerDao = mock(PlayerDao.class);
+
+        when(gameDao.findById(any())).thenAnswer(call -> Optional.ofNullable(games.get(call.<UUID>getArgument(0))));
+        when(gameDao.save(any())).thenAnswer(call -> {
+            final GameEntity game = call.getArgument(0);
+            games.put(game.getId(), game);
+            return game;
+        });
+        when(gameDao.findByPlayer1OrPlayer2(any(), any())).thenAnswer(call -> games.values().stream()
+                .filter(game -> game.getPlayer1().equals(call.getArgument(0)) || game.getPlayer2().equals(call.getArgument(1)))
+                .findAny());
+        doAnswer(call -> games.put(call.<GameEntity>getArgument(1).getId(), call.getArgument(1)))
+                .when(gameDao).updateChanges(any(), any());
+        doAnswer(call -> games.remove(call.<GameEntity>getArgument(0).getId())).when(gameDao).delete(any());
+        when(playerDao.findById(any())).thenAnswer(call -> Optional.ofNullable(players.get(call.<UUID>getArgument(0))));
+        when(playerDao.save(any())).thenAnswer(call -> {
+            final PlayerEntity player = call.getArgument(0);
+            players.put(player.getId(), player);
+            return player;
+        });
+        doAnswer(call -> players.remove(call.<UUID>getArgument(0))).when(playerDao).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should write and read less from Mongo than the Mongo repository alone")
+    void shouldWriteAndReadLessFromMongoThanTheMongoRepositoryAlone() {
+        final Comparison comparison = compare(GAMES);
+
+        assertThat(comparison.writeBehind().writes()).isLessThan(comparison.writeThrough().writes());
+        assertThat(comparison.writeBehind().reads()).isLessThan(comparison.writeThrough().reads());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should write much less to Mongo per move than the Mongo repository alone")
+    void shouldWriteMuchLessToMongoPerMoveThanTheMongoRepositoryAlone(TestReporter reporter) {
+        final Comparison comparison = compare(BENCHMARK_GAMES);
+        final OperationCount writeThrough = comparison.writeThrough();
+        final OperationCount writeBehind = comparison.writeBehind();
+        reporter.publishEntry(Map.of(
+                "writeThroughWritesPerMove", String.format("%.2f", writeThrough.writesPerMove()),
+                "writeThroughReadsPerMove", String.format("%.2f", writeThrough.readsPerMove()),
+                "writeBehindWritesPerMove", String.format("%.2f", writeBehind.writesPerMove()),
+                "writeBehindReadsPerMove", String.format("%.2f", writeBehind.readsPerMove())));
+
+        assertThat(writeBehind.writesPerMove()).isLessThan(writeThrough.writesPerMove() / 2);
+        assertThat(writeBehind.readsPerMove()).isLessThan(writeThrough.readsPerMove() / 4);
+    }
+
+    private Comparison compare(int numberOfGames) {
+        final List<Game> games = Stream.generate(WriteBehindGameRepositoryLoadTest::newGame)
+                .limit(numberOfGames)
+                .toList();
+
+        final GameRepository mongo = new GameRepositoryImpl(gameDao, playerDao);
+        final OperationCount writeThrough = play(games, mongo, () -> {});
+        assertThat(mongo.findByPlayerUuid(games.get(0).getPlayer1().getUuid())).isEmpty();
+
+        clearInvocations(gameDao);
+        clearInvocations(playerDao);
+        try (var repository = new WriteBehindGameRepository(mongo, Duration.ofHours(1), numberOfGames, true)) {
+            return new Comparison(writeThrough, play(games, repository, repository::flush));
+        }
+    }
+
+    private OperationCount play(List<Game> games, GameRepository repository, Runnable scheduledFlush) {
+        final List<UUID> players = new ArrayList<>();
+        for (Game game : games) {
+            final Game copy = GameConverter.fromDto(GameConverter.toDto(game));
+            repository.save(GameConverter.toDto(copy));
+            players.add(copy.getPlayer1().getUuid());
+        }
+        clearInvocations(gameDao);
+        clearInvocations(playerDao);
+
+        int moves = 0;
+        List<UUID> playing = players;
+        for (int round = 1; !playing.isEmpty(); round++) {
+            final List<UUID> stillPlaying = new ArrayList<>();
+            for (UUID playerUuid : playing) {
+                final Game game = repository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+                playNextMove(game);
+                repository.update(GameConverter.toDto(game));
+                moves++;
+                if (game.isDone()) repository.delete(game.getUuid());
+                else stillPlaying.add(playerUuid);
+            }
+            playing = stillPlaying;
+            if (round % MOVES_PER_FLUSH == 0) scheduledFlush.run();
+        }
+        scheduledFlush.run();
+        return new OperationCount(moves, count(true), count(false));
+    }
+
+    private int count(boolean writes) {
+        return (int) Stream.concat(mockingDetails(gameDao).getInvocations().stream(),
+                        mockingDetails(playerDao).getInvocations().stream())
+                .map(Invocation::getMethod)
+                .filter(method -> WRITES.contains(method.getName()) == writes)
+                .count();
+    }
+
+    private static Game newGame() {
+        return new Game(Player.of(UUID.randomUUID(), "User"), Player.of(UUID.randomUUID(), "Opponent"));
+    }
+
+    private record Comparison(OperationCount writeThrough, OperationCount writeBehind) {
+    }
+
+    private record OperationCount(int moves, int writes, int reads) {
+        double writesPerMove() {
+            return (double) writes / moves;
+        }
+
+        double readsPerMove() {
+            return (double) reads / moves;
+        }
+    }
+}
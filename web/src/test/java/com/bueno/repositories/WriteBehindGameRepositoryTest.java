@@ -0,0 +1,291 @@
+package com.bueno.repositories;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.utils.exceptions.EntityAlreadyExistsException;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindGameRepositoryTest {
+
+    @Mock private GameRepository delegate;
+
+    private WriteBehindGameRepository sut;
+    private GameDto game;
+
+    @BeforeEach
+    void setUp() {
+        sut = new WriteBehindGameRepository(delegate, Duration.ofHours(1), 100, true);
+        game = GameConverter.toDto(new Game(Player.of(UUID.randomUUID(), "User"), Player.ofBot("DummyBot")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    @DisplayName("Should serve saved games from memory before they are flushed")
+    void shouldServeSavedGamesFromMemoryBeforeTheyAreFlushed() {
+        sut.save(game);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.findByPlayerUuid(game.player1().uuid())).contains(game);
+        softly.assertThat(sut.findByPlayerUuid(game.player2().uuid())).contains(game);
+        softly.assertThat(sut.pendingGames()).isOne();
+        softly.assertAll();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should insert a new game once and update it on later flushes")
+    void shouldInsertANewGameOnceAndUpdateItOnLaterFlushes() {
+        sut.save(game);
+        sut.update(game);
+        sut.flush();
+        sut.update(game);
+        sut.update(game);
+        sut.flush();
+        sut.flush();
+
+        verify(delegate).save(game);
+        verify(delegate).update(game);
+        assertThat(sut.pendingGames()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not accept saving a game that is already active")
+    void shouldNotAcceptSavingAGameThatIsAlreadyActive() {
+        sut.save(game);
+        assertThatExceptionOfType(EntityAlreadyExistsException.class).isThrownBy(() -> sut.save(game));
+    }
+
+    @Test
+    @DisplayName("Should flush finished games right away")
+    void shouldFlushFinishedGamesRightAway() {
+        sut.save(game);
+        sut.flush();
+        final GameDto finished = withPlayer1Score(game, Player.MAX_SCORE);
+
+        sut.update(finished);
+
+        verify(delegate).update(finished);
+        assertThat(sut.pendingGames()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should remove finished games from memory once they are flushed")
+    void shouldRemoveFinishedGamesFromMemoryOnceTheyAreFlushed() {
+        final GameDto finished = withPlayer1Score(game, Player.MAX_SCORE);
+        when(delegate.findByPlayerUuid(game.player1().uuid())).thenReturn(Optional.of(finished));
+        sut.save(game);
+        sut.flush();
+
+        sut.update(finished);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.cachedGames()).isZero();
+        softly.assertThat(sut.findByPlayerUuid(game.player1().uuid())).contains(finished);
+        softly.assertAll();
+        verify(delegate).update(finished);
+        verify(delegate).findByPlayerUuid(game.player1().uuid());
+    }
+
+    @Test
+    @DisplayName("Should remove flushed games from memory once they are idle")
+    void shouldRemoveFlushedGamesFromMemoryOnceTheyAreIdle() {
+        try (var repository = new WriteBehindGameRepository(delegate, Duration.ofHours(1), 100, true,
+                Duration.ofNanos(1))) {
+            repository.save(game);
+            repository.evictIdleGames();
+            final int cachedBeforeFlush = repository.cachedGames();
+            repository.flush();
+            repository.evictIdleGames();
+
+            assertThat(cachedBeforeFlush).isOne();
+            assertThat(repository.cachedGames()).isZero();
+            verify(delegate).save(game);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep finished games pending if they are not flushed right away")
+    void shouldKeepFinishedGamesPendingIfTheyAreNotFlushedRightAway() {
+        try (var repository = new WriteBehindGameRepository(delegate, Duration.ofHours(1), 100, false)) {
+            repository.save(withPlayer1Score(game, Player.MAX_SCORE));
+            assertThat(repository.pendingGames()).isOne();
+            verifyNoInteractions(delegate);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep games dirty if the delegate fails to write them")
+    void shouldKeepGamesDirtyIfTheDelegateFailsToWriteThem() {
+        doThrow(new IllegalStateException("Mongo is down")).doNothing().when(delegate).save(game);
+        sut.save(game);
+
+        sut.flush();
+        final int pendingAfterFailure = sut.pendingGames();
+        sut.flush();
+
+        assertThat(pendingAfterFailure).isOne();
+        assertThat(sut.pendingGames()).isZero();
+        verify(delegate, times(2)).save(game);
+    }
+
+    @Test
+    @DisplayName("Should retry as update if the game already exists in the delegate")
+    void shouldRetryAsUpdateIfTheGameAlreadyExistsInTheDelegate() {
+        doThrow(new EntityNotFoundException("Game already exists")).when(delegate).save(game);
+        sut.save(game);
+
+        sut.flush();
+        sut.flush();
+
+        verify(delegate).update(game);
+        assertThat(sut.pendingGames()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should retry as update if the delegate reports a conflict on insert")
+    void shouldRetryAsUpdateIfTheDelegateReportsAConflictOnInsert() {
+        doThrow(new EntityAlreadyExistsException("Game already exists")).when(delegate).save(game);
+        sut.save(game);
+
+        sut.flush();
+        sut.flush();
+
+        verify(delegate).update(game);
+        assertThat(sut.pendingGames()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load missing games from the delegate and keep them in memory")
+    void shouldLoadMissingGamesFromTheDelegateAndKeepThemInMemory() {
+        final UUID playerUuid = game.player1().uuid();
+        when(delegate.findByPlayerUuid(playerUuid)).thenReturn(Optional.of(game));
+
+        sut.findByPlayerUuid(playerUuid);
+        final Optional<GameDto> cached = sut.findByPlayerUuid(playerUuid);
+        sut.update(game);
+        sut.flush();
+
+        assertThat(cached).contains(game);
+        verify(delegate).findByPlayerUuid(playerUuid);
+        verify(delegate).update(game);
+        verify(delegate, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should update games missing in memory through the delegate")
+    void shouldUpdateGamesMissingInMemoryThroughTheDelegate() {
+        sut.update(game);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.pendingGames()).isZero();
+        softly.assertThat(sut.findByPlayerUuid(game.player1().uuid())).contains(game);
+        softly.assertAll();
+        verify(delegate).update(game);
+    }
+
+    @Test
+    @DisplayName("Should not write games deleted before being flushed")
+    void shouldNotWriteGamesDeletedBeforeBeingFlushed() {
+        when(delegate.findByPlayerUuid(any())).thenReturn(Optional.empty());
+        sut.save(game);
+        sut.delete(game.gameUuid());
+        sut.flush();
+
+        assertThat(sut.findByPlayerUuid(game.player1().uuid())).isEmpty();
+        verify(delegate, never()).save(any());
+        verify(delegate, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should delete flushed games from the delegate")
+    void shouldDeleteFlushedGamesFromTheDelegate() {
+        sut.save(game);
+        sut.flush();
+        sut.delete(game.gameUuid());
+        verify(delegate).delete(game.gameUuid());
+    }
+
+    @Test
+    @DisplayName("Should flush pending games before looking for the first page of inactive games")
+    void shouldFlushPendingGamesBeforeLookingForTheFirstPageOfInactiveGames() {
+        final Instant inactiveSince = Instant.now();
+        final var inactiveGame = new InactiveGameDto(game.gameUuid(), game.player1().uuid());
+        when(delegate.findInactiveSince(inactiveSince, null, 10)).thenReturn(List.of(inactiveGame));
+        sut.save(game);
+
+        assertThat(sut.findInactiveSince(inactiveSince, null, 10)).containsExactly(inactiveGame);
+        var inOrder = inOrder(delegate);
+        inOrder.verify(delegate).save(game);
+        inOrder.verify(delegate).findInactiveSince(inactiveSince, null, 10);
+    }
+
+    @Test
+    @DisplayName("Should not flush pending games before looking for the next pages of inactive games")
+    void shouldNotFlushPendingGamesBeforeLookingForTheNextPagesOfInactiveGames() {
+        final Instant inactiveSince = Instant.now();
+        sut.save(game);
+
+        sut.findInactiveSince(inactiveSince, UUID.randomUUID(), 10);
+
+        verify(delegate, never()).save(any());
+        assertThat(sut.pendingGames()).isOne();
+    }
+
+    @Test
+    @DisplayName("Should flush pending games when closed")
+    void shouldFlushPendingGamesWhenClosed() {
+        sut.save(game);
+        sut.close();
+        verify(delegate).save(game);
+    }
+
+    @Test
+    @DisplayName("Should not accept invalid configuration")
+    void shouldNotAcceptInvalidConfiguration() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThatThrownBy(() -> new WriteBehindGameRepository(delegate, Duration.ZERO, 1, true))
+                .isInstanceOf(IllegalArgumentException.class);
+        softly.assertThatThrownBy(() -> new WriteBehindGameRepository(delegate, Duration.ofSeconds(1), 0, true))
+                .isInstanceOf(IllegalArgumentException.class);
+        softly.assertThatThrownBy(() -> new WriteBehindGameRepository(null, Duration.ofSeconds(1), 1, true))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> new WriteBehindGameRepository(delegate, Duration.ofSeconds(1), 1, true,
+                        Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        softly.assertAll();
+    }
+
+    private static GameDto withPlayer1Score(GameDto game, int score) {
+        final PlayerDto player1 = game.player1();
+        final PlayerDto scored = new PlayerDto(player1.username(), player1.uuid(), score, player1.isBot(), player1.cards());
+        return new GameDto(game.gameUuid(), game.timestamp(), scored, game.player2(), game.firstToPlay(),
+                game.lastToPlay(), game.hands());
+    }
+}